@@ -0,0 +1,132 @@
+package sehwan505.uosticketreservation.benchmark;
+
+import sehwan505.uosticketreservation.entity.CinemaEntity;
+import sehwan505.uosticketreservation.entity.MemberEntity;
+import sehwan505.uosticketreservation.entity.MovieEntity;
+import sehwan505.uosticketreservation.entity.PaymentEntity;
+import sehwan505.uosticketreservation.entity.ReservationEntity;
+import sehwan505.uosticketreservation.entity.ScheduleEntity;
+import sehwan505.uosticketreservation.entity.ScreenEntity;
+import sehwan505.uosticketreservation.entity.SeatEntity;
+import sehwan505.uosticketreservation.entity.SeatGradeEntity;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 메모리 내 픽스처
+ * DB 없이 엔티티 그래프와 리포지토리 대역을 만든다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SCREEN_ID = "0001";
+    public static final String SCHEDULE_ID = "2505010000101";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static ScreenEntity screen() {
+        CinemaEntity cinema = CinemaEntity.builder().id("C001").name("시립대점").location("서울").build();
+        return ScreenEntity.builder().id(SCREEN_ID).name("1관").cinema(cinema).build();
+    }
+
+    // rows x columns 좌석 (앞 2행 일반, 뒤 2행 프리미엄, 나머지 스탠다드), 입력 순서는 섞여 있음
+    public static List<SeatEntity> seats(ScreenEntity screen, int rows, int columns) {
+        SeatGradeEntity economy = SeatGradeEntity.builder().id("E").name("이코노미").price(10000).build();
+        SeatGradeEntity standard = SeatGradeEntity.builder().id("S").name("스탠다드").price(12000).build();
+        SeatGradeEntity premium = SeatGradeEntity.builder().id("P").name("프리미엄").price(15000).build();
+
+        List<SeatEntity> seats = new ArrayList<>(rows * columns);
+        int id = 1;
+        for (int r = 0; r < rows; r++) {
+            SeatGradeEntity grade = r < 2 ? economy : r >= rows - 2 ? premium : standard;
+            for (int c = 1; c <= columns; c++) {
+                seats.add(SeatEntity.builder()
+                        .id(id++)
+                        .row(String.valueOf((char) ('A' + r)))
+                        .column(String.format("%02d", c))
+                        .seatGrade(grade)
+                        .screen(screen)
+                        .build());
+            }
+        }
+        Collections.shuffle(seats, new Random(42));
+        return seats;
+    }
+
+    // 좌석의 일부가 예매된 상태의 좌석 ID 목록
+    public static List<Integer> reservedSeatIds(int seatCount, double occupancy) {
+        Random random = new Random(7);
+        List<Integer> reserved = new ArrayList<>();
+        for (int seatId = 1; seatId <= seatCount; seatId++) {
+            if (random.nextDouble() < occupancy) {
+                reserved.add(seatId);
+            }
+        }
+        return reserved;
+    }
+
+    public static ReservationEntity reservation(SeatEntity seat) {
+        MovieEntity movie = MovieEntity.builder().id(1L).title("벤치마크 영화").build();
+        ScheduleEntity schedule = ScheduleEntity.builder()
+                .id(SCHEDULE_ID)
+                .movie(movie)
+                .screen(seat.getScreen())
+                .screeningDate("20250501")
+                .screeningStartTime(LocalDateTime.of(2025, 5, 1, 10, 0))
+                .build();
+        MemberEntity member = MemberEntity.builder().userId("benchuser").grade("U").build();
+        PaymentEntity payment = PaymentEntity.builder().id("P0001").status("Y").build();
+
+        return ReservationEntity.builder()
+                .id(SCHEDULE_ID + seat.getId() + "01")
+                .schedule(schedule)
+                .seat(seat)
+                .seatGrade(seat.getSeatGrade())
+                .status("Y")
+                .reservationTime(LocalDateTime.of(2025, 4, 30, 12, 0))
+                .basePrice(seat.getSeatGrade().getPrice())
+                .discountAmount(0)
+                .finalPrice(seat.getSeatGrade().getPrice())
+                .ticketIssuanceStatus("N")
+                .member(member)
+                .payment(payment)
+                .build();
+    }
+
+    /**
+     * 메서드 이름별 응답을 지정한 리포지토리 대역
+     * 지정하지 않은 메서드를 호출하면 UnsupportedOperationException
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return method.getName().equals("toString") ? type.getSimpleName() + "Stub" : method.invoke(answers, args);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    // @Value 필드 주입 대신 직접 설정
+    public static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(name + " 필드를 설정할 수 없습니다.", e);
+        }
+    }
+}
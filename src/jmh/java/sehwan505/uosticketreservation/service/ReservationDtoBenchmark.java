@@ -0,0 +1,45 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.benchmark.BenchmarkFixtures;
+import sehwan505.uosticketreservation.dto.ReservationDto;
+import sehwan505.uosticketreservation.entity.ReservationEntity;
+import sehwan505.uosticketreservation.entity.SeatEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예매 엔티티 -> DTO 변환 벤치마크 (예매 내역 조회 1건 / 100건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationDtoBenchmark {
+
+    private ReservationEntity reservation;
+    private List<ReservationEntity> reservations;
+
+    @Setup
+    public void setUp() {
+        List<SeatEntity> seats = BenchmarkFixtures.seats(BenchmarkFixtures.screen(), 10, 10);
+        reservations = seats.stream().map(BenchmarkFixtures::reservation).toList();
+        reservation = reservations.get(0);
+    }
+
+    @Benchmark
+    public ReservationDto convertOne() {
+        return ReservationDtoMapper.toDto(reservation);
+    }
+
+    @Benchmark
+    public List<ReservationDto> convertHundred() {
+        return reservations.stream().map(ReservationDtoMapper::toDto).toList();
+    }
+}
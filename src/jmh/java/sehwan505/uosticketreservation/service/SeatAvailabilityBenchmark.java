@@ -0,0 +1,85 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.benchmark.BenchmarkFixtures;
+import sehwan505.uosticketreservation.entity.SeatEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 예매 가능 여부 판정 벤치마크
+ * 예매된 좌석 ID 목록으로 상영관 전체 좌석의 가용 여부를 표시하는 비용을
+ * List.contains, HashSet, ScreenLayout 점유 배열 방식으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatAvailabilityBenchmark {
+
+    private static final int ROWS = 20;
+    private static final int COLUMNS = 30;
+
+    @Param({"0.2", "0.8"})
+    public double occupancy;
+
+    private ScreenLayout layout;
+    private List<Integer> reservedSeatIds;
+
+    @Setup
+    public void setUp() {
+        List<SeatEntity> seats = BenchmarkFixtures.seats(BenchmarkFixtures.screen(), ROWS, COLUMNS);
+        layout = ScreenLayout.of(BenchmarkFixtures.SCREEN_ID, seats);
+        reservedSeatIds = BenchmarkFixtures.reservedSeatIds(ROWS * COLUMNS, occupancy);
+    }
+
+    @Benchmark
+    public int listContains() {
+        int available = 0;
+        for (int index = 0; index < layout.getCellCount(); index++) {
+            if (layout.hasSeat(index) && !reservedSeatIds.contains(layout.seatIdAt(index))) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    @Benchmark
+    public int hashSet() {
+        Set<Integer> reserved = new HashSet<>(reservedSeatIds);
+        int available = 0;
+        for (int index = 0; index < layout.getCellCount(); index++) {
+            if (layout.hasSeat(index) && !reserved.contains(layout.seatIdAt(index))) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    @Benchmark
+    public int layoutOccupancyArray() {
+        boolean[] occupied = new boolean[layout.getCellCount()];
+        for (Integer seatId : reservedSeatIds) {
+            int index = layout.indexOf(seatId);
+            if (index != ScreenLayout.NO_SEAT) {
+                occupied[index] = true;
+            }
+        }
+        int available = 0;
+        for (int index = 0; index < occupied.length; index++) {
+            if (layout.hasSeat(index) && !occupied[index]) {
+                available++;
+            }
+        }
+        return available;
+    }
+}
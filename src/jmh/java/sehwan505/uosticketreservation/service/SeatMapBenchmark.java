@@ -0,0 +1,80 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.benchmark.BenchmarkFixtures;
+import sehwan505.uosticketreservation.dto.SeatDto;
+import sehwan505.uosticketreservation.entity.ScreenEntity;
+import sehwan505.uosticketreservation.entity.SeatEntity;
+import sehwan505.uosticketreservation.repository.ScreenRepository;
+import sehwan505.uosticketreservation.repository.SeatRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 배치도 조회 벤치마크
+ * 캐시된 ScreenLayout 조회, 배치 모델 생성, 이전 방식(행별 그룹화 + 문자열 정렬)을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatMapBenchmark {
+
+    @Param({"10x15", "20x30"})
+    public String size;
+
+    private List<SeatEntity> seats;
+    private List<SeatDto> seatDtos;
+    private SeatService seatService;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        ScreenEntity screen = BenchmarkFixtures.screen();
+        seats = BenchmarkFixtures.seats(screen, Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]));
+        seatDtos = ScreenLayout.of(BenchmarkFixtures.SCREEN_ID, seats).getSeats();
+
+        SeatRepository seatRepository = BenchmarkFixtures.repository(SeatRepository.class,
+                Map.of("findByScreenIdWithSeatGrade", args -> seats));
+        ScreenRepository screenRepository = BenchmarkFixtures.repository(ScreenRepository.class,
+                Map.of("existsById", args -> true));
+
+        ScreenLayoutService screenLayoutService = new ScreenLayoutService(seatRepository, screenRepository, null);
+        BenchmarkFixtures.setField(screenLayoutService, "expireAfterWriteSeconds", 600L);
+        screenLayoutService.init();
+        seatService = new SeatService(seatRepository, null, screenRepository, null, null, screenLayoutService);
+        seatService.getSeatMapByScreen(BenchmarkFixtures.SCREEN_ID);
+    }
+
+    @Benchmark
+    public List<List<SeatDto>> cachedSeatMap() {
+        return seatService.getSeatMapByScreen(BenchmarkFixtures.SCREEN_ID);
+    }
+
+    @Benchmark
+    public ScreenLayout buildLayout() {
+        return ScreenLayout.of(BenchmarkFixtures.SCREEN_ID, seats);
+    }
+
+    // 배치 모델 도입 전 getSeatMapByScreen의 그룹화/정렬 방식
+    @Benchmark
+    public List<List<SeatDto>> groupAndSortSeatMap() {
+        return seatDtos.stream()
+                .collect(Collectors.groupingBy(SeatDto::getRow))
+                .entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().stream()
+                        .sorted((s1, s2) -> s1.getColumn().compareTo(s2.getColumn()))
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,43 @@
+package sehwan505.uosticketreservation.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 생성(문자열 포맷) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator idGenerator = new IdGenerator();
+
+    public int dailyCount = 7;
+
+    @Benchmark
+    public String reservationId() {
+        return idGenerator.generateReservationId("2505010000101", "123", dailyCount);
+    }
+
+    @Benchmark
+    public String scheduleId() {
+        return idGenerator.generateScheduleId("20250501", "0001", dailyCount);
+    }
+
+    @Benchmark
+    public String seatColumn() {
+        return idGenerator.generateSeatColumn(dailyCount);
+    }
+
+    @Benchmark
+    public String approvalNumber() {
+        return idGenerator.generateApprovalNumber("CARD");
+    }
+}
@@ -0,0 +1,56 @@
+package sehwan505.uosticketreservation.util;
+
+import sehwan505.uosticketreservation.benchmark.BenchmarkFixtures;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        BenchmarkFixtures.setField(jwtUtil, "secret", "mySecretKeyForUOSTicketReservationSystemThatShouldBeLongEnough");
+        BenchmarkFixtures.setField(jwtUtil, "jwtExpiration", 86400000L);
+        jwtUtil.init();
+
+        userDetails = User.withUsername("benchuser").password("").roles("USER").build();
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+
+    // 이전 필터 방식: 사용자명 추출 + 검증으로 두 번 파싱
+    @Benchmark
+    public boolean extractAndValidate() {
+        jwtUtil.extractUsername(token);
+        return jwtUtil.validateToken(token, userDetails);
+    }
+}
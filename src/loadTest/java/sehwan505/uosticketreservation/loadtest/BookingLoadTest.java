@@ -0,0 +1,308 @@
+package sehwan505.uosticketreservation.loadtest;
+
+import sehwan505.uosticketreservation.UosTicketReservationApplication;
+import sehwan505.uosticketreservation.config.QueryBudgetFilter;
+import sehwan505.uosticketreservation.dto.ScheduleDto;
+import sehwan505.uosticketreservation.service.ScheduleService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 예매 흐름 동시성 부하 테스트
+ * 내장 H2(Oracle 호환 모드)로 애플리케이션을 띄우고 DataInitializer가 넣은 데이터 중
+ * 가장 가까운 상영일정 몇 개에 가상 사용자를 몰아 좌석 조회 -> 예매 -> 결제 -> 취소 흐름을 HTTP로 실행한다.
+ * 종료 후 작업별 처리량/응답 시간 백분위수, 락 타임아웃 수, 중복 예매 위반 수, 쿼리 예산 위반을 출력한다.
+ *
+ * 실행: gradle loadTest -Ploadtest.users=2000 -Ploadtest.concurrency=200 -Ploadtest.hotSchedules=3
+ */
+public class BookingLoadTest {
+
+    private static final String BASE_PATH = "/api/reservations";
+
+    private final int users = Integer.getInteger("loadtest.users", 2000);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+    private final int hotScheduleCount = Integer.getInteger("loadtest.hotSchedules", 3);
+    private final int maxSeatsPerUser = Integer.getInteger("loadtest.maxSeatsPerUser", 2);
+    private final double payRatio = Double.parseDouble(System.getProperty("loadtest.payRatio", "0.7"));
+    private final double cancelRatio = Double.parseDouble(System.getProperty("loadtest.cancelRatio", "0.2"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final LatencyRecorder seatsLatency = new LatencyRecorder("seats");
+    private final LatencyRecorder createLatency = new LatencyRecorder("create");
+    private final LatencyRecorder payLatency = new LatencyRecorder("pay");
+    private final LatencyRecorder cancelLatency = new LatencyRecorder("cancel");
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger seatConflicts = new AtomicInteger();
+    private final AtomicInteger lockTimeouts = new AtomicInteger();
+    private final AtomicInteger createErrors = new AtomicInteger();
+    private final AtomicInteger paid = new AtomicInteger();
+    private final AtomicInteger paymentDeclined = new AtomicInteger();
+    private final AtomicInteger cancelled = new AtomicInteger();
+    private final AtomicInteger soldOut = new AtomicInteger();
+    private final AtomicInteger clientDoubleBookings = new AtomicInteger();
+
+    // 클라이언트가 예매 성공 응답을 받은 좌석 -> 예매 ID (취소 전까지 유지)
+    private final Map<String, String> heldSeats = new ConcurrentHashMap<>();
+
+    private String baseUrl;
+    private List<ScheduleDto> hotSchedules;
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(UosTicketReservationApplication.class)
+                .properties(embeddedProperties())
+                .run(args);
+
+        int violations;
+        try {
+            violations = new BookingLoadTest().run(context);
+        } finally {
+            context.close();
+        }
+        System.exit(violations > 0 ? 1 : 0);
+    }
+
+    private static Map<String, Object> embeddedProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=Oracle;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", 50);
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.open-in-view", false);
+        properties.put("server.port", 0);
+        properties.put("rate-limit.enabled", false);         // 모든 요청이 같은 IP에서 나가므로 비활성화
+        properties.put("query-budget.strict", true);         // 쿼리 예산 위반 시 실패 처리
+        properties.put("jwt.revocation.file", "build/loadtest/revoked-tokens.dat");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.sehwan505.uosticketreservation", "OFF");  // 경합으로 인한 예상된 오류 로그 생략
+        properties.put("logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper", "OFF");
+        return properties;
+    }
+
+    private int run(ConfigurableApplicationContext context) throws InterruptedException {
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        LocalDateTime now = LocalDateTime.now();
+        hotSchedules = context.getBean(ScheduleService.class).findAllSchedules().stream()
+                .filter(schedule -> schedule.getScreeningStartTime().isAfter(now.plusHours(1)))
+                .sorted(Comparator.comparing(ScheduleDto::getScreeningStartTime))
+                .limit(hotScheduleCount)
+                .toList();
+        if (hotSchedules.isEmpty()) {
+            throw new IllegalStateException("부하 테스트 대상 상영일정이 없습니다.");
+        }
+
+        System.out.printf("%n부하 테스트 시작: 사용자 %d명, 동시 %d, 상영일정 %s%n",
+                users, concurrency, hotSchedules.stream().map(ScheduleDto::getId).toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch done = new CountDownLatch(users);
+        long startedAt = System.nanoTime();
+
+        for (int user = 0; user < users; user++) {
+            String phoneNumber = String.format("010%08d", user);
+            executor.execute(() -> {
+                try {
+                    bookingFlow(phoneNumber);
+                } catch (Exception e) {
+                    createErrors.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        int databaseDoubleBookings = countDatabaseDoubleBookings(context.getBean(JdbcTemplate.class));
+        printReport(elapsedSeconds, databaseDoubleBookings);
+
+        List<String> budgetViolations = context.getBean(QueryBudgetFilter.class).getViolations();
+        System.out.printf("쿼리 예산 위반: %d건%n", budgetViolations.size());
+        budgetViolations.stream().distinct().limit(20).forEach(violation -> System.out.println("  " + violation));
+
+        return databaseDoubleBookings + clientDoubleBookings.get() + budgetViolations.size();
+    }
+
+    // 가상 사용자 한 명의 예매 흐름
+    private void bookingFlow(String phoneNumber) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ScheduleDto schedule = hotSchedules.get(random.nextInt(hotSchedules.size()));
+
+        // 1. 좌석 조회
+        long startedAt = System.nanoTime();
+        HttpResponse<String> seatsResponse = send(HttpRequest.newBuilder(uri("/schedules/" + schedule.getId() + "/seats")).GET());
+        seatsLatency.record(System.nanoTime() - startedAt, seatsResponse.statusCode() == 200);
+        if (seatsResponse.statusCode() != 200) {
+            return;
+        }
+
+        List<JsonNode> candidates = availableSeats(objectMapper.readTree(seatsResponse.body()));
+        if (candidates.isEmpty()) {
+            soldOut.incrementAndGet();
+            return;
+        }
+
+        // 2. 예매 생성 (빈 좌석 중 무작위, 경합 유발)
+        int seatCount = Math.min(candidates.size(), 1 + random.nextInt(maxSeatsPerUser));
+        List<Integer> seatIds = new ArrayList<>();
+        int amount = 0;
+        for (int i = 0; i < seatCount; i++) {
+            JsonNode seat = candidates.remove(random.nextInt(candidates.size()));
+            seatIds.add(seat.get("id").asInt());
+            amount += seat.path("price").asInt(10000);
+        }
+
+        startedAt = System.nanoTime();
+        HttpResponse<String> createResponse = send(HttpRequest.newBuilder(uri("/create"))
+                .header("Content-Type", "application/json")
+                .POST(body(Map.of("scheduleId", schedule.getId(), "seatIds", seatIds, "phoneNumber", phoneNumber))));
+        JsonNode createResult = objectMapper.readTree(createResponse.body());
+        boolean createOk = createResponse.statusCode() == 200 && "SUCCESS".equals(createResult.path("status").asText());
+        createLatency.record(System.nanoTime() - startedAt, createOk);
+
+        if (!createOk) {
+            classifyCreateFailure(createResult.path("message").asText(""));
+            return;
+        }
+        created.incrementAndGet();
+
+        List<String> reservationIds = new ArrayList<>();
+        createResult.path("reservationIds").forEach(id -> reservationIds.add(id.asText()));
+        for (int i = 0; i < seatIds.size(); i++) {
+            String previous = heldSeats.putIfAbsent(seatKey(schedule.getId(), seatIds.get(i)), reservationIds.get(i));
+            if (previous != null) {
+                clientDoubleBookings.incrementAndGet();
+            }
+        }
+
+        // 3. 결제
+        if (random.nextDouble() < payRatio) {
+            startedAt = System.nanoTime();
+            HttpResponse<String> payResponse = send(HttpRequest.newBuilder(uri("/payment"))
+                    .header("Content-Type", "application/json")
+                    .POST(body(Map.of(
+                            "reservationIds", reservationIds,
+                            "paymentMethod", "CARD_COMPANY",
+                            "amount", amount,
+                            "cardOrAccountNumber", "1234567812345678"))));
+            boolean payOk = payResponse.statusCode() == 200;
+            payLatency.record(System.nanoTime() - startedAt, payOk);
+            if (payOk) {
+                paid.incrementAndGet();
+            } else {
+                paymentDeclined.incrementAndGet();
+            }
+        }
+
+        // 4. 취소 (좌석 점유 기록을 먼저 지워 재예매와의 경합을 위반으로 세지 않음,
+        //    취소 실패 시에도 서버에서 좌석이 풀렸을 수 있으므로 다시 기록하지 않음)
+        if (random.nextDouble() < cancelRatio) {
+            for (int i = 0; i < reservationIds.size(); i++) {
+                String seatKey = seatKey(schedule.getId(), seatIds.get(i));
+                heldSeats.remove(seatKey, reservationIds.get(i));
+
+                startedAt = System.nanoTime();
+                HttpResponse<String> cancelResponse = send(HttpRequest.newBuilder(uri("/" + reservationIds.get(i))).DELETE());
+                boolean cancelOk = cancelResponse.statusCode() == 200;
+                cancelLatency.record(System.nanoTime() - startedAt, cancelOk);
+                if (cancelOk) {
+                    cancelled.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    // 예매/제안 중이 아닌 좌석 목록
+    private List<JsonNode> availableSeats(JsonNode seatsResult) {
+        List<Integer> unavailable = new ArrayList<>();
+        seatsResult.path("reservedSeatIds").forEach(id -> unavailable.add(id.asInt()));
+        seatsResult.path("heldSeatIds").forEach(id -> unavailable.add(id.asInt()));
+
+        List<JsonNode> available = new ArrayList<>();
+        seatsResult.path("seats").forEach(seat -> {
+            if (!unavailable.contains(seat.get("id").asInt())) {
+                available.add(seat);
+            }
+        });
+        return available;
+    }
+
+    private void classifyCreateFailure(String message) {
+        if (message.contains("다른 사용자가 같은 좌석을 선택 중") || message.toLowerCase().contains("timeout")
+                || message.toLowerCase().contains("timed out")) {
+            lockTimeouts.incrementAndGet();
+        } else if (message.contains("이미 예약") || message.contains("충돌")) {
+            seatConflicts.incrementAndGet();
+        } else {
+            createErrors.incrementAndGet();
+        }
+    }
+
+    // DB에 같은 상영일정/좌석의 활성 예매가 2건 이상 있는지 확인
+    private int countDatabaseDoubleBookings(JdbcTemplate jdbcTemplate) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT schedule_id, seat_id FROM reservation "
+                        + "WHERE reservation_status IN ('N', 'Y') GROUP BY schedule_id, seat_id HAVING COUNT(*) > 1) t",
+                Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private void printReport(double elapsedSeconds, int databaseDoubleBookings) {
+        System.out.printf("%n===== 부하 테스트 결과 (%.1f초) =====%n", elapsedSeconds);
+        System.out.println(LatencyRecorder.header());
+        for (LatencyRecorder recorder : List.of(seatsLatency, createLatency, payLatency, cancelLatency)) {
+            System.out.println(recorder.report(elapsedSeconds));
+        }
+        System.out.printf("%n예매 성공 %d, 좌석 충돌 %d, 락 타임아웃 %d, 기타 오류 %d, 매진 %d%n",
+                created.get(), seatConflicts.get(), lockTimeouts.get(), createErrors.get(), soldOut.get());
+        System.out.printf("결제 성공 %d, 결제 실패 %d, 취소 %d%n", paid.get(), paymentDeclined.get(), cancelled.get());
+        System.out.printf("중복 예매 위반: 클라이언트 관측 %d, DB %d%n", clientDoubleBookings.get(), databaseDoubleBookings);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.BodyPublisher body(Object value) throws Exception {
+        return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(value));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + BASE_PATH + path);
+    }
+
+    private static String seatKey(String scheduleId, Integer seatId) {
+        return scheduleId + ":" + seatId;
+    }
+}
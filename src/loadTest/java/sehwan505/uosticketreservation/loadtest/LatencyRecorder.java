@@ -0,0 +1,56 @@
+package sehwan505.uosticketreservation.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 작업별 응답 시간 기록기
+ * 부하 테스트 중에는 배열에 추가만 하고, 백분위수는 종료 후 한 번 정렬해 계산한다.
+ */
+class LatencyRecorder {
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int size;
+    private int failures;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long nanos, boolean success) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        if (!success) {
+            failures++;
+        }
+    }
+
+    // 작업명, 건수, 실패, 초당 처리량, p50/p95/p99/최대 (단위: ms)
+    synchronized String report(double elapsedSeconds) {
+        if (size == 0) {
+            return String.format("%-10s %8d", name, 0);
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return String.format("%-10s %8d %8d %10.1f %9.1f %9.1f %9.1f %9.1f",
+                name, size, failures, size / elapsedSeconds,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]));
+    }
+
+    static String header() {
+        return String.format("%-10s %8s %8s %10s %9s %9s %9s %9s",
+                "operation", "count", "failed", "ops/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,231 @@
+package sehwan505.uosticketreservation.loadtest;
+
+import sehwan505.uosticketreservation.UosTicketReservationApplication;
+import sehwan505.uosticketreservation.dto.ScheduleDto;
+import sehwan505.uosticketreservation.service.ScheduleService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 확인
+ * 내장 H2 두 개(주 DB, 복제본)로 애플리케이션을 띄우고, 시작 후 주 DB를 복제본에 한 번 복사해 둔다.
+ * 이후 복제본은 갱신하지 않으므로 "복제 지연이 무한히 긴 복제본"으로 동작한다.
+ * - 카탈로그 조회는 복제본에서 읽는지 (복제본에만 바꿔 둔 영화 제목이 보이는지)
+ * - 예매 직후 다른 사용자의 좌석 현황 조회가 주 DB에서 읽어 방금 팔린 좌석을 보여주는지
+ * - 예매한 사용자의 직후 조회는 주 DB로 가고, 자기 쓰기 읽기 보장 시간이 지나면 다시 복제본으로 가는지
+ *
+ * 실행: gradle replicaRoutingCheck
+ */
+public class ReplicaRoutingCheck {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;MODE=Oracle;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=Oracle;DB_CLOSE_DELAY=-1";
+    private static final long READ_YOUR_WRITES_MILLIS = 1500;
+    private static final String REPLICA_TITLE = "[replica] stale title";
+
+    private static final String BOOKER_IP = "10.0.0.1";
+    private static final String OTHER_IP = "10.0.0.2";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<String> failures = new ArrayList<>();
+
+    private String baseUrl;
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(UosTicketReservationApplication.class)
+                .properties(embeddedProperties())
+                .run(args);
+
+        int failures;
+        try {
+            failures = new ReplicaRoutingCheck().run(context);
+        } finally {
+            context.close();
+        }
+        System.exit(failures > 0 ? 1 : 0);
+    }
+
+    private static Map<String, Object> embeddedProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", PRIMARY_URL);
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.open-in-view", false);
+        properties.put("datasource.routing.enabled", true);
+        properties.put("datasource.routing.replica-urls", REPLICA_URL);
+        properties.put("datasource.routing.read-your-writes-millis", READ_YOUR_WRITES_MILLIS);
+        // 복제본은 시작 후에 채워지므로 시작 시 조회 작업은 끔
+        properties.put("analytics.rollup.backfill-on-startup", false);
+        properties.put("server.port", 0);
+        properties.put("rate-limit.enabled", false);
+        properties.put("jwt.revocation.file", "build/loadtest/revoked-tokens.dat");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.sehwan505.uosticketreservation", "OFF");
+        return properties;
+    }
+
+    private int run(ConfigurableApplicationContext context) throws Exception {
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+        copyPrimaryToReplica();
+        long movieId;
+        String primaryTitle;
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            var resultSet = statement.executeQuery("SELECT movie_id, movie_title FROM movie ORDER BY movie_id FETCH FIRST 1 ROWS ONLY");
+            resultSet.next();
+            movieId = resultSet.getLong(1);
+            primaryTitle = resultSet.getString(2);
+            statement.executeUpdate("UPDATE movie SET movie_title = '" + REPLICA_TITLE + "' WHERE movie_id = " + movieId);
+        }
+
+        // 1. 카탈로그 조회는 복제본에서
+        check("카탈로그 조회가 복제본에서 읽음", REPLICA_TITLE.equals(movieTitle(movieId, OTHER_IP)));
+
+        // 2. 예매 (주 DB에만 반영되고 복제본은 그대로)
+        LocalDateTime now = LocalDateTime.now();
+        ScheduleDto schedule = context.getBean(ScheduleService.class).findAllSchedules().stream()
+                .filter(candidate -> candidate.getScreeningStartTime().isAfter(now.plusHours(1)))
+                .min(Comparator.comparing(ScheduleDto::getScreeningStartTime))
+                .orElseThrow(() -> new IllegalStateException("확인 대상 상영일정이 없습니다."));
+        String seatsPath = "/api/reservations/schedules/" + schedule.getId() + "/seats";
+        JsonNode seatMap = getJson(seatsPath, OTHER_IP);
+        Set<Integer> unavailable = new HashSet<>();
+        seatMap.get("reservedSeatIds").forEach(id -> unavailable.add(id.asInt()));
+        seatMap.get("heldSeatIds").forEach(id -> unavailable.add(id.asInt()));
+        int seatId = -1;
+        for (JsonNode seat : seatMap.get("seats")) {
+            if (!unavailable.contains(seat.get("id").asInt())) {
+                seatId = seat.get("id").asInt();
+                break;
+            }
+        }
+        if (seatId < 0) {
+            throw new IllegalStateException("빈 좌석이 없습니다: " + schedule.getId());
+        }
+
+        HttpResponse<String> created = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/reservations/create"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", BOOKER_IP)
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of(
+                        "scheduleId", schedule.getId(),
+                        "seatIds", List.of(seatId),
+                        "phoneNumber", "01099990000")))));
+        check("예매 성공", created.statusCode() == 200);
+        check("복제본에는 예매가 없음 (복제 지연 상태)", replicaReservationCount(schedule.getId(), seatId) == 0);
+
+        // 3. 다른 사용자의 좌석 현황은 주 DB에서 읽어 방금 팔린 좌석을 보여줌
+        double pinnedBefore = count(meterRegistry, "primary", "pinned");
+        JsonNode reservedSeatIds = getJson(seatsPath, OTHER_IP).get("reservedSeatIds");
+        boolean seatShownReserved = false;
+        for (JsonNode reserved : reservedSeatIds) {
+            seatShownReserved |= reserved.asInt() == seatId;
+        }
+        check("좌석 현황이 주 DB에서 읽어 예매된 좌석을 표시", seatShownReserved);
+        check("좌석 현황 조회가 주 DB 고정으로 집계됨", count(meterRegistry, "primary", "pinned") > pinnedBefore);
+
+        // 4. 예매한 사용자의 직후 조회는 주 DB, 다른 사용자는 복제본
+        check("예매 직후 같은 사용자의 조회는 주 DB에서 읽음", primaryTitle.equals(movieTitle(movieId, BOOKER_IP)));
+        check("다른 사용자의 조회는 여전히 복제본에서 읽음", REPLICA_TITLE.equals(movieTitle(movieId, OTHER_IP)));
+
+        // 5. 자기 쓰기 읽기 보장 시간이 지나면 다시 복제본
+        Thread.sleep(READ_YOUR_WRITES_MILLIS + 500);
+        check("보장 시간이 지나면 같은 사용자도 복제본에서 읽음", REPLICA_TITLE.equals(movieTitle(movieId, BOOKER_IP)));
+
+        System.out.println("=== 커넥션 라우팅 (datasource.routing.connections) ===");
+        for (Counter counter : meterRegistry.find("datasource.routing.connections").counters()) {
+            System.out.printf("%-8s %-20s %8.0f%n", counter.getId().getTag("target"),
+                    counter.getId().getTag("reason"), counter.count());
+        }
+        System.out.println(failures.isEmpty() ? "라우팅 확인 통과" : "라우팅 확인 실패: " + failures);
+        return failures.size();
+    }
+
+    // 주 DB 전체를 스크립트로 내보내 복제본에 적재
+    private void copyPrimaryToReplica() throws SQLException, IOException {
+        Path script = Files.createTempFile("routing-primary", ".sql");
+        try {
+            try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+                 Statement statement = primary.createStatement()) {
+                statement.execute("SCRIPT NOPASSWORDS NOSETTINGS TO '" + script.toAbsolutePath() + "'");
+            }
+            try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+                 Statement statement = replica.createStatement()) {
+                statement.execute("RUNSCRIPT FROM '" + script.toAbsolutePath() + "'");
+            }
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    private long replicaReservationCount(String scheduleId, int seatId) throws SQLException {
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            var resultSet = statement.executeQuery("SELECT COUNT(*) FROM reservation WHERE schedule_id = '"
+                    + scheduleId + "' AND seat_id = " + seatId);
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private String movieTitle(long movieId, String clientIp) throws Exception {
+        return getJson("/api/movies/" + movieId, clientIp).get("title").asText();
+    }
+
+    private JsonNode getJson(String path, String clientIp) throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-Forwarded-For", clientIp)
+                .GET());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " 조회 실패: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static double count(MeterRegistry meterRegistry, String target, String reason) {
+        Counter counter = meterRegistry.find("datasource.routing.connections")
+                .tag("target", target).tag("reason", reason).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private void check(String name, boolean passed) {
+        System.out.println((passed ? "[통과] " : "[실패] ") + name);
+        if (!passed) {
+            failures.add(name);
+        }
+    }
+}
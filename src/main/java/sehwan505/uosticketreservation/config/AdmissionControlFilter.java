@@ -0,0 +1,93 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.service.AdmissionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 대기실이 열린 상영일정의 예매 API는 입장 허가된 대기 토큰이 있어야 접근 가능
+ * 좌석 조회/자동 배정 요청을 ReservationService에 닿기 전에 차단한다.
+ * 예매 생성은 상영일정 ID가 본문에 있으므로 컨트롤러에서 같은 방식으로 확인한다.
+ * 토큰은 발급받은 클라이언트에 묶이므로 JWT 필터 이후에 실행되어야 로그인 회원을 구분할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    private static final Pattern SCHEDULE_BOOKING_PATH = Pattern.compile("^/api/reservations/schedules/([^/]+)/(seats|best-available)$");
+
+    private final AdmissionService admissionService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+
+        // 운영 중인 대기실이 없으면 바로 통과
+        if (!admissionService.hasOpenRooms()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String token = request.getHeader(QUEUE_TOKEN_HEADER);
+
+        Matcher scheduleBookingMatcher = SCHEDULE_BOOKING_PATH.matcher(path);
+        if (scheduleBookingMatcher.matches()) {
+            String scheduleId = scheduleBookingMatcher.group(1);
+            if (admissionService.requiresAdmission(scheduleId)
+                    && !admissionService.checkAdmitted(token, scheduleId, clientKey(request))) {
+                reject(response, token);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 대기 토큰을 묶는 클라이언트 식별 키 (로그인 회원은 회원 ID, 그 외는 IP - 처리율 제한과 같은 기준)
+    public static String clientKey(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !auth.getName().equals("anonymousUser")) {
+            return "user:" + auth.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, String token) throws IOException {
+        long position = -1;
+        long etaSeconds = -1;
+        try {
+            if (token != null) {
+                AdmissionService.QueueStatus status = admissionService.getStatus(token);
+                position = status.getPosition();
+                etaSeconds = status.getEtaSeconds();
+            }
+        } catch (RuntimeException e) {
+            // 유효하지 않은 토큰은 순번 없이 거절
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(String.format(
+                "{\"status\":\"WAITING\",\"message\":\"대기열 입장 순서가 아직 되지 않았습니다.\",\"position\":%d,\"etaSeconds\":%d}",
+                position, etaSeconds));
+    }
+}
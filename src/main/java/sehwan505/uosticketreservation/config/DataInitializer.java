@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,7 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+// synthetic-data 프로파일에서는 SyntheticDataGenerator가 대신 데이터를 만들고, fast-start 프로파일(운영 재시작)에서는 만들지 않는다
 @Component
+@Profile("!synthetic-data & !fast-start")
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer implements ApplicationRunner {
@@ -681,7 +684,7 @@ public class DataInitializer implements ApplicationRunner {
                 
                 // 예약 생성 - StatusConstants 사용
                 ReservationEntity reservation = ReservationEntity.builder()
-                    .id(generateReservationId(schedule.getId(), seat.getId(), i))
+                    .id(generateReservationId(schedule.getId(), seat.getId(), 1)) // 좌석별 첫 예매
                     .member(member)
                     .schedule(schedule)
                     .seat(seat)
@@ -701,8 +704,11 @@ public class DataInitializer implements ApplicationRunner {
             }
         }
         
-        // 결제 정보 먼저 저장
-        paymentRepository.saveAll(payments);
+        // 결제 정보 먼저 저장 (결제 ID를 직접 지정하므로 merge된 영속 객체로 예약의 결제 참조를 바꿔 끼움)
+        List<PaymentEntity> savedPayments = paymentRepository.saveAll(payments);
+        for (int i = 0; i < reservations.size(); i++) {
+            reservations.get(i).setPayment(savedPayments.get(i));
+        }
         log.info("💳 결제 데이터 생성 완료: {}건", payments.size());
         
         // 예약 정보 저장
@@ -798,7 +804,7 @@ public class DataInitializer implements ApplicationRunner {
     }
 
     private String generateReservationId(String scheduleId, Integer seatId, int sequence) {
-        // 예약 ID는 14자리로 제한되어 있으므로 적절히 조정
-        return String.format("%s%04d%02d", scheduleId.substring(0, Math.min(8, scheduleId.length())), seatId, sequence);
+        // 예매 서비스와 같은 형식 ({스케줄ID}{좌석ID}{좌석별 순번 2자리}) - 상영일정 ID를 잘라 쓰면 다른 상영일정과 겹친다
+        return scheduleId + seatId + String.format(BusinessConstants.Format.TWO_DIGIT_FORMAT, sequence);
     }
 } 
\ No newline at end of file
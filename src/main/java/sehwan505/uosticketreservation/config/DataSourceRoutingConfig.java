@@ -0,0 +1,98 @@
+package sehwan505.uosticketreservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (datasource.routing.enabled=true일 때만 사용)
+ * 주 DB 풀은 spring.datasource.* 설정으로, 복제본 풀은 datasource.routing.replica-urls의 URL마다 만든다.
+ * 예) datasource.routing.replica-urls=jdbc:oracle:thin:@replica1:1521/XEPDB1,jdbc:oracle:thin:@replica2:1521/XEPDB1
+ * 트랜잭션마다 커넥션을 새로 고를 수 있도록 spring.jpa.open-in-view=false와 함께 사용해야 한다.
+ * (OSIV 세션은 요청 내내 첫 트랜잭션의 커넥션을 붙잡고 있어 이후 트랜잭션이 모두 같은 DB로 가고,
+ *  트랜잭션마다 커넥션을 반납하도록 바꾸면 예매 트랜잭션의 격리 수준 지정을 쓸 수 없다)
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Value("${spring.jpa.open-in-view:true}")
+    private boolean openInView;
+
+    @Value("${datasource.routing.replica-urls}")
+    private List<String> replicaUrls;
+
+    // 복제본 계정 (비어 있으면 주 DB 계정 사용)
+    @Value("${datasource.routing.replica-username:}")
+    private String replicaUsername;
+
+    @Value("${datasource.routing.replica-password:}")
+    private String replicaPassword;
+
+    @Value("${datasource.routing.replica-pool-size:10}")
+    private int replicaPoolSize;
+
+    // 쓰기 후 이 시간(ms) 동안 같은 사용자의 읽기는 주 DB로 보냄 (복제 지연 허용 범위보다 길게)
+    @Value("${datasource.routing.read-your-writes-millis:3000}")
+    private long readYourWritesMillis;
+
+    // 주 DB 풀 (spring.datasource.hikari.* 설정 적용)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        if (openInView) {
+            throw new IllegalStateException("datasource.routing.enabled=true는 spring.jpa.open-in-view=false와 함께 사용해야 합니다.");
+        }
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 복제본 풀은 라우팅 DataSource가 소유하고 종료 시 함께 닫는다
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                        DataSourceProperties properties,
+                                                        MeterRegistry meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(StringUtils.hasText(replicaUsername) ? replicaUsername : properties.determineUsername());
+            replica.setPassword(StringUtils.hasText(replicaUsername) ? replicaPassword : properties.determinePassword());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, meterRegistry);
+    }
+
+    // 트랜잭션의 읽기 전용 여부가 정해진 뒤 첫 SQL 실행 시점에 커넥션을 고르도록 지연 프록시로 감쌈
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter(readYourWritesMillis);
+    }
+}
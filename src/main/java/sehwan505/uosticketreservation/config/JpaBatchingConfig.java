@@ -0,0 +1,28 @@
+package sehwan505.uosticketreservation.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정
+ * 좌석 배치 등록처럼 같은 엔티티를 여러 건 저장/수정할 때 INSERT/UPDATE를 묶어서 보낸다.
+ * (IDENTITY 생성 전략 엔티티는 배치되지 않으므로 시퀀스 생성 전략과 함께 사용)
+ */
+@Configuration
+public class JpaBatchingConfig {
+
+    // 한 번에 보낼 INSERT/UPDATE 수 (0이면 배치 사용 안 함)
+    @Value("${jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingHibernateCustomizer() {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+        };
+    }
+}
@@ -1,28 +1,67 @@
 package sehwan505.uosticketreservation.config;
 
 import sehwan505.uosticketreservation.service.MemberService;
+import sehwan505.uosticketreservation.service.TokenRevocationService;
 import sehwan505.uosticketreservation.util.JwtUtil;
+import sehwan505.uosticketreservation.util.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
+/**
+ * JWT 인증 필터
+ * 토큰 서명/만료를 한 번만 검증하고, 발급 시 담아 둔 권한 클레임으로 인증 정보를 만든다.
+ * 검증된 토큰은 짧은 시간 캐시하여 같은 토큰의 연속 요청은 파싱도 생략한다.
+ * 권한 클레임이 없는 이전 토큰만 DB에서 회원 정보를 조회한다.
+ * 폐기 여부는 캐시 여부와 관계없이 매 요청 메모리의 폐기 목록으로 확인한다.
+ */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final @Lazy MemberService memberService;
+    private final MemberService memberService;
+    private final TokenRevocationService tokenRevocationService;
+    private final VerifiedTokenCache<VerifiedToken> tokenCache;
+    private final MeterRegistry meterRegistry;
+
+    // 검증된 토큰의 사용자 정보와 폐기 확인용 식별자
+    private record VerifiedToken(UserDetails userDetails, String jti, long issuedAtSeconds) {
+    }
+
+    public JwtAuthenticationFilter(
+            JwtUtil jwtUtil,
+            @Lazy MemberService memberService,
+            TokenRevocationService tokenRevocationService,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.ttl-seconds:60}") long cacheTtlSeconds,
+            @Value("${jwt.cache.max-entries:50000}") int cacheMaxEntries) {
+        this.jwtUtil = jwtUtil;
+        this.memberService = memberService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.meterRegistry = meterRegistry;
+        this.tokenCache = new VerifiedTokenCache<>(cacheTtlSeconds * 1000, cacheMaxEntries);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -30,8 +69,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                   FilterChain filterChain) throws ServletException, IOException {
         
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String username;
 
         // Authorization 헤더가 없거나 Bearer로 시작하지 않으면 다음 필터로
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -39,16 +76,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // JWT 토큰 추출
-        jwt = authHeader.substring(7);
-        username = jwtUtil.extractUsername(jwt);
+        // 아직 인증되지 않은 경우에만 토큰으로 인증 설정
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            UserDetails userDetails = authenticate(authHeader.substring(7));
+            sample.stop(Timer.builder("security.jwt.authentication")
+                    .description("JWT 검증 및 인증 정보 생성 시간")
+                    .tag("outcome", userDetails != null ? "authenticated" : "rejected")
+                    .register(meterRegistry));
 
-        // 사용자명이 있고 아직 인증되지 않은 경우
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.memberService.loadUserByUsername(username);
-            
-            // 토큰이 유효한 경우 인증 설정
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = 
                     new UsernamePasswordAuthenticationToken(
                         userDetails, 
@@ -62,4 +99,59 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 1분마다 만료된 토큰 캐시 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredTokens() {
+        int evicted = tokenCache.evictExpired();
+        if (evicted > 0) {
+            log.debug("토큰 캐시 정리: {}개", evicted);
+        }
+    }
+
+    // 토큰 검증 후 사용자 정보 반환 (유효하지 않거나 폐기된 토큰이면 null)
+    private UserDetails authenticate(String jwt) {
+        VerifiedToken verified = tokenCache.get(jwt);
+        if (verified == null) {
+            verified = verify(jwt);
+        }
+        if (verified == null || tokenRevocationService.isRevoked(
+                verified.userDetails().getUsername(), verified.jti(), verified.issuedAtSeconds())) {
+            return null;
+        }
+        return verified.userDetails();
+    }
+
+    // 서명/만료 검증 후 캐시에 저장
+    private VerifiedToken verify(String jwt) {
+        Claims claims = jwtUtil.parseToken(jwt);
+        if (claims == null || claims.getSubject() == null) {
+            return null;
+        }
+
+        UserDetails userDetails;
+        List<GrantedAuthority> authorities = jwtUtil.extractAuthorities(claims);
+        if (authorities != null) {
+            userDetails = User.withUsername(claims.getSubject())
+                    .password("")
+                    .authorities(authorities)
+                    .build();
+        } else {
+            // 권한 클레임이 없는 이전 토큰은 DB에서 권한 조회
+            try {
+                userDetails = memberService.loadUserByUsername(claims.getSubject());
+            } catch (UsernameNotFoundException e) {
+                return null;
+            }
+        }
+
+        long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() / 1000 : 0;
+        VerifiedToken verified = new VerifiedToken(userDetails, claims.getId(), issuedAt);
+
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        tokenCache.put(jwt, verified, expiresAt);
+        return verified;
+    }
+}
@@ -0,0 +1,14 @@
+package sehwan505.uosticketreservation.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 메트릭 기본 설정
+ * /actuator/prometheus 노출과 주요 타이머의 히스토그램 설정을 기본값으로 등록한다.
+ * application.properties 값이 항상 우선한다.
+ */
+@Configuration
+@PropertySource("classpath:metrics-defaults.properties")
+public class MetricsConfig {
+}
@@ -1,5 +1,8 @@
 package sehwan505.uosticketreservation.config;
 
+import sehwan505.uosticketreservation.util.PooledPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,9 +10,25 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordConfig {
+
+    // BCrypt 비용 (높일 경우 기존 회원은 다음 로그인 시 재해시됨)
+    @Value("${password.bcrypt.strength:10}")
+    private int strength;
+
+    // 해시 전용 스레드 수 (0이면 CPU 코어 수의 절반)
+    @Value("${password.hash.threads:0}")
+    private int threads;
+
+    @Value("${password.hash.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${password.hash.max-wait-millis:3000}")
+    private long maxWaitMillis;
     
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity,
+                maxWaitMillis, meterRegistry);
     }
-} 
\ No newline at end of file
+}
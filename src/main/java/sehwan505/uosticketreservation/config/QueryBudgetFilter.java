@@ -0,0 +1,142 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.util.QueryStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 요청별 SQL 실행 수 / 엔티티 로드 수 / flush 시간 측정 및 엔드포인트별 쿼리 예산 확인
+ * 예산 설정 형식: query-budget.endpoints=GET /api/reservations/my=10,GET /api/admin/**=100
+ * 예산을 넘으면 경고 로그를 남기고, strict 모드에서는 위반 내역을 모아 assertNoViolations()로 실패시킬 수 있다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean strict;
+    private final int defaultMaxStatements;
+    private final Map<String, Integer> endpointBudgets = new LinkedHashMap<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // strict 모드에서 수집한 예산 위반 내역
+    private final List<String> violations = new CopyOnWriteArrayList<>();
+
+    public QueryBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${query-budget.enabled:true}") boolean enabled,
+            @Value("${query-budget.strict:false}") boolean strict,
+            @Value("${query-budget.default-max-statements:50}") int defaultMaxStatements,
+            @Value("${query-budget.endpoints:}") List<String> endpoints) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.strict = strict;
+        this.defaultMaxStatements = defaultMaxStatements;
+
+        for (String endpoint : endpoints) {
+            int separator = endpoint.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("쿼리 예산 설정 형식이 올바르지 않습니다: " + endpoint);
+            }
+            endpointBudgets.put(endpoint.substring(0, separator).trim(),
+                    Integer.parseInt(endpoint.substring(separator + 1).trim()));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        QueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats stats = QueryStats.end();
+            if (stats != null && stats.getStatements() > 0) {
+                checkBudget(request, stats);
+            }
+        }
+    }
+
+    // strict 모드에서 모인 예산 위반이 있으면 AssertionError (테스트/부하 테스트용)
+    public void assertNoViolations() {
+        if (!violations.isEmpty()) {
+            throw new AssertionError("쿼리 예산 위반 " + violations.size() + "건:\n" + String.join("\n", violations));
+        }
+    }
+
+    public List<String> getViolations() {
+        return new ArrayList<>(violations);
+    }
+
+    public void resetViolations() {
+        violations.clear();
+    }
+
+    private void checkBudget(HttpServletRequest request, QueryStats stats) {
+        String endpoint = request.getMethod() + " " + endpointPattern(request);
+
+        DistributionSummary.builder("http.request.sql.statements")
+                .description("요청당 SQL 실행 수")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        int budget = budgetFor(request);
+        if (stats.getStatements() > budget) {
+            String violation = endpoint + " (" + request.getRequestURI() + "): 예산 " + budget + "건, " + stats;
+            log.warn("쿼리 예산 초과: {}", violation);
+            if (strict) {
+                violations.add(violation);
+            }
+        } else if (log.isDebugEnabled()) {
+            log.debug("요청 SQL 통계: {} {}", endpoint, stats);
+        }
+    }
+
+    private int budgetFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, Integer> entry : endpointBudgets.entrySet()) {
+            String[] methodAndPattern = entry.getKey().split("\\s+", 2);
+            if (methodAndPattern.length == 2
+                    && methodAndPattern[0].equalsIgnoreCase(request.getMethod())
+                    && pathMatcher.match(methodAndPattern[1], path)) {
+                return entry.getValue();
+            }
+        }
+        return defaultMaxStatements;
+    }
+
+    // 메트릭 태그용 엔드포인트 패턴 (매핑되지 않은 요청은 하나로 묶음)
+    private String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMAPPED";
+    }
+}
@@ -0,0 +1,31 @@
+package sehwan505.uosticketreservation.config;
+
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 요청별 SQL 통계 수집을 위한 Hibernate 설정
+ * 세션 이벤트 리스너(SQL 실행/flush 시간), 엔티티 로드 리스너, 느린 쿼리 로그를 등록한다.
+ */
+@Configuration
+public class QueryInstrumentationConfig {
+
+    // 이 시간(ms)보다 오래 걸린 SQL은 org.hibernate.SQL_SLOW 로거로 기록 (0이면 사용 안 함)
+    @Value("${query-budget.slow-query-millis:500}")
+    private long slowQueryMillis;
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernateCustomizer() {
+        return properties -> {
+            properties.put("hibernate.session.events.auto", QueryStatsSessionListener.class.getName());
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new QueryStatsIntegrator()));
+            properties.put("hibernate.log_slow_query", slowQueryMillis);
+        };
+    }
+}
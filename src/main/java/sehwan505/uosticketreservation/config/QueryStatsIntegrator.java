@@ -0,0 +1,39 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.util.QueryStats;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 엔티티 로드 수를 현재 요청 통계(QueryStats)에 누적하는 PostLoad 리스너 등록
+ */
+public class QueryStatsIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, new EntityLoadCounter());
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    private static class EntityLoadCounter implements PostLoadEventListener {
+        @Override
+        public void onPostLoad(PostLoadEvent event) {
+            QueryStats stats = QueryStats.current();
+            if (stats != null) {
+                stats.recordEntityLoad();
+            }
+        }
+    }
+}
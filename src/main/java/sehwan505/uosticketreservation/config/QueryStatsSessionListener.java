@@ -0,0 +1,54 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.util.QueryStats;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate 세션별 SQL 실행/flush 시간을 현재 요청 통계(QueryStats)에 누적
+ * hibernate.session.events.auto 설정으로 세션마다 새로 생성된다.
+ */
+public class QueryStatsSessionListener extends BaseSessionEventListener {
+
+    private long statementStartedAt;
+    private long batchStartedAt;
+    private long flushStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(System.nanoTime() - statementStartedAt);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(System.nanoTime() - batchStartedAt);
+        }
+    }
+
+    @Override
+    public void flushStart() {
+        flushStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordFlush(System.nanoTime() - flushStartedAt);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 예매/결제/대기 토큰 발급 API 처리율 제한
+ * 대기 토큰 발급은 대량 발급으로 실제 사용자의 순번을 밀어내지 못하도록 따로 낮게 제한한다.
+ * 로그인 회원은 회원 ID, 그 외(비회원 포함)는 IP 기준으로 제한한다.
+ * 전화번호 파라미터는 클라이언트가 요청마다 바꿀 수 있어 키로 쓰지 않는다.
+ * JWT 필터 이후에 실행되어야 인증된 회원 ID를 키로 사용할 수 있다.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String RESERVATION_GROUP = "reservation";
+    private static final String PAYMENT_GROUP = "payment";
+    private static final String QUEUE_GROUP = "queue";
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter reservationLimiter;
+    private final TokenBucketRateLimiter paymentLimiter;
+    private final TokenBucketRateLimiter queueLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${rate-limit.reservation.capacity:10}") int reservationCapacity,
+            @Value("${rate-limit.reservation.refill-per-minute:20}") int reservationRefillPerMinute,
+            @Value("${rate-limit.payment.capacity:5}") int paymentCapacity,
+            @Value("${rate-limit.payment.refill-per-minute:10}") int paymentRefillPerMinute,
+            @Value("${rate-limit.queue.capacity:3}") int queueCapacity,
+            @Value("${rate-limit.queue.refill-per-minute:6}") int queueRefillPerMinute) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.reservationLimiter = new TokenBucketRateLimiter(reservationCapacity, reservationRefillPerMinute, maxKeys);
+        this.paymentLimiter = new TokenBucketRateLimiter(paymentCapacity, paymentRefillPerMinute, maxKeys);
+        this.queueLimiter = new TokenBucketRateLimiter(queueCapacity, queueRefillPerMinute, maxKeys);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+
+        String group = resolveGroup(request);
+        if (!enabled || group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = resolveKey(request);
+        TokenBucketRateLimiter limiter = switch (group) {
+            case PAYMENT_GROUP -> paymentLimiter;
+            case QUEUE_GROUP -> queueLimiter;
+            default -> reservationLimiter;
+        };
+
+        if (!limiter.tryAcquire(key)) {
+            String keyType = key.substring(0, key.indexOf(':'));
+            rejectedCounter(group, keyType).increment();
+            log.warn("처리율 제한 초과: 그룹={}, 키 종류={}, 경로={}", group, keyType, request.getRequestURI());
+
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("{\"status\":\"FAIL\",\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 5분마다 가득 찬 상태로 돌아간 버킷 정리
+     */
+    @Scheduled(fixedDelay = 300000)
+    public void evictIdleBuckets() {
+        int evicted = reservationLimiter.evictIdle() + paymentLimiter.evictIdle() + queueLimiter.evictIdle();
+        if (evicted > 0) {
+            log.debug("처리율 제한 버킷 정리: {}개", evicted);
+        }
+    }
+
+    // 제한 대상 엔드포인트 그룹 (대상이 아니면 null)
+    private String resolveGroup(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/bank/payment/")) {
+            return PAYMENT_GROUP;
+        }
+        if (path.startsWith("/api/queue/")) {
+            return QUEUE_GROUP;
+        }
+        if (path.equals("/api/reservations/create") || path.equals("/api/reservations/payment")
+                || (path.startsWith("/api/reservations/schedules/") && path.endsWith("/best-available"))) {
+            return RESERVATION_GROUP;
+        }
+        return null;
+    }
+
+    private String resolveKey(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !auth.getName().equals("anonymousUser")) {
+            return "user:" + auth.getName();
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private Counter rejectedCounter(String group, String keyType) {
+        return Counter.builder("rate_limit.rejected")
+                .description("처리율 제한으로 거절된 요청 수")
+                .tag("group", group)
+                .tag("key_type", keyType)
+                .register(meterRegistry);
+    }
+}
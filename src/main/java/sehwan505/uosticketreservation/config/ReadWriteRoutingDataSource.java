@@ -0,0 +1,110 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.util.DataSourceRoutingContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 종류에 따라 주 DB와 복제본 풀 중 하나에서 커넥션을 가져오는 DataSource
+ * - 읽기 전용 트랜잭션: 복제본 (여러 개면 순서대로 분산)
+ * - 쓰기 트랜잭션, 트랜잭션 밖의 조회, 주 DB 고정 조회, 최근 쓰기 사용자의 조회, 계정 지정 커넥션: 주 DB
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 고르도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ * 복제본 커넥션 획득에 실패하면 주 DB로 대체한다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Counter writeConnections;
+    private final Counter pinnedConnections;
+    private final Counter readYourWritesConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbackConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, MeterRegistry meterRegistry) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("복제본 DataSource가 하나 이상 필요합니다.");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.writeConnections = connectionCounter(meterRegistry, "primary", "write");
+        this.pinnedConnections = connectionCounter(meterRegistry, "primary", "pinned");
+        this.readYourWritesConnections = connectionCounter(meterRegistry, "primary", "read-your-writes");
+        this.replicaConnections = connectionCounter(meterRegistry, "replica", "read-only");
+        this.fallbackConnections = connectionCounter(meterRegistry, "primary", "replica-unavailable");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                DataSourceRoutingContext.markWrite();
+            }
+            writeConnections.increment();
+            return primary.getConnection();
+        }
+
+        String primaryReason = DataSourceRoutingContext.primaryReason();
+        if (primaryReason != null) {
+            ("pinned".equals(primaryReason) ? pinnedConnections : readYourWritesConnections).increment();
+            return primary.getConnection();
+        }
+
+        DataSource replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+        try {
+            Connection connection = replica.getConnection();
+            replicaConnections.increment();
+            return connection;
+        } catch (SQLException e) {
+            log.warn("복제본 커넥션 획득 실패, 주 DB로 대체: {}", e.getMessage());
+            fallbackConnections.increment();
+            return primary.getConnection();
+        }
+    }
+
+    // 계정 지정 커넥션은 복제본 계정과 맞는지 알 수 없으므로 항상 주 DB에서 가져옴
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            DataSourceRoutingContext.markWrite();
+        }
+        writeConnections.increment();
+        return primary.getConnection(username, password);
+    }
+
+    // 복제본 풀 종료 (주 DB 풀은 별도 빈으로 관리됨)
+    @Override
+    public void close() {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 풀 종료 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Counter connectionCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing.connections")
+                .description("라우팅 DataSource가 내어준 커넥션 수")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
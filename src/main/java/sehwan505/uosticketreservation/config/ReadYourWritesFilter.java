@@ -0,0 +1,73 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.util.DataSourceRoutingContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자기 쓰기 읽기 보장 (read-your-writes)
+ * 요청 중 쓰기 트랜잭션이 있었던 사용자(로그인 ID, 비로그인은 클라이언트 IP)를 기록해 두고,
+ * 복제 지연 허용 시간 안에 같은 사용자가 보낸 요청의 읽기 전용 트랜잭션은 주 DB로 보낸다.
+ * 예매 직후 "내 예매 내역"에 방금 만든 예매가 보이지 않는 문제를 막기 위함이다.
+ * 보안 필터 뒤에서 실행되어야 로그인 사용자를 구분할 수 있다. (DataSourceRoutingConfig에서 등록)
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    // 기록이 이 수를 넘으면 만료된 항목 정리
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+
+    // 사용자 -> 마지막 쓰기 요청 종료 시각(ms)
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+
+        String writer = writerKey(request);
+        long now = System.currentTimeMillis();
+        Long lastWrite = lastWriteAt.get(writer);
+
+        DataSourceRoutingContext.beginRequest(lastWrite != null && now - lastWrite < windowMillis);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (DataSourceRoutingContext.endRequest()) {
+                lastWriteAt.put(writer, System.currentTimeMillis());
+                if (lastWriteAt.size() > PURGE_THRESHOLD) {
+                    long expiredBefore = System.currentTimeMillis() - windowMillis;
+                    lastWriteAt.values().removeIf(time -> time < expiredBefore);
+                }
+            }
+        }
+    }
+
+    private String writerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            return "ip:" + forwardedFor.split(",")[0].trim();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
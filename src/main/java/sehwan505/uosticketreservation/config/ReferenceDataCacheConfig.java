@@ -0,0 +1,64 @@
+package sehwan505.uosticketreservation.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, JVM 내부)
+ * 거의 바뀌지 않는 기준 데이터(지역, 좌석 등급, 영화관, 상영관)만 @Cache로 지정해 캐시한다.
+ * 예매 경로의 지연 로딩(좌석 -> 좌석 등급, 상영일정 -> 상영관 -> 영화관 -> 지역)이 DB 대신 캐시에서 채워진다.
+ * Hibernate를 거친 수정은 READ_WRITE 전략으로 캐시에 반영되고,
+ * 역방향 컬렉션(지역의 영화관 목록, 영화관의 상영관 목록)은 ReferenceDataCacheService가 비운다.
+ * 캐시는 노드마다 따로 있으므로 다른 노드의 수정은 CacheEvictionBroadcastService가 전파하고,
+ * 전파가 닿지 않는 변경(DB 직접 수정 등)도 항목별 만료 시간(jpa.reference-cache.expire-after-write-seconds)이 지나면 다시 읽는다.
+ * 만료를 기다리지 않으려면 관리자 캐시 초기화 API를 호출한다 (모든 노드에 전파됨).
+ */
+@Configuration
+public class ReferenceDataCacheConfig {
+
+    @Value("${jpa.reference-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jpa.reference-cache.expire-after-write-seconds:600}")
+    private long expireAfterWriteSeconds;
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceDataCacheHibernateCustomizer() {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", enabled);
+            if (enabled) {
+                properties.put("hibernate.cache.region.factory_class",
+                        new ExpiringJCacheRegionFactory(Duration.ofSeconds(expireAfterWriteSeconds)));
+                properties.put("hibernate.javax.cache.provider",
+                        "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+                // 엔티티별 캐시 영역은 시작 시 자동 생성 (기준 데이터라 크기 제한 없음)
+                properties.put("hibernate.javax.cache.missing_cache_strategy", "create");
+            }
+        };
+    }
+
+    // 캐시 영역을 만들 때 Caffeine expireAfterWrite를 지정하는 RegionFactory
+    private static class ExpiringJCacheRegionFactory extends JCacheRegionFactory {
+
+        private final Duration expireAfterWrite;
+
+        ExpiringJCacheRegionFactory(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        @Override
+        protected Cache<Object, Object> createCache(String regionName) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+            return getCacheManager().createCache(regionName, configuration);
+        }
+    }
+}
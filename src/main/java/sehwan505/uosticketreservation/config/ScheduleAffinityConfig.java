@@ -0,0 +1,46 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.service.ClusterMembershipService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상영일정 소유 노드 라우팅 설정 (cluster.affinity.enabled=true일 때만 사용)
+ * 모든 노드가 같은 DB(cluster_node 테이블)와 같은 cluster.affinity.secret 값을 사용해야 한다.
+ * 예) cluster.affinity.enabled=true
+ *     cluster.affinity.secret=노드 간 공유 비밀값
+ *     cluster.affinity.advertised-url=http://10.0.0.11:8080 (다른 노드가 접근할 주소, 비우면 호스트 IP:포트)
+ */
+@Configuration
+@ConditionalOnProperty(name = "cluster.affinity.enabled", havingValue = "true")
+public class ScheduleAffinityConfig {
+
+    // 노드 간 전달 요청 확인용 공유 비밀값
+    @Value("${cluster.affinity.secret:}")
+    private String secret;
+
+    // 소유 노드로 전달한 요청의 연결/응답 제한 시간 (단위: 밀리초)
+    @Value("${cluster.affinity.forward-timeout-millis:5000}")
+    private long forwardTimeoutMillis;
+
+    // 보안 필터보다 먼저 실행해 전달할 요청은 이 노드에서 인증/처리율 제한을 하지 않음
+    @Bean
+    public FilterRegistrationBean<ScheduleAffinityFilter> scheduleAffinityFilter(
+            ClusterMembershipService clusterMembershipService, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("cluster.affinity.enabled=true는 cluster.affinity.secret 설정과 함께 사용해야 합니다.");
+        }
+        FilterRegistrationBean<ScheduleAffinityFilter> registration = new FilterRegistrationBean<>(
+                new ScheduleAffinityFilter(clusterMembershipService, objectMapper, meterRegistry, secret, forwardTimeoutMillis));
+        registration.addUrlPatterns("/api/reservations/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
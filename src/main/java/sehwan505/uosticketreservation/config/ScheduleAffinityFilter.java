@@ -0,0 +1,307 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.service.ClusterMembershipService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 상영일정 소유 노드로 요청 전달 (cluster.affinity.enabled=true일 때 ScheduleAffinityConfig에서 등록)
+ * 상영일정 단위 예매 API(/api/reservations/schedules/{scheduleId}/..., POST /api/reservations/create)를
+ * 해당 상영일정을 소유한 노드로 보내, 같은 상영일정의 좌석 선점이 한 JVM 안에서 처리되게 한다.
+ * 전달받은 노드는 공유 비밀값(X-Affinity-Secret)을 확인한 뒤 다시 전달하지 않고 직접 처리하며,
+ * 처리율 제한이 실제 클라이언트 기준으로 동작하도록 원래 클라이언트 주소를 그대로 넘긴다.
+ * 소유 노드에 연결하지 못하면 자기 노드에서 처리한다. (좌석 중복은 예매 ID 기본키와 좌석 점유 키 유니크 인덱스로 막힘)
+ * 예매 ID 단위 API(취소 등), 결제 취소, 미결제 만료 작업은 전달하지 않는다. 이렇게 다른 노드에서 풀린 좌석은
+ * 소유 노드가 수정 시각 기준 증분 조회로 좌석 상태와 대기열 제안에 반영한다. (ScheduleSeatStateService, WaitlistService)
+ * 보안 필터보다 먼저 실행되어 전달하는 노드에서는 인증/처리율 제한을 하지 않는다.
+ */
+@Slf4j
+public class ScheduleAffinityFilter extends OncePerRequestFilter {
+
+    public static final String FORWARDED_HEADER = "X-Affinity-Forwarded";
+    public static final String SECRET_HEADER = "X-Affinity-Secret";
+    public static final String CLIENT_ADDR_HEADER = "X-Affinity-Client-Addr";
+
+    private static final Pattern SCHEDULE_PATH = Pattern.compile("^/api/reservations/schedules/([^/]+)/");
+    private static final String CREATE_PATH = "/api/reservations/create";
+
+    // 예매 생성 요청 본문에서 상영일정 ID를 읽을 때 버퍼링하는 최대 크기 (길이를 모르거나 더 크면 직접 처리)
+    private static final int MAX_BUFFERED_BODY = 64 * 1024;
+
+    // HttpClient가 직접 설정하는 헤더, 홉 단위 헤더는 전달하지 않음
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            "host", "content-length", "connection", "transfer-encoding", "expect", "upgrade", "keep-alive",
+            FORWARDED_HEADER.toLowerCase(), SECRET_HEADER.toLowerCase(), CLIENT_ADDR_HEADER.toLowerCase());
+
+    private final ClusterMembershipService clusterMembershipService;
+    private final ObjectMapper objectMapper;
+    private final byte[] secret;
+    private final Duration forwardTimeout;
+    private final HttpClient httpClient;
+
+    private final Counter local;
+    private final Counter forwarded;
+    private final Counter fallback;
+    private final Counter failed;
+    private final Counter received;
+
+    public ScheduleAffinityFilter(ClusterMembershipService clusterMembershipService, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry, String secret, long forwardTimeoutMillis) {
+        this.clusterMembershipService = clusterMembershipService;
+        this.objectMapper = objectMapper;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.forwardTimeout = Duration.ofMillis(forwardTimeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(forwardTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.local = requestCounter(meterRegistry, "local");
+        this.forwarded = requestCounter(meterRegistry, "forwarded");
+        this.fallback = requestCounter(meterRegistry, "fallback");
+        this.failed = requestCounter(meterRegistry, "failed");
+        this.received = requestCounter(meterRegistry, "received");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+
+        // 다른 노드가 전달한 요청은 직접 처리 (다시 전달하지 않음)
+        if (request.getHeader(FORWARDED_HEADER) != null) {
+            String requestSecret = request.getHeader(SECRET_HEADER);
+            if (requestSecret == null
+                    || !MessageDigest.isEqual(secret, requestSecret.getBytes(StandardCharsets.UTF_8))) {
+                writeError(response, HttpServletResponse.SC_FORBIDDEN, "허용되지 않은 노드 간 요청입니다.");
+                return;
+            }
+            received.increment();
+            filterChain.doFilter(new ForwardedRequest(request), response);
+            return;
+        }
+
+        HttpServletRequest target = request;
+        String scheduleId = null;
+        byte[] body = null;
+
+        Matcher matcher = SCHEDULE_PATH.matcher(request.getRequestURI());
+        if (matcher.find()) {
+            scheduleId = matcher.group(1);
+        } else if ("POST".equals(request.getMethod()) && CREATE_PATH.equals(request.getRequestURI())
+                && request.getContentLength() >= 0 && request.getContentLength() <= MAX_BUFFERED_BODY) {
+            body = request.getInputStream().readAllBytes();
+            target = new CachedBodyRequest(request, body);
+            scheduleId = scheduleIdOf(body);
+        }
+
+        String ownerUrl = scheduleId != null ? clusterMembershipService.ownerBaseUrl(scheduleId) : null;
+        if (ownerUrl == null) {
+            local.increment();
+            filterChain.doFilter(target, response);
+            return;
+        }
+
+        if (body == null) {
+            body = request.getInputStream().readAllBytes();
+            target = new CachedBodyRequest(request, body);
+        }
+        HttpResponse<byte[]> ownerResponse;
+        try {
+            ownerResponse = forward(request, body, ownerUrl);
+        } catch (ConnectException | HttpConnectTimeoutException e) {
+            // 소유 노드에 연결하지 못함 (요청이 전달되지 않았으므로 직접 처리)
+            fallback.increment();
+            log.warn("상영일정 {} 소유 노드({}) 연결 실패, 직접 처리: {}", scheduleId, ownerUrl, e.toString());
+            filterChain.doFilter(target, response);
+            return;
+        } catch (IOException e) {
+            // 전달 후 응답을 받지 못함: 조회는 직접 처리, 예매 생성은 소유 노드에서 처리됐을 수 있어 실패로 응답
+            if ("GET".equals(request.getMethod())) {
+                fallback.increment();
+                filterChain.doFilter(target, response);
+                return;
+            }
+            failed.increment();
+            log.warn("상영일정 {} 소유 노드({}) 응답 없음: {}", scheduleId, ownerUrl, e.toString());
+            writeError(response, HttpServletResponse.SC_BAD_GATEWAY,
+                    "예매 처리 결과를 확인하지 못했습니다. 예매 내역을 확인한 뒤 다시 시도해주세요.");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.increment();
+            writeError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "요청 전달이 중단되었습니다.");
+            return;
+        }
+        forwarded.increment();
+        copyResponse(ownerResponse, response);
+    }
+
+    // 소유 노드로 요청 전달
+    private HttpResponse<byte[]> forward(HttpServletRequest request, byte[] body, String ownerUrl)
+            throws IOException, InterruptedException {
+        String query = request.getQueryString();
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(ownerUrl + request.getRequestURI() + (query != null ? "?" + query : "")))
+                .timeout(forwardTimeout)
+                .method(request.getMethod(), body.length > 0
+                        ? HttpRequest.BodyPublishers.ofByteArray(body)
+                        : HttpRequest.BodyPublishers.noBody());
+
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                continue;
+            }
+            for (String value : Collections.list(request.getHeaders(name))) {
+                builder.header(name, value);
+            }
+        }
+        builder.header(FORWARDED_HEADER, String.valueOf(clusterMembershipService.getNodeId()));
+        builder.header(SECRET_HEADER, new String(secret, StandardCharsets.UTF_8));
+        builder.header(CLIENT_ADDR_HEADER, request.getRemoteAddr());
+
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    // 소유 노드의 응답을 그대로 돌려줌
+    private void copyResponse(HttpResponse<byte[]> forwardedResponse, HttpServletResponse response) throws IOException {
+        response.setStatus(forwardedResponse.statusCode());
+        for (Map.Entry<String, List<String>> header : forwardedResponse.headers().map().entrySet()) {
+            String name = header.getKey();
+            if (name.startsWith(":") || SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                response.addHeader(name, value);
+            }
+        }
+        byte[] responseBody = forwardedResponse.body();
+        response.setContentLength(responseBody.length);
+        response.getOutputStream().write(responseBody);
+    }
+
+    // 예매 생성 요청 본문의 상영일정 ID (JSON이 아니면 null)
+    private String scheduleIdOf(byte[] body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node != null && node.hasNonNull("scheduleId") ? node.get("scheduleId").asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), Map.of(
+                "status", "FAIL",
+                "message", message
+        ));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("cluster.affinity.requests")
+                .description("상영일정 단위 예매 요청의 처리 위치")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // 전달받은 요청: 원래 클라이언트 주소를 요청 주소로 사용
+    private static class ForwardedRequest extends HttpServletRequestWrapper {
+
+        private final String clientAddr;
+
+        ForwardedRequest(HttpServletRequest request) {
+            super(request);
+            String header = request.getHeader(CLIENT_ADDR_HEADER);
+            this.clientAddr = header != null && !header.isBlank() ? header : request.getRemoteAddr();
+        }
+
+        @Override
+        public String getRemoteAddr() {
+            return clientAddr;
+        }
+    }
+
+    // 이미 읽은 요청 본문을 다시 읽을 수 있게 감싼 요청
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
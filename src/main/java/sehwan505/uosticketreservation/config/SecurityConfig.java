@@ -2,6 +2,8 @@ package sehwan505.uosticketreservation.config;
 
 import sehwan505.uosticketreservation.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -35,6 +37,8 @@ public class SecurityConfig {
     private final MemberService memberService;
     private final PasswordEncoder passwordEncoder;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AdmissionControlFilter admissionControlFilter;
+    private final RateLimitFilter rateLimitFilter;
     
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
@@ -46,6 +50,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(memberService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(memberService); // 로그인 시 재해시
         return authProvider;
     }
     
@@ -61,6 +66,8 @@ public class SecurityConfig {
             .securityMatcher("/api/**")
             .authenticationProvider(authenticationProvider())
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(admissionControlFilter, RateLimitFilter.class)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(authorize -> authorize
                 // 인증 없이 접근 가능한 API
@@ -75,6 +82,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/reservations/non-member/check").permitAll() // 비회원 예매 확인
                 .requestMatchers("/api/signup", "/api/members/check-id").permitAll() // 회원가입 관련
                 .requestMatchers("/api/login").permitAll() // 로그인
+                .requestMatchers("/api/queue/**").permitAll() // 예매 대기실
                 
                 // 관리자 전용 API
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -93,14 +101,37 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    @Bean
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        // 관리 엔드포인트: health만 공개, metrics/prometheus 등은 관리자만 (수집기는 관리자 계정 Basic 인증 또는 JWT 사용)
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .authenticationProvider(authenticationProvider())
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .authorizeHttpRequests(authorize -> authorize
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                .anyRequest().hasRole("ADMIN")
+            )
+            .exceptionHandling(exception -> exception
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .csrf(csrf -> csrf.disable())
+            .httpBasic(httpBasic -> {});
+
+        return http.build();
+    }
  
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("authorization", "content-type", "x-auth-token"));
-        configuration.setExposedHeaders(Arrays.asList("x-auth-token"));
+        configuration.setAllowedHeaders(Arrays.asList("authorization", "content-type", "x-auth-token", "x-queue-token", "idempotency-key"));
+        configuration.setExposedHeaders(Arrays.asList("x-auth-token", "idempotent-replayed"));
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
         return source;
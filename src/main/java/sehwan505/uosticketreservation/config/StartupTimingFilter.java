@@ -0,0 +1,89 @@
+package sehwan505.uosticketreservation.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기동 시간 / 첫 요청까지 걸린 시간 측정
+ * 준비 완료 시 JVM 시작부터의 시간과 활성 프로필을 로그로 남기고,
+ * 첫 API 요청(actuator 제외)이 끝나면 JVM 시작부터 첫 응답까지의 시간과 그 요청의 처리 시간을 남긴다.
+ * 지연 초기화(fast-start 프로필)에서는 빈 생성 비용이 첫 요청으로 옮겨가므로 두 값을 함께 봐야 한다.
+ * (application.started.time / application.ready.time은 Spring Boot가 등록, 여기서는 application.first.request.* 추가)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class StartupTimingFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+
+    // 측정 전에는 NaN (단위: 초)
+    private volatile double firstRequestTime = Double.NaN;
+    private volatile double firstRequestDuration = Double.NaN;
+
+    public StartupTimingFilter(MeterRegistry meterRegistry) {
+        Gauge.builder("application.first.request.time", this, filter -> filter.firstRequestTime)
+                .description("JVM 시작부터 첫 요청 응답까지 걸린 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("application.first.request.duration", this, filter -> filter.firstRequestDuration)
+                .description("첫 요청 처리 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        String[] profiles = event.getApplicationContext().getEnvironment().getActiveProfiles();
+        log.info("기동 완료: 컨텍스트 준비 {}ms, JVM 시작부터 {}ms (프로필: {})",
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1,
+                jvmUptimeMillis(),
+                profiles.length > 0 ? Arrays.toString(profiles) : "default");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return firstRequestSeen.get() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (firstRequestSeen.compareAndSet(false, true)) {
+                long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                long uptimeMillis = jvmUptimeMillis();
+                firstRequestDuration = durationMillis / 1000.0;
+                firstRequestTime = uptimeMillis / 1000.0;
+                log.info("첫 요청 처리: {} {} {}ms, JVM 시작부터 {}ms",
+                        request.getMethod(), request.getRequestURI(), durationMillis, uptimeMillis);
+            }
+        }
+    }
+
+    private static long jvmUptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
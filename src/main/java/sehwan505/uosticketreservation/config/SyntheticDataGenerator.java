@@ -0,0 +1,613 @@
+package sehwan505.uosticketreservation.config;
+
+import sehwan505.uosticketreservation.constants.BusinessConstants;
+import sehwan505.uosticketreservation.constants.RegionConstants;
+import sehwan505.uosticketreservation.constants.SeatGradeConstants;
+import sehwan505.uosticketreservation.constants.StatusConstants;
+import sehwan505.uosticketreservation.entity.ReservationEntity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * 대규모 합성 데이터 생성기 (synthetic-data 프로파일에서 DataInitializer 대신 실행)
+ * 영화관/상영관/좌석/영화/상영일정/회원/비회원/예매/결제/리뷰를 목표 건수만큼 JDBC 배치 INSERT로 병렬 적재한다.
+ * 작업 단위마다 (seed, 단계, 작업 번호)로 난수를 만들므로 같은 설정이면 스레드 수와 관계없이 같은 데이터가 생성된다.
+ * 시퀀스 ID는 Hibernate pooled 방식(시퀀스 값 1회 = ID 50개)으로 할당해 이후 JPA 저장과 겹치지 않는다.
+ * 테이블은 미리 만들어져 있어야 하며(ddl-auto 또는 기존 스키마), 영화 데이터가 있으면 건너뛴다.
+ *
+ * 수백만 건을 적재할 때는 시작 시 매출 집계 재생(analytics.rollup.backfill-on-startup)을 끄고
+ * 필요하면 관리자 집계 재계산 API로 기간을 나눠 만든다.
+ *
+ * 실행 예) --spring.profiles.active=synthetic-data --synthetic-data.reservations=5000000 --synthetic-data.threads=8
+ *         --analytics.rollup.backfill-on-startup=false
+ */
+@Component
+@Profile("synthetic-data")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;    // 엔티티 시퀀스 증가값 (Hibernate 기본값)
+    private static final int MAX_CINEMAS = 99;                 // 영화관 ID 2자리
+    private static final int MAX_SCREENS = 9999;               // 상영관 ID 4자리
+    private static final String[] SCREENING_TIMES = {"0900", "1130", "1400", "1630", "1900", "2130", "2330", "2359"};
+    private static final int SCHEDULES_PER_TASK = 500;
+    private static final String DEFAULT_PASSWORD = "password123";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${synthetic-data.seed:20250101}")
+    private long seed;
+
+    @Value("${synthetic-data.cinemas:50}")
+    private int cinemaCount;
+
+    @Value("${synthetic-data.screens-per-cinema:10}")
+    private int screensPerCinema;
+
+    @Value("${synthetic-data.movies:300}")
+    private int movieCount;
+
+    // 오늘 기준 과거/미래 상영일 수 (오늘 포함)
+    @Value("${synthetic-data.past-days:60}")
+    private int pastDays;
+
+    @Value("${synthetic-data.future-days:7}")
+    private int futureDays;
+
+    @Value("${synthetic-data.screenings-per-day:5}")
+    private int screeningsPerDay;
+
+    @Value("${synthetic-data.members:200000}")
+    private int memberCount;
+
+    @Value("${synthetic-data.non-members:20000}")
+    private int nonMemberCount;
+
+    @Value("${synthetic-data.reservations:2000000}")
+    private long reservationCount;
+
+    @Value("${synthetic-data.reviews:200000}")
+    private int reviewCount;
+
+    // 0이면 CPU 수 (커넥션 풀 크기보다 크면 커넥션을 기다림)
+    @Value("${synthetic-data.threads:0}")
+    private int threads;
+
+    @Value("${synthetic-data.batch-size:1000}")
+    private int batchSize;
+
+    private record Screen(String id, int[] seatIds, String[] seatGradeIds, int[] seatPrices) {
+    }
+
+    private record Schedule(String id, Screen screen, LocalDateTime startTime) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Long movies = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movie", Long.class);
+        if (movies != null && movies > 0) {
+            log.info("📊 기존 데이터가 존재하여 합성 데이터 생성을 건너뜁니다.");
+            return;
+        }
+        validateSettings();
+
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        long startedAt = System.currentTimeMillis();
+        log.info("🧪 합성 데이터 생성 시작: seed={}, 스레드 {}개, 배치 {}건", seed, workers, batchSize);
+        try {
+            insertReferenceData();
+            List<Screen> screens = insertCinemasAndScreens();
+            List<Long> screeningMovieIds = insertMovies();
+            List<Schedule> schedules = insertSchedules(executor, screens, screeningMovieIds);
+            insertMembers(executor);
+            insertNonMembers(executor);
+            insertReservations(executor, schedules);
+            insertReviews(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("✅ 합성 데이터 생성 완료: {}초", (System.currentTimeMillis() - startedAt) / 1000.0);
+    }
+
+    private void validateSettings() {
+        if (cinemaCount < 1 || cinemaCount > MAX_CINEMAS) {
+            throw new IllegalArgumentException("synthetic-data.cinemas는 1 이상 " + MAX_CINEMAS + " 이하여야 합니다.");
+        }
+        if (screensPerCinema < 1 || (long) cinemaCount * screensPerCinema > MAX_SCREENS) {
+            throw new IllegalArgumentException("전체 상영관 수는 1 이상 " + MAX_SCREENS + " 이하여야 합니다.");
+        }
+        if (screeningsPerDay < 1 || screeningsPerDay > SCREENING_TIMES.length) {
+            throw new IllegalArgumentException("synthetic-data.screenings-per-day는 1 이상 " + SCREENING_TIMES.length + " 이하여야 합니다.");
+        }
+        if (movieCount < 1 || pastDays < 0 || futureDays < 0 || memberCount < 0 || nonMemberCount < 0
+                || reservationCount < 0 || reviewCount < 0 || batchSize < 1) {
+            throw new IllegalArgumentException("합성 데이터 건수 설정이 올바르지 않습니다.");
+        }
+    }
+
+    // 지역, 좌석 등급
+    private void insertReferenceData() {
+        List<Object[]> regions = new ArrayList<>();
+        for (RegionConstants.Region region : RegionConstants.Region.values()) {
+            regions.add(new Object[]{region.getCode(), region.getName()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO region (region_id, region_name) VALUES (?, ?)", regions);
+
+        List<Object[]> grades = new ArrayList<>();
+        for (SeatGradeConstants.SeatGrade grade : SeatGradeConstants.SeatGrade.values()) {
+            grades.add(new Object[]{grade.getCode(), grade.getName(), grade.getPrice()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO seat_grade (seat_grade_id, seat_grade_name, seat_price) VALUES (?, ?, ?)", grades);
+    }
+
+    // 영화관, 상영관, 좌석 (좌석 ID는 예매 생성에 필요하므로 메모리에 보관)
+    private List<Screen> insertCinemasAndScreens() {
+        Random random = random(1, 0);
+        RegionConstants.Region[] regions = RegionConstants.Region.values();
+
+        List<Object[]> cinemas = new ArrayList<>();
+        List<Object[]> screenRows = new ArrayList<>();
+        List<Object[]> seatRows = new ArrayList<>();
+        List<Screen> screens = new ArrayList<>();
+        SequenceIds seatIds = new SequenceIds("seat_seq");
+
+        for (int c = 1; c <= cinemaCount; c++) {
+            String cinemaId = String.format(BusinessConstants.Format.TWO_DIGIT_FORMAT, c);
+            RegionConstants.Region region = regions[random.nextInt(regions.length)];
+            cinemas.add(new Object[]{cinemaId, "합성" + cinemaId + "점",
+                    region.getName() + " 합성로 " + (100 + c), region.getCode()});
+
+            for (int s = 1; s <= screensPerCinema; s++) {
+                String screenId = String.format(BusinessConstants.Format.FOUR_DIGIT_FORMAT, screens.size() + 1);
+                int totalSeats = BusinessConstants.Seat.MIN_TOTAL_SEATS
+                        + random.nextInt(BusinessConstants.Seat.MAX_TOTAL_SEATS - BusinessConstants.Seat.MIN_TOTAL_SEATS + 1);
+                Screen screen = generateSeats(screenId, totalSeats, seatIds, seatRows);
+                screenRows.add(new Object[]{screenId, s + "관", screen.seatIds().length, cinemaId});
+                screens.add(screen);
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO cinema (cinema_id, cinema_name, cinema_location, region_id) VALUES (?, ?, ?, ?)", cinemas);
+        batchInsert("INSERT INTO screen (screen_id, screen_name, total_seats, cinema_id) VALUES (?, ?, ?, ?)", screenRows);
+        batchInsert("INSERT INTO seat (seat_id, seat_grade_id, row_id, column_id, screen_id) VALUES (?, ?, ?, ?, ?)", seatRows);
+        log.info("🏢 영화관 {}개, 상영관 {}개, 좌석 {}개", cinemas.size(), screens.size(), seatRows.size());
+        return screens;
+    }
+
+    // DataInitializer와 같은 행 비율로 좌석 등급 배치
+    private Screen generateSeats(String screenId, int totalSeats, SequenceIds seatIds, List<Object[]> seatRows) {
+        int seatsPerRow = BusinessConstants.Seat.DEFAULT_SEATS_PER_ROW;
+        int rows = (totalSeats + seatsPerRow - 1) / seatsPerRow;
+
+        List<Integer> ids = new ArrayList<>();
+        List<SeatGradeConstants.SeatGrade> grades = new ArrayList<>();
+        int seatCount = 0;
+        for (int row = 0; row < rows && seatCount < totalSeats; row++) {
+            int seatsInThisRow = Math.min(seatsPerRow, totalSeats - seatCount);
+            SeatGradeConstants.SeatGrade grade;
+            if (row < rows * BusinessConstants.Seat.STANDARD_RATIO) {
+                grade = SeatGradeConstants.SeatGrade.STANDARD;
+            } else if (row < rows * BusinessConstants.Seat.PREMIUM_RATIO) {
+                grade = SeatGradeConstants.SeatGrade.PREMIUM;
+            } else if (row < rows * BusinessConstants.Seat.VIP_RATIO) {
+                grade = SeatGradeConstants.SeatGrade.VIP;
+            } else {
+                grade = SeatGradeConstants.SeatGrade.COUPLE;
+                seatsInThisRow = Math.min(seatsInThisRow, BusinessConstants.Seat.COUPLE_SEAT_MAX_PER_ROW);
+            }
+            for (int col = 1; col <= seatsInThisRow; col++) {
+                int seatId = (int) seatIds.next();
+                seatRows.add(new Object[]{seatId, grade.getCode(), String.valueOf((char) ('A' + row)),
+                        String.format(BusinessConstants.Format.TWO_DIGIT_FORMAT, col), screenId});
+                ids.add(seatId);
+                grades.add(grade);
+                seatCount++;
+            }
+        }
+
+        int[] seatIdArray = new int[ids.size()];
+        String[] gradeIds = new String[ids.size()];
+        int[] prices = new int[ids.size()];
+        for (int i = 0; i < seatIdArray.length; i++) {
+            seatIdArray[i] = ids.get(i);
+            gradeIds[i] = grades.get(i).getCode();
+            prices[i] = grades.get(i).getPrice();
+        }
+        return new Screen(screenId, seatIdArray, gradeIds, prices);
+    }
+
+    // 영화 (상영중 60%, 상영 예정 20%, 상영 종료 20%), 상영중인 영화 ID 반환
+    private List<Long> insertMovies() {
+        Random random = random(2, 0);
+        String[] genres = {"AC", "DR", "SF", "AN", "HO", "RO", "CO", "TH"};
+        String[] viewingGrades = {"전체", "12", "15", "18"};
+        SequenceIds movieIds = new SequenceIds("movie_seq");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>();
+        List<Long> screeningMovieIds = new ArrayList<>();
+        for (int i = 1; i <= movieCount; i++) {
+            long movieId = movieIds.next();
+            String status;
+            if (i == 1 || random.nextDouble() < 0.6) {
+                status = StatusConstants.Movie.SCREENING;
+                screeningMovieIds.add(movieId);
+            } else {
+                status = random.nextBoolean() ? StatusConstants.Movie.NOT_SCREENING : StatusConstants.Movie.ENDED;
+            }
+            String releaseDate = LocalDate.now().minusDays(random.nextInt(365) - 60L).format(DATE_FORMAT);
+            rows.add(new Object[]{movieId, String.format("합성 영화 %05d", i), genres[random.nextInt(genres.length)],
+                    releaseDate, status, 80 + random.nextInt(100), "배우" + i, "감독" + i, "합성배급",
+                    viewingGrades[random.nextInt(viewingGrades.length)], "합성 데이터 영화 " + i, null,
+                    Math.round((2.5 + random.nextDouble() * 2.5) * 100) / 100.0, now, now});
+        }
+        batchInsert("INSERT INTO movie (movie_id, movie_title, movie_genre, release_date, screening_status, runtime, "
+                + "actor_name, director_name, distributor_name, viewing_grade, movie_description, movie_image, movie_rating, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        log.info("🎬 영화 {}편 (상영중 {}편)", rows.size(), screeningMovieIds.size());
+        return screeningMovieIds;
+    }
+
+    // 상영일정: 상영관 x 상영일 x 회차, ID 형식은 DataInitializer와 같음 (YYMMDD + 상영관ID + 회차)
+    private List<Schedule> insertSchedules(ExecutorService executor, List<Screen> screens,
+                                           List<Long> screeningMovieIds) throws Exception {
+        LocalDate firstDay = LocalDate.now().minusDays(pastDays);
+        int days = pastDays + futureDays + 1;
+        List<Schedule> schedules = new ArrayList<>(screens.size() * days * screeningsPerDay);
+        List<Long> movieIds = new ArrayList<>(schedules.size());
+
+        Random random = random(3, 0);
+        for (int day = 0; day < days; day++) {
+            LocalDate date = firstDay.plusDays(day);
+            String dateId = date.format(DATE_FORMAT).substring(2);
+            for (Screen screen : screens) {
+                for (int slot = 0; slot < screeningsPerDay; slot++) {
+                    LocalTime time = LocalTime.parse(SCREENING_TIMES[slot], DateTimeFormatter.ofPattern("HHmm"));
+                    schedules.add(new Schedule(dateId + screen.id() + slot, screen, date.atTime(time)));
+                    movieIds.add(screeningMovieIds.get(random.nextInt(screeningMovieIds.size())));
+                }
+            }
+        }
+
+        runParallel(executor, "상영일정", tasks(schedules.size(), SCHEDULES_PER_TASK), task -> {
+            List<Object[]> rows = new ArrayList<>(SCHEDULES_PER_TASK);
+            int from = task * SCHEDULES_PER_TASK;
+            for (int i = from; i < Math.min(from + SCHEDULES_PER_TASK, schedules.size()); i++) {
+                Schedule schedule = schedules.get(i);
+                rows.add(new Object[]{schedule.id(), movieIds.get(i), schedule.screen().id(),
+                        schedule.startTime().toLocalDate().format(DATE_FORMAT), Timestamp.valueOf(schedule.startTime())});
+            }
+            batchInsert("INSERT INTO schedule (schedule_id, movie_id, screen_id, screening_date, screening_start_time) "
+                    + "VALUES (?, ?, ?, ?, ?)", rows);
+        });
+        log.info("📅 상영일정 {}개 ({} ~ {})", schedules.size(), firstDay, firstDay.plusDays(days - 1));
+        return schedules;
+    }
+
+    // 회원: admin/testuser + userNNNNNNN (비밀번호는 모두 password123, 해시는 한 번만 계산)
+    private void insertMembers(ExecutorService executor) throws Exception {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(MEMBER_INSERT, List.of(
+                new Object[]{"admin", passwordEncoder.encode("admin123"), "admin@cinema.com", "01000000000",
+                        "19800101", StatusConstants.MemberGrade.ADMIN, 100000, now, now},
+                new Object[]{"testuser", passwordEncoder.encode(DEFAULT_PASSWORD), "test@example.com", "01012345678",
+                        "19900101", StatusConstants.MemberGrade.BASIC, BusinessConstants.Points.INITIAL_POINTS + 5000, now, now}));
+
+        String passwordHash = passwordEncoder.encode(DEFAULT_PASSWORD);
+        String[] grades = {StatusConstants.MemberGrade.BASIC, StatusConstants.MemberGrade.BASIC, StatusConstants.MemberGrade.BASIC,
+                StatusConstants.MemberGrade.SILVER, StatusConstants.MemberGrade.SILVER, StatusConstants.MemberGrade.GOLD,
+                StatusConstants.MemberGrade.PLATINUM, StatusConstants.MemberGrade.DIAMOND};
+        String[] domains = {"gmail.com", "naver.com", "daum.net", "kakao.com", "yahoo.com"};
+
+        runParallel(executor, "회원", tasks(memberCount, batchSize), task -> {
+            Random random = random(4, task);
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            for (int i = task * batchSize + 1; i <= Math.min((task + 1) * batchSize, memberCount); i++) {
+                String userId = memberId(i);
+                rows.add(new Object[]{userId, passwordHash, userId + "@" + domains[random.nextInt(domains.length)],
+                        String.format("010%08d", i), String.format("%04d%02d%02d", 1960 + random.nextInt(45),
+                        1 + random.nextInt(12), 1 + random.nextInt(28)), grades[random.nextInt(grades.length)],
+                        random.nextInt(50000), now, now});
+            }
+            jdbcTemplate.batchUpdate(MEMBER_INSERT, rows);
+        });
+        log.info("👤 회원 {}명", memberCount + 2);
+    }
+
+    private static final String MEMBER_INSERT = "INSERT INTO member (user_id, password, email_address, phone_number, "
+            + "birth_date, member_grade, available_points, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 비회원: 회원과 겹치지 않는 019 번호대
+    private void insertNonMembers(ExecutorService executor) throws Exception {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        runParallel(executor, "비회원", tasks(nonMemberCount, batchSize), task -> {
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            for (int i = task * batchSize + 1; i <= Math.min((task + 1) * batchSize, nonMemberCount); i++) {
+                rows.add(new Object[]{nonMemberPhone(i), now, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO non_member (phone_number, created_at, updated_at) VALUES (?, ?, ?)", rows);
+        });
+        log.info("📱 비회원 {}명", nonMemberCount);
+    }
+
+    /**
+     * 예매와 결제
+     * 상영일정마다 가중치(0.5~1.5)에 비례해 목표 건수를 나누고 좌석 수로 제한한다.
+     * 지난 상영: 결제 완료 90% / 취소 10%, 앞으로의 상영: 결제 완료 80% / 미결제 10% / 취소 10%
+     */
+    private void insertReservations(ExecutorService executor, List<Schedule> schedules) throws Exception {
+        if (reservationCount == 0 || (memberCount == 0 && nonMemberCount == 0)) {
+            return;
+        }
+
+        Random random = random(5, 0);
+        double[] weights = new double[schedules.size()];
+        double weightSum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 0.5 + random.nextDouble();
+            weightSum += weights[i];
+        }
+        int[] quotas = new int[schedules.size()];
+        long capacity = 0;
+        for (int i = 0; i < quotas.length; i++) {
+            int seats = schedules.get(i).screen().seatIds().length;
+            quotas[i] = (int) Math.min(seats, Math.round(reservationCount * weights[i] / weightSum));
+            capacity += seats;
+        }
+        if (reservationCount > capacity) {
+            log.warn("⚠️ 예매 목표 {}건이 전체 좌석 수 {}석보다 많아 모든 좌석을 예매합니다.", reservationCount, capacity);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        AtomicLong reservations = new AtomicLong();
+        AtomicLong payments = new AtomicLong();
+
+        runParallel(executor, "예매", tasks(schedules.size(), SCHEDULES_PER_TASK), task -> {
+            Random taskRandom = random(6, task);
+            List<Object[]> paymentRows = new ArrayList<>(batchSize);
+            List<Object[]> reservationRows = new ArrayList<>(batchSize);
+
+            int from = task * SCHEDULES_PER_TASK;
+            for (int s = from; s < Math.min(from + SCHEDULES_PER_TASK, schedules.size()); s++) {
+                Schedule schedule = schedules.get(s);
+                Screen screen = schedule.screen();
+                boolean past = schedule.startTime().isBefore(now);
+
+                // 좌석 순서를 앞쪽 quota개만 섞어 중복 없는 좌석 선택
+                int[] order = new int[screen.seatIds().length];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                for (int i = 0; i < quotas[s]; i++) {
+                    int j = i + taskRandom.nextInt(order.length - i);
+                    int swap = order[i];
+                    order[i] = order[j];
+                    order[j] = swap;
+
+                    int seat = order[i];
+                    addReservation(taskRandom, schedule, seat, past, now, paymentRows, reservationRows);
+                    if (reservationRows.size() >= batchSize) {
+                        flushReservations(paymentRows, reservationRows, payments, reservations);
+                    }
+                }
+            }
+            flushReservations(paymentRows, reservationRows, payments, reservations);
+        });
+        log.info("🎫 예매 {}건, 💳 결제 {}건", reservations.get(), payments.get());
+    }
+
+    private void addReservation(Random random, Schedule schedule, int seat, boolean past, LocalDateTime now,
+                                List<Object[]> paymentRows, List<Object[]> reservationRows) {
+        Screen screen = schedule.screen();
+        double roll = random.nextDouble();
+        String status;
+        if (roll < 0.1) {
+            status = StatusConstants.Reservation.CANCELLED;
+        } else if (!past && roll < 0.2) {
+            status = StatusConstants.Reservation.NOT_COMPLETED;
+        } else {
+            status = StatusConstants.Reservation.COMPLETED;
+        }
+
+        boolean member = nonMemberCount == 0 || (memberCount > 0 && random.nextDouble() < 0.85);
+        String userId = member ? memberId(1 + random.nextInt(memberCount)) : null;
+        String phoneNumber = member ? null : nonMemberPhone(1 + random.nextInt(nonMemberCount));
+
+        int basePrice = screen.seatPrices()[seat];
+        String discountCode = null;
+        Integer discountAmount = null;
+        int finalPrice = basePrice;
+        if (random.nextDouble() < 0.3) {
+            discountCode = StatusConstants.DiscountCode.YOUTH_SENIOR;
+            discountAmount = StatusConstants.DiscountCode.YOUTH_SENIOR_AMOUNT;
+            finalPrice = basePrice - discountAmount;
+        }
+
+        LocalDateTime reservationTime = schedule.startTime().minusMinutes(30 + random.nextInt(60 * 24 * 14));
+        if (reservationTime.isAfter(now)) {
+            reservationTime = now.minusMinutes(random.nextInt(60 * 24));
+        }
+        Timestamp reservedAt = Timestamp.valueOf(reservationTime);
+
+        String paymentId = null;
+        if (StatusConstants.Reservation.COMPLETED.equals(status)) {
+            paymentId = new UUID(random.nextLong(), random.nextLong()).toString();
+            Timestamp paidAt = Timestamp.valueOf(reservationTime.plusMinutes(1 + random.nextInt(10)));
+            paymentRows.add(new Object[]{paymentId, random.nextBoolean() ? "CARD_COMPANY" : "BANK_COMPANY", null,
+                    finalPrice, paidAt, StatusConstants.Payment.COMPLETED, "SYN" + paymentId.substring(0, 8), paidAt, paidAt});
+        }
+
+        String ticketIssuance = past && paymentId != null && random.nextDouble() < 0.7
+                ? StatusConstants.TicketIssuance.ISSUED : StatusConstants.TicketIssuance.NOT_ISSUED;
+        int seatId = screen.seatIds()[seat];
+        // 실시간 예매 ID(스케줄ID + 좌석ID + 1부터 시작하는 순번)와 겹치지 않도록 순번 00 사용
+        String occupiedSeatKey = StatusConstants.Reservation.CANCELLED.equals(status)
+                ? null : ReservationEntity.occupiedSeatKey(schedule.id(), seatId);
+        reservationRows.add(new Object[]{schedule.id() + seatId + "00", schedule.id(), seatId, status,
+                screen.seatGradeIds()[seat], reservedAt, basePrice, "N", discountCode, discountAmount, finalPrice,
+                paymentId, userId, phoneNumber, ticketIssuance, occupiedSeatKey, reservedAt, reservedAt});
+    }
+
+    // 결제를 먼저 넣어야 예매의 결제 FK가 맞음
+    private void flushReservations(List<Object[]> paymentRows, List<Object[]> reservationRows,
+                                   AtomicLong payments, AtomicLong reservations) {
+        if (!paymentRows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO payment (payment_id, payment_method, deducted_points, payment_amount, "
+                    + "payment_time, payment_status, payment_approval_number, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", paymentRows);
+            payments.addAndGet(paymentRows.size());
+            paymentRows.clear();
+        }
+        if (!reservationRows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO reservation (reservation_id, schedule_id, seat_id, reservation_status, "
+                    + "seat_grade_id, reservation_time, base_price, is_transferred, discount_code, discount_amount, "
+                    + "final_price, payment_id, user_id, phone_number, ticket_issuance_status, occupied_seat_key, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", reservationRows);
+            reservations.addAndGet(reservationRows.size());
+            reservationRows.clear();
+        }
+    }
+
+    private void insertReviews(ExecutorService executor) throws Exception {
+        if (reviewCount == 0 || memberCount == 0) {
+            return;
+        }
+        List<Long> movieIds = jdbcTemplate.queryForList("SELECT movie_id FROM movie ORDER BY movie_id", Long.class);
+        String[] contents = {"정말 재미있었어요!", "배우들의 연기가 훌륭합니다.", "스토리가 조금 아쉬웠어요.",
+                "영상미가 뛰어납니다.", "다시 보고 싶은 영화예요.", "기대보다는 평범했어요."};
+
+        // 리뷰 ID는 호출 스레드에서 작업 순서대로 미리 할당 (스레드 실행 순서와 관계없이 같은 ID)
+        int taskCount = tasks(reviewCount, batchSize);
+        SequenceIds reviewIds = new SequenceIds("review_seq");
+        List<List<long[]>> reviewIdRanges = new ArrayList<>(taskCount);
+        for (int task = 0; task < taskCount; task++) {
+            reviewIdRanges.add(reviewIds.reserve(Math.min((task + 1) * batchSize, reviewCount) - task * batchSize));
+        }
+
+        runParallel(executor, "리뷰", taskCount, task -> {
+            Random random = random(7, task);
+            PrimitiveIterator.OfLong ids = reviewIdRanges.get(task).stream()
+                    .flatMapToLong(range -> LongStream.rangeClosed(range[0], range[1]))
+                    .iterator();
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            for (int i = task * batchSize; i < Math.min((task + 1) * batchSize, reviewCount); i++) {
+                Timestamp writtenAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(60 * 24 * 365)));
+                rows.add(new Object[]{ids.nextLong(), movieIds.get(random.nextInt(movieIds.size())),
+                        memberId(1 + random.nextInt(memberCount)),
+                        BusinessConstants.Rating.MIN_RATING + random.nextInt(
+                                BusinessConstants.Rating.MAX_RATING - BusinessConstants.Rating.MIN_RATING + 1),
+                        contents[random.nextInt(contents.length)], writtenAt, writtenAt});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO review (review_id, movie_id, user_id, rating_value, review_content, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+        log.info("⭐ 리뷰 {}개", reviewCount);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+    }
+
+    // 작업 번호 0..taskCount-1을 병렬 실행하고 하나라도 실패하면 예외 전파
+    private void runParallel(ExecutorService executor, String name, int taskCount, IntConsumer task) throws Exception {
+        long startedAt = System.currentTimeMillis();
+        List<Future<?>> futures = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            int taskIndex = i;
+            futures.add(executor.submit(() -> task.accept(taskIndex)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        log.info("{} 적재: {}ms", name, System.currentTimeMillis() - startedAt);
+    }
+
+    private static int tasks(long items, int itemsPerTask) {
+        return (int) ((items + itemsPerTask - 1) / itemsPerTask);
+    }
+
+    // 단계와 작업 번호별로 고정된 난수 (스레드 수와 실행 순서에 영향받지 않음)
+    private Random random(int phase, int task) {
+        return new Random(seed * 1_000_003L + phase * 10_007L + task);
+    }
+
+    private static String memberId(int index) {
+        return String.format("user%07d", index);
+    }
+
+    private static String nonMemberPhone(int index) {
+        return String.format("019%08d", index);
+    }
+
+    /**
+     * Hibernate pooled 방식 시퀀스 ID 할당
+     * 시퀀스 값 v 하나로 (v - 49) ~ v 범위를 사용하므로 JPA가 이후 받는 범위와 겹치지 않는다.
+     */
+    private final class SequenceIds {
+
+        private final String nextValueSql;
+        private long next = 1;
+        private long last = 0;
+
+        private SequenceIds(String sequenceName) {
+            this.nextValueSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect().getSequenceSupport().getSequenceNextValString(sequenceName);
+        }
+
+        private long next() {
+            if (next > last) {
+                Long hi = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+                last = hi;
+                next = Math.max(1, hi - SEQUENCE_ALLOCATION_SIZE + 1);
+            }
+            return next++;
+        }
+
+        // 다음 count개 ID를 연속 구간([시작, 끝]) 목록으로 예약 (next()와 같은 순서로 할당)
+        private List<long[]> reserve(int count) {
+            List<long[]> ranges = new ArrayList<>();
+            int remaining = count;
+            while (remaining > 0) {
+                long from = next();
+                long to = Math.min(last, from + remaining - 1);
+                ranges.add(new long[]{from, to});
+                remaining -= (int) (to - from + 1);
+                next = to + 1;
+            }
+            return ranges;
+        }
+    }
+}
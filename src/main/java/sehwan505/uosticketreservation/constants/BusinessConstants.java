@@ -42,6 +42,10 @@ public class BusinessConstants {
         public static final int MIN_TOTAL_SEATS = 80;          // 최소 총 좌석 수
         public static final int MAX_TOTAL_SEATS = 140;         // 최대 총 좌석 수
         public static final int COUPLE_SEAT_MAX_PER_ROW = 10;  // 커플석 한 줄 최대 수
+        public static final int MAX_AUTO_SELECT_SEATS = 10;    // 자동 좌석 배정 최대 인원
+        public static final double IDEAL_ROW_RATIO = 0.6;      // 자동 배정 선호 행 위치 (앞에서부터 60%)
+        public static final int MAX_LAYOUT_ROWS = 26;          // 좌석 배치 최대 행 수 (A~Z)
+        public static final int MAX_LAYOUT_COLUMNS = 99;       // 좌석 배치 최대 열 수 (01~99)
         
         // 좌석 등급별 배치 비율
         public static final double STANDARD_RATIO = 0.4;       // 앞쪽 40%: 일반석
@@ -21,6 +21,7 @@ public class StatusConstants {
         public static final String NOT_COMPLETED = "N";   // 결제 미완료
         public static final String PROCESSING = "D";      // 결제 중
         public static final String COMPLETED = "Y";       // 결제 완료
+        public static final String CANCELLED = "C";       // 결제 취소 (환불)
     }
     
     /**
@@ -79,6 +80,16 @@ public class StatusConstants {
         public static final String NOT_TRANSFERRED = "N"; // 전달안됨
     }
     
+    /**
+     * 대기열 상태 코드
+     */
+    public static class Waitlist {
+        public static final String WAITING = "W";         // 대기 중
+        public static final String OFFERED = "O";         // 좌석 제안됨
+        public static final String CLAIMED = "Y";         // 제안 좌석 예매 완료
+        public static final String CANCELLED = "D";       // 대기 취소/제안 만료
+    }
+    
     /**
      * 할인 코드
      */
@@ -7,6 +7,9 @@ import sehwan505.uosticketreservation.service.ScreenService;
 import sehwan505.uosticketreservation.service.SeatService;
 import sehwan505.uosticketreservation.service.MemberService;
 import sehwan505.uosticketreservation.service.NonMemberService;
+import sehwan505.uosticketreservation.service.AdmissionService;
+import sehwan505.uosticketreservation.service.ReferenceDataCacheService;
+import sehwan505.uosticketreservation.service.ReservationJournalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +20,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -36,6 +41,9 @@ public class AdminController {
     private final ScheduleService scheduleService;
     private final MemberService memberService;
     private final NonMemberService nonMemberService;
+    private final AdmissionService admissionService;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final ReservationJournalService reservationJournalService;
     
     // ===== 영화관 관리 =====
     
@@ -191,6 +199,42 @@ public class AdminController {
             return ResponseEntity.badRequest().body(response);
         }
     }
+
+    @PostMapping("/cache/reference/reload")
+    @Operation(summary = "기준 데이터 캐시 초기화",
+               description = "지역/좌석 등급/영화관/상영관 2차 캐시를 비우고 다시 적재합니다. DB를 직접 수정한 뒤 호출합니다.")
+    public ResponseEntity<Map<String, Object>> reloadReferenceDataCache() {
+        referenceDataCacheService.reload();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "기준 데이터 캐시를 다시 적재했습니다.");
+        return ResponseEntity.ok(response);
+    }
+
+    // ===== 예매 저널 =====
+
+    @GetMapping("/journal/reservations")
+    @Operation(summary = "예매 저널 조회",
+               description = "예매 상태 변경 저널을 from 위치부터 읽습니다. 응답의 nextPosition을 다음 요청의 from으로 넘기면 이어서 읽습니다.")
+    public ResponseEntity<Map<String, Object>> tailReservationJournal(
+            @Parameter(description = "읽기 시작 위치 (비우면 보관 중인 가장 오래된 위치)") @RequestParam(required = false) Long from,
+            @Parameter(description = "최대 이벤트 수 (1~1000)") @RequestParam(defaultValue = "100") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        if (!reservationJournalService.isEnabled()) {
+            response.put("success", false);
+            response.put("message", "예매 저널이 비활성화되어 있습니다.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
+
+        ReservationJournalService.Page page = reservationJournalService.tail(
+                from != null ? from : reservationJournalService.startPosition(), Math.max(1, Math.min(limit, 1000)));
+        response.put("success", true);
+        response.put("events", page.events());
+        response.put("nextPosition", page.nextPosition());
+        response.put("endPosition", reservationJournalService.endPosition());
+        return ResponseEntity.ok(response);
+    }
     
     // ===== 좌석 관리 =====
     
@@ -304,6 +348,61 @@ public class AdminController {
         }
     }
     
+    @PutMapping("/screens/{screenId}/seats/layout")
+    @Operation(
+        summary = "상영관 좌석 배치 일괄 등록",
+        description = "행별 문자열로 표현한 좌석 배치 전체를 한 트랜잭션으로 반영합니다. "
+                + "한 글자가 한 열이며 grades에 정의한 등급 코드, '.' 또는 공백은 통로/빈 칸입니다. "
+                + "없는 좌석은 추가하고 등급이 다른 좌석은 등급을 바꾸며, removeMissing이 true이면 배치에 없는 좌석을 삭제합니다. (예매 이력이 있는 좌석은 삭제할 수 없음) "
+                + "예) {\"rows\": [\"SSSS.SSSS\", \"PPPP.PPPP\", \"CC.....CC\"], \"grades\": {\"S\": \"A\", \"P\": \"B\", \"C\": \"C\"}}"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "좌석 배치 등록 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "등록 결과",
+                    value = """
+                    {
+                        "success": true,
+                        "message": "좌석 배치가 반영되었습니다.",
+                        "result": {
+                            "screenId": "0101",
+                            "created": 120,
+                            "gradeChanged": 0,
+                            "removed": 0,
+                            "unchanged": 0,
+                            "totalSeats": 120
+                        }
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "잘못된 배치 또는 예약이 있는 좌석 삭제 시도")
+    })
+    public ResponseEntity<Map<String, Object>> importSeatLayout(
+            @Parameter(description = "상영관 ID", required = true) @PathVariable String screenId,
+            @RequestBody SeatLayoutImportDto layoutDto) {
+        try {
+            SeatLayoutImportResultDto result = seatService.importLayout(screenId, layoutDto);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "좌석 배치가 반영되었습니다.");
+            response.put("result", result);
+            
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
     // ===== 상영 일정 관리 =====
     
     @GetMapping("/schedules")
@@ -679,7 +778,7 @@ public class AdminController {
     @GetMapping("/nonmembers")
     @Operation(
         summary = "모든 비회원 조회", 
-        description = "모든 비회원 목록과 각각의 예약 내역을 조회합니다."
+        description = "비회원 목록과 각각의 예약 내역을 전화번호 순으로 페이징하여 조회합니다. (페이지 크기 최대 1000)"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -690,7 +789,8 @@ public class AdminController {
                 examples = @ExampleObject(
                     name = "비회원 목록 응답",
                     value = """
-                    [
+                    {
+                      "content": [
                         {
                             "phoneNumber": "010-1111-2222",
                             "totalReservations": 3,
@@ -708,14 +808,22 @@ public class AdminController {
                                 }
                             ]
                         }
-                    ]
+                      ],
+                      "totalElements": 1,
+                      "totalPages": 1
+                    }
                     """
                 )
             )
         )
     })
-    public ResponseEntity<List<NonMemberWithReservationsDto>> getAllNonMembersWithReservations() {
-        List<NonMemberWithReservationsDto> nonMembers = nonMemberService.findAllNonMembersWithReservations();
+    public ResponseEntity<Page<NonMemberWithReservationsDto>> getAllNonMembersWithReservations(
+            @Parameter(description = "페이지 번호", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기", example = "100")
+            @RequestParam(defaultValue = "100") int size) {
+        Page<NonMemberWithReservationsDto> nonMembers =
+                nonMemberService.findNonMembersWithReservations(PageRequest.of(page, size));
         return ResponseEntity.ok(nonMembers);
     }
     
@@ -744,4 +852,71 @@ public class AdminController {
         NonMemberWithReservationsDto nonMember = nonMemberService.findNonMemberWithReservations(phoneNumber);
         return ResponseEntity.ok(nonMember);
     }
-} 
\ No newline at end of file
+    
+    // ===== 예매 대기실 관리 =====
+    
+    @GetMapping("/admission")
+    @Operation(summary = "대기실 현황 조회", description = "운영 중인 예매 대기실 목록과 입장 현황을 조회합니다.")
+    public ResponseEntity<List<Map<String, Object>>> getAdmissionRooms() {
+        return ResponseEntity.ok(admissionService.findOpenRooms());
+    }
+    
+    @PostMapping("/admission/schedules/{scheduleId}")
+    @Operation(summary = "상영일정 대기실 오픈", description = "특정 상영일정의 예매 API에 초당 입장 수 제한을 적용합니다.")
+    public ResponseEntity<Map<String, Object>> openScheduleAdmission(
+            @Parameter(description = "스케줄 ID", required = true) @PathVariable String scheduleId,
+            @Parameter(description = "초당 입장 수") @RequestParam(required = false) Double ratePerSecond,
+            @Parameter(description = "오픈 직후 즉시 입장 인원") @RequestParam(required = false) Integer burst) {
+        try {
+            String roomKey = admissionService.openForSchedule(scheduleId, ratePerSecond, burst);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "대기실이 오픈되었습니다.");
+            response.put("roomKey", roomKey);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    @PostMapping("/admission/movies/{movieId}")
+    @Operation(summary = "영화 대기실 오픈", description = "특정 영화의 모든 상영일정 예매 API에 하나의 대기실을 적용합니다.")
+    public ResponseEntity<Map<String, Object>> openMovieAdmission(
+            @Parameter(description = "영화 ID", required = true) @PathVariable Long movieId,
+            @Parameter(description = "초당 입장 수") @RequestParam(required = false) Double ratePerSecond,
+            @Parameter(description = "오픈 직후 즉시 입장 인원") @RequestParam(required = false) Integer burst) {
+        try {
+            String roomKey = admissionService.openForMovie(movieId, ratePerSecond, burst);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "대기실이 오픈되었습니다.");
+            response.put("roomKey", roomKey);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    @DeleteMapping("/admission")
+    @Operation(summary = "대기실 종료", description = "예매 대기실을 종료하고 입장 제한을 해제합니다.")
+    public ResponseEntity<Map<String, Object>> closeAdmission(
+            @Parameter(description = "대기실 키 (예: S:250601000101, M:1)", required = true) @RequestParam String roomKey) {
+        boolean closed = admissionService.close(roomKey);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", closed);
+        response.put("message", closed ? "대기실이 종료되었습니다." : "운영 중인 대기실이 없습니다.");
+        
+        return ResponseEntity.ok(response);
+    }
+}
\ No newline at end of file
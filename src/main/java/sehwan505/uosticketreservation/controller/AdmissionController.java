@@ -0,0 +1,96 @@
+package sehwan505.uosticketreservation.controller;
+
+import sehwan505.uosticketreservation.config.AdmissionControlFilter;
+import sehwan505.uosticketreservation.service.AdmissionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/queue")
+@RequiredArgsConstructor
+@Tag(name = "Queue API", description = "예매 대기실 API")
+public class AdmissionController {
+
+    private final AdmissionService admissionService;
+
+    // 대기 토큰 발급
+    @PostMapping("/schedules/{scheduleId}/tokens")
+    @Operation(
+        summary = "대기 토큰 발급",
+        description = "대기실이 열린 상영일정의 대기 토큰을 발급합니다. 입장 허가 후 X-Queue-Token 헤더로 예매 API를 호출합니다. "
+                + "토큰은 발급받은 회원(로그인한 경우) 또는 IP에서만 사용할 수 있으므로 로그인 후 예매하려면 로그인한 상태로 발급받아야 합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "대기 토큰 발급 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = """
+                    {
+                        "token": "UzoyNTA2MDEwMDAxMDF8MTUzfDE3MTk...",
+                        "position": 153,
+                        "etaSeconds": 4,
+                        "admitted": false
+                    }
+                    """
+                )
+            )
+        )
+    })
+    public ResponseEntity<Map<String, Object>> issueToken(
+            @Parameter(description = "스케줄 ID", required = true)
+            @PathVariable String scheduleId,
+            HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(toResponse(
+                    admissionService.issueToken(scheduleId, AdmissionControlFilter.clientKey(request))));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    // 대기 순번 및 예상 대기 시간 조회
+    @GetMapping("/status")
+    @Operation(
+        summary = "대기 순번 조회",
+        description = "대기 토큰의 현재 순번과 예상 대기 시간(초)을 조회합니다."
+    )
+    public ResponseEntity<Map<String, Object>> getStatus(
+            @Parameter(description = "대기 토큰", required = true)
+            @RequestHeader(AdmissionControlFilter.QUEUE_TOKEN_HEADER) String token) {
+        try {
+            return ResponseEntity.ok(toResponse(admissionService.getStatus(token)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    private Map<String, Object> toResponse(AdmissionService.QueueStatus status) {
+        return Map.of(
+                "token", status.getToken(),
+                "position", status.getPosition(),
+                "etaSeconds", status.getEtaSeconds(),
+                "admitted", status.isAdmitted()
+        );
+    }
+}
@@ -0,0 +1,116 @@
+package sehwan505.uosticketreservation.controller;
+
+import sehwan505.uosticketreservation.dto.SalesSummaryDto;
+import sehwan505.uosticketreservation.service.SalesAnalyticsService;
+import sehwan505.uosticketreservation.service.SalesRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Admin Analytics", description = "관리자 매출 분석 API")
+public class AnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+    private final SalesRollupService salesRollupService;
+
+    // 매출 요약 조회
+    @GetMapping("/sales")
+    @Operation(
+        summary = "매출 요약 조회",
+        description = "상영일 기준 기간(기본: 이번 달 1일 ~ 오늘)의 판매 좌석 수, 매출, 평균 할인 금액, 점유율, 취소/환불 현황을 "
+                + "상영일/영화/영화관/상영관/좌석 등급별로 조회합니다. 일별 집계 테이블에서 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "매출 요약 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "영화별 매출",
+                    value = """
+                    [
+                        {
+                            "groupKey": "1",
+                            "label": "아바타: 물의 길",
+                            "ticketsSold": 412,
+                            "revenue": 4862000,
+                            "averageDiscount": 850,
+                            "occupancyRate": 37.4,
+                            "cancelledCount": 58,
+                            "refundedCount": 6,
+                            "refundedAmount": 72000
+                        }
+                    ]
+                    """
+                )
+            )
+        )
+    })
+    public ResponseEntity<?> getSalesSummary(
+            @Parameter(description = "집계 기준 (date, movie, cinema, screen, seat-grade)", example = "movie")
+            @RequestParam(defaultValue = "date") String groupBy,
+            @Parameter(description = "시작 상영일 (포함)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 상영일 (포함)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "영화 ID")
+            @RequestParam(required = false) Long movieId,
+            @Parameter(description = "영화관 ID")
+            @RequestParam(required = false) String cinemaId) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.withDayOfMonth(1);
+            List<SalesSummaryDto> summaries = salesAnalyticsService.summarize(
+                    SalesAnalyticsService.GroupBy.from(groupBy), start, end, movieId, cinemaId);
+            return ResponseEntity.ok(summaries);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    // 일별 집계 재생성
+    @PostMapping("/rollups/rebuild")
+    @Operation(
+        summary = "일별 매출 집계 재생성",
+        description = "상영일 기간의 일별 집계를 예매 테이블에서 다시 계산합니다. 취소된 예매는 결제 ID가 있으면 환불, 없으면 결제 전 취소로 집계합니다. "
+                + "비정상 종료로 반영되지 못한 증분이 있으면 해당 기간을 재생성하세요."
+    )
+    public ResponseEntity<Map<String, Object>> rebuildRollups(
+            @Parameter(description = "시작 상영일 (포함)", required = true, example = "2025-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 상영일 (포함)", required = true, example = "2025-01-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", "시작일은 종료일보다 이후일 수 없습니다."
+            ));
+        }
+        int rows = salesRollupService.rebuild(
+                from.format(DateTimeFormatter.BASIC_ISO_DATE), to.format(DateTimeFormatter.BASIC_ISO_DATE));
+        return ResponseEntity.ok(Map.of(
+                "status", "SUCCESS",
+                "rollupRows", rows
+        ));
+    }
+}
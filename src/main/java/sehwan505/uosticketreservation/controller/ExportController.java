@@ -0,0 +1,135 @@
+package sehwan505.uosticketreservation.controller;
+
+import sehwan505.uosticketreservation.service.ExportService;
+import sehwan505.uosticketreservation.util.ExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * 정산용 대량 내보내기 API
+ * 비동기 요청 타임아웃에 걸리지 않도록 StreamingResponseBody 대신 요청 스레드에서 응답 스트림에 직접 쓴다.
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+@Tag(name = "Admin Export", description = "관리자 정산 데이터 내보내기 API")
+public class ExportController {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
+
+    @FunctionalInterface
+    private interface ExportTask {
+        void run(LocalDate from, LocalDate to, ExportWriter.Format format, Writer out);
+    }
+
+    // 예매 내역 내보내기
+    @GetMapping("/reservations")
+    @Operation(
+        summary = "예매 내역 내보내기",
+        description = "예매 시각 기준 기간(기본: 이번 달 1일 ~ 오늘)의 예매 내역을 CSV 또는 NDJSON으로 내보냅니다."
+    )
+    public void exportReservations(
+            @Parameter(description = "형식 (csv, ndjson)", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "시작일 (포함)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (포함)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "영화관 ID", example = "01")
+            @RequestParam(required = false) String cinemaId,
+            HttpServletResponse response) throws IOException {
+        stream(response, "reservations", format, from, to,
+                (start, end, exportFormat, out) -> exportService.exportReservations(start, end, cinemaId, exportFormat, out));
+    }
+
+    // 결제 내역 내보내기
+    @GetMapping("/payments")
+    @Operation(
+        summary = "결제 내역 내보내기",
+        description = "결제 시각 기준 기간(기본: 이번 달 1일 ~ 오늘)의 결제 내역을 CSV 또는 NDJSON으로 내보냅니다."
+    )
+    public void exportPayments(
+            @Parameter(description = "형식 (csv, ndjson)", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "시작일 (포함)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (포함)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "영화관 ID", example = "01")
+            @RequestParam(required = false) String cinemaId,
+            HttpServletResponse response) throws IOException {
+        stream(response, "payments", format, from, to,
+                (start, end, exportFormat, out) -> exportService.exportPayments(start, end, cinemaId, exportFormat, out));
+    }
+
+    // 포인트 내역 내보내기
+    @GetMapping("/point-history")
+    @Operation(
+        summary = "포인트 내역 내보내기",
+        description = "기간(기본: 이번 달 1일 ~ 오늘) 내 포인트 적립/사용/소멸 내역을 CSV 또는 NDJSON으로 내보냅니다."
+    )
+    public void exportPointHistory(
+            @Parameter(description = "형식 (csv, ndjson)", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "시작일 (포함)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (포함)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response) throws IOException {
+        stream(response, "point-history", format, from, to, exportService::exportPointHistory);
+    }
+
+    private void stream(HttpServletResponse response, String name, String format,
+                        LocalDate from, LocalDate to, ExportTask task) throws IOException {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.withDayOfMonth(1);
+
+        try {
+            ExportWriter.Format exportFormat = ExportWriter.Format.from(format);
+            String fileName = name + "_" + start.format(DateTimeFormatter.BASIC_ISO_DATE)
+                    + "_" + end.format(DateTimeFormatter.BASIC_ISO_DATE) + "." + exportFormat.getExtension();
+
+            response.setContentType(exportFormat.getContentType());
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+
+            Writer out = new BufferedWriter(
+                    new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            task.run(start, end, exportFormat, out);
+            out.flush();
+        } catch (IllegalArgumentException e) {
+            // 잘못된 요청은 아직 아무것도 쓰지 않은 상태에서 검증되므로 오류 응답으로 바꿔 보낸다
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.reset();
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import sehwan505.uosticketreservation.dto.ReservationDto;
 import sehwan505.uosticketreservation.service.MemberService;
 import sehwan505.uosticketreservation.service.PointHistoryService;
 import sehwan505.uosticketreservation.service.ReservationService;
+import sehwan505.uosticketreservation.service.TokenRevocationService;
 import sehwan505.uosticketreservation.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -38,6 +39,7 @@ import jakarta.validation.Valid;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api")
@@ -50,6 +52,7 @@ public class MemberController {
     private final PointHistoryService pointHistoryService;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     // 로그인
     @PostMapping("/login")
@@ -150,6 +153,14 @@ public class MemberController {
                     "error", "authentication_failed",
                     "message", "아이디 또는 비밀번호가 올바르지 않습니다."
             ));
+        } catch (RejectedExecutionException e) {
+            // 비밀번호 해시 풀 포화
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body(Map.of(
+                            "error", "service_busy",
+                            "message", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."
+                    ));
         } catch (Exception e) {
             return ResponseEntity.status(500).body(Map.of(
                     "error", "internal_server_error",
@@ -162,7 +173,7 @@ public class MemberController {
     @PostMapping("/logout")
     @Operation(
         summary = "로그아웃",
-        description = "현재 세션을 종료합니다. (클라이언트에서 토큰 삭제 필요)"
+        description = "현재 토큰을 폐기합니다. 폐기된 토큰으로는 더 이상 인증할 수 없습니다."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -181,9 +192,12 @@ public class MemberController {
             )
         )
     })
-    public ResponseEntity<Map<String, String>> logout() {
-        // JWT는 stateless이므로 서버에서 할 일은 없음
-        // 클라이언트에서 토큰을 삭제해야 함
+    public ResponseEntity<Map<String, String>> logout(
+            @Parameter(hidden = true) @RequestHeader(value = "Authorization", required = false) String authHeader) {
+        // 토큰 만료 시각까지 폐기 목록에 등록 (클라이언트도 토큰을 삭제해야 함)
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            tokenRevocationService.revokeToken(authHeader.substring(7));
+        }
         return ResponseEntity.ok(Map.of("message", "로그아웃되었습니다."));
     }
 
@@ -1,5 +1,6 @@
 package sehwan505.uosticketreservation.controller;
 
+import sehwan505.uosticketreservation.config.AdmissionControlFilter;
 import sehwan505.uosticketreservation.constants.StatusConstants;
 import sehwan505.uosticketreservation.dto.*;
 import sehwan505.uosticketreservation.service.*;
@@ -11,6 +12,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +22,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -40,6 +44,13 @@ public class ReservationController {
     private final PaymentService paymentService;
     private final MemberService memberService;
     private final BankService bankService;
+    private final WaitlistService waitlistService;
+    private final AdmissionService admissionService;
+    private final SeatAllocationService seatAllocationService;
+    private final PriceQuoteService priceQuoteService;
+    private final IdempotencyService idempotencyService;
+    private final ScheduleSeatStateService scheduleSeatStateService;
+    private final MeterRegistry meterRegistry;
 
     // 영화별 상영 가능 날짜 조회
     @GetMapping("/movies/{movieId}/dates")
@@ -183,17 +194,161 @@ public class ReservationController {
         List<SeatDto> seats = seatService.findSeatsByScreen(schedule.getScreenId());
         
         // 이미 예약된 좌석 ID 목록
-        List<Integer> reservedSeatIds = reservationService.findReservedSeatsBySchedule(scheduleId);
+        List<Integer> reservedSeatIds = scheduleSeatStateService.findReservedSeatIds(scheduleId);
         
         Map<String, Object> response = new HashMap<>();
         response.put("schedule", schedule);
         response.put("movie", movie);
         response.put("seats", seats);
         response.put("reservedSeatIds", reservedSeatIds);
+        response.put("heldSeatIds", waitlistService.findHeldSeatIds(scheduleId)); // 대기열 고객에게 제안 중인 좌석
         
         return ResponseEntity.ok(response);
     }
 
+    // 최적 연속 좌석 자동 배정
+    @PostMapping("/schedules/{scheduleId}/best-available")
+    @Operation(
+        summary = "최적 좌석 자동 배정",
+        description = "요청 인원만큼 같은 행의 나란한 좌석을 중앙 근접도와 선호 등급 기준으로 골라 한 번에 선점합니다. (결제 전 단계)"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "자동 배정 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = """
+                    {
+                        "status": "SUCCESS",
+                        "reservationIds": ["R123456789", "R123456790"],
+                        "seatIds": [57, 58],
+                        "seatLabels": ["E07", "E08"],
+                        "totalSeats": 2
+                    }
+                    """
+                )
+            )
+        )
+    })
+    public ResponseEntity<Map<String, Object>> allocateBestAvailableSeats(
+            @Parameter(description = "스케줄 ID", required = true)
+            @PathVariable String scheduleId,
+            @Valid @RequestBody SeatAllocationRequestDto requestDto) {
+        try {
+            SeatAllocationService.Allocation allocation = seatAllocationService.allocateBestAvailable(
+                    scheduleId,
+                    requestDto.getCount(),
+                    requestDto.getSeatGradeId(),
+                    currentMemberUserId(),
+                    requestDto.getPhoneNumber());
+            
+            return ResponseEntity.ok(Map.of(
+                    "status", "SUCCESS",
+                    "reservationIds", allocation.getReservationIds(),
+                    "seatIds", allocation.getSeatIds(),
+                    "seatLabels", allocation.getSeatLabels(),
+                    "totalSeats", allocation.getReservationIds().size()
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    // 매진된 상영일정 대기열 등록
+    @PostMapping("/schedules/{scheduleId}/waitlist")
+    @Operation(
+        summary = "대기열 등록",
+        description = "매진된 상영일정의 대기열에 등록합니다. 좌석이 취소되면 순서대로 일정 시간 독점 예매 기회가 제안됩니다. "
+                + "비회원은 응답의 waitlistCode를 이후 대기열 조회/취소와 제안 좌석 예매 시 X-Waitlist-Code 헤더로 보내야 합니다. (재발급 불가)"
+    )
+    public ResponseEntity<Map<String, Object>> joinWaitlist(
+            @Parameter(description = "스케줄 ID", required = true)
+            @PathVariable String scheduleId,
+            @Parameter(description = "비회원 전화번호 (비회원인 경우 필수)")
+            @RequestParam(required = false) String phoneNumber) {
+        try {
+            scheduleService.findScheduleById(scheduleId);
+            WaitlistService.Registration registration = waitlistService.join(scheduleId, currentMemberUserId(), phoneNumber);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "SUCCESS");
+            response.put("position", registration.getPosition());
+            response.put("message", "대기열에 등록되었습니다. 좌석이 생기면 순서대로 안내됩니다.");
+            if (registration.getWaitlistCode() != null) {
+                response.put("waitlistCode", registration.getWaitlistCode());
+            }
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    // 대기 순번 및 제안 좌석 조회
+    @GetMapping("/schedules/{scheduleId}/waitlist")
+    @Operation(
+        summary = "대기 순번 조회",
+        description = "대기열 순번과 현재 제안받은 좌석을 조회합니다."
+    )
+    public ResponseEntity<Map<String, Object>> getWaitlistStatus(
+            @Parameter(description = "스케줄 ID", required = true)
+            @PathVariable String scheduleId,
+            @Parameter(description = "비회원 전화번호 (비회원인 경우 필수)")
+            @RequestParam(required = false) String phoneNumber,
+            @Parameter(description = "비회원 대기 확인 코드 (비회원인 경우 필수)")
+            @RequestHeader(value = WaitlistService.CODE_HEADER, required = false) String waitlistCode) {
+        try {
+            String userId = currentMemberUserId();
+            
+            return ResponseEntity.ok(Map.of(
+                    "status", "SUCCESS",
+                    "position", waitlistService.getPosition(scheduleId, userId, phoneNumber, waitlistCode),
+                    "offers", waitlistService.findOffers(scheduleId, userId, phoneNumber, waitlistCode)
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    // 대기열 취소
+    @DeleteMapping("/schedules/{scheduleId}/waitlist")
+    @Operation(
+        summary = "대기열 취소",
+        description = "상영일정 대기열에서 나갑니다."
+    )
+    public ResponseEntity<Map<String, Object>> leaveWaitlist(
+            @Parameter(description = "스케줄 ID", required = true)
+            @PathVariable String scheduleId,
+            @Parameter(description = "비회원 전화번호 (비회원인 경우 필수)")
+            @RequestParam(required = false) String phoneNumber,
+            @Parameter(description = "비회원 대기 확인 코드 (비회원인 경우 필수)")
+            @RequestHeader(value = WaitlistService.CODE_HEADER, required = false) String waitlistCode) {
+        try {
+            boolean removed = waitlistService.leave(scheduleId, currentMemberUserId(), phoneNumber, waitlistCode);
+            
+            return ResponseEntity.ok(Map.of(
+                    "status", removed ? "SUCCESS" : "FAIL",
+                    "message", removed ? "대기열에서 취소되었습니다." : "대기 중인 내역이 없습니다."
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
     // 예매 정보 조회 (여러 좌석)
     @GetMapping("/confirm")
     @Operation(
@@ -235,9 +390,9 @@ public class ReservationController {
                         "totalPrice": 24000,
                         "totalSeats": 2,
                         "member": {
-                            "id": 1,
-                            "name": "홍길동",
-                            "points": 1500
+                            "userId": "testuser",
+                            "availablePoints": 1500,
+                            "maxUsablePoints": 1500
                         }
                     }
                     """
@@ -251,38 +406,36 @@ public class ReservationController {
             @Parameter(description = "좌석 ID 목록", required = true)
             @RequestParam List<Integer> seatIds) {
         
-        // 스케줄 정보 조회
-        ScheduleDto schedule = scheduleService.findScheduleById(scheduleId);
-        MovieDto movie = movieService.findMovieById(schedule.getMovieId());
-        
-        // 여러 좌석 정보 조회
-        List<SeatDto> seats = new ArrayList<>();
-        for (Integer seatId : seatIds) {
-            SeatDto seat = seatService.findSeatById(seatId);
-            seats.add(seat);
-        }
-        
-        // JWT에서 로그인 회원 정보 가져오기
+        // JWT에서 로그인 회원 ID 가져오기 (비회원은 null)
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        MemberDto member = null;
-        
+        String userId = null;
         if (auth != null && auth.isAuthenticated() && !auth.getName().equals("anonymousUser")) {
-            member = memberService.findMemberByUserId(auth.getName());
+            userId = auth.getName();
         }
-        
-        // 총 가격 계산 (각 좌석의 가격 합계)
-        int totalPrice = seats.stream()
-                .mapToInt(SeatDto::getPrice)
-                .sum();
-        
+
+        // 상영일정·영화·좌석 가격·회원 포인트를 좌석 수와 관계없이 일정한 쿼리 수로 조회
+        PriceQuoteDto quote;
+        try {
+            quote = priceQuoteService.quote(scheduleId, seatIds, userId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+
         Map<String, Object> response = new HashMap<>();
-        response.put("schedule", schedule);
-        response.put("seats", seats);
-        response.put("movie", movie);
-        response.put("totalPrice", totalPrice);
-        response.put("totalSeats", seatIds.size());
-        if (member != null) {
-            response.put("member", member);
+        response.put("schedule", quote.getSchedule());
+        response.put("seats", quote.getSeats());
+        response.put("movie", quote.getMovie());
+        response.put("totalPrice", quote.getTotalPrice());
+        response.put("totalSeats", quote.getTotalSeats());
+        if (userId != null) {
+            response.put("member", Map.of(
+                    "userId", userId,
+                    "availablePoints", quote.getAvailablePoints(),
+                    "maxUsablePoints", quote.getMaxUsablePoints()
+            ));
         }
         
         return ResponseEntity.ok(response);
@@ -292,7 +445,8 @@ public class ReservationController {
     @PostMapping("/create")
     @Operation(
         summary = "예매 생성",
-        description = "영화 예매를 생성합니다. (결제 전 단계) - 여러 좌석 동시 예약 가능"
+        description = "영화 예매를 생성합니다. (결제 전 단계) - 여러 좌석 동시 예약 가능. "
+                + "비회원이 대기열에서 제안받은 좌석을 예매할 때는 X-Waitlist-Code 헤더로 대기 확인 코드를 보내야 합니다."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -329,6 +483,22 @@ public class ReservationController {
                     """
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "같은 Idempotency-Key가 다른 요청에 사용되었거나 처리 중",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "멱등 키 충돌",
+                    value = """
+                    {
+                        "status": "FAIL",
+                        "message": "이미 다른 요청에 사용된 멱등 키입니다."
+                    }
+                    """
+                )
+            )
         )
     })
     public ResponseEntity<Map<String, Object>> createReservation(
@@ -348,9 +518,51 @@ public class ReservationController {
                     )
                 )
             )
-            @Valid @RequestBody ReservationCreateDto createDto) {
-        
+            @Valid @RequestBody ReservationCreateDto createDto,
+            @Parameter(description = "멱등 키 (시간 초과 후 재시도할 때 같은 값을 보내면 처음 예매 결과를 그대로 돌려줌)")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            HttpServletRequest request) {
+
+        if (idempotencyKey == null) {
+            return createReservationOnce(createDto, request);
+        }
+
+        // 요청자별로 키 구분 (회원 ID, 비회원은 전화번호), 같은 키는 같은 상영일정·좌석 요청에만 사용 가능
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String requester = auth != null && auth.isAuthenticated() && !auth.getName().equals("anonymousUser")
+                ? "user:" + auth.getName()
+                : "phone:" + createDto.getPhoneNumber();
+        String fingerprint = createDto.getScheduleId() + ":" + createDto.getSeatIds();
+
+        try {
+            return idempotencyService.execute(requester, idempotencyKey, fingerprint,
+                    () -> createReservationOnce(createDto, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "status", "FAIL",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> createReservationOnce(ReservationCreateDto createDto,
+                                                                      HttpServletRequest request) {
         try {
+            // 대기실이 열린 상영일정은 해당 대기실에서 이 클라이언트에게 발급되어 입장 허가된 토큰만 예매 가능
+            if (admissionService.requiresAdmission(createDto.getScheduleId())
+                    && !admissionService.checkAdmitted(request.getHeader(AdmissionControlFilter.QUEUE_TOKEN_HEADER),
+                            createDto.getScheduleId(), AdmissionControlFilter.clientKey(request))) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of(
+                        "status", "WAITING",
+                        "message", "대기열 입장 순서가 아직 되지 않았습니다."
+                ));
+            }
+            
             // JWT에서 회원 정보 추출 (로그인한 경우)
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
             String userId = null;
@@ -363,41 +575,48 @@ public class ReservationController {
                 System.out.println("DEBUG: No authenticated member found");
             }
             
-            // 좌석 중복 확인
-            List<Integer> reservedSeatIds = reservationService.findReservedSeatsBySchedule(createDto.getScheduleId());
-            List<Integer> conflictSeats = createDto.getSeatIds().stream()
-                    .filter(reservedSeatIds::contains)
-                    .toList();
-            
-            if (!conflictSeats.isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of(
-                        "status", "FAIL",
-                        "message", "이미 예약된 좌석이 포함되어 있습니다.",
-                        "failedSeatIds", conflictSeats
+            // 소유 노드에서는 같은 상영일정의 예매를 상영일정별 락으로 순서대로 처리
+            String memberUserId = userId;
+            return scheduleSeatStateService.withScheduleLock(createDto.getScheduleId(), () -> {
+                // 좌석 중복 확인
+                List<Integer> reservedSeatIds = scheduleSeatStateService.findReservedSeatIds(createDto.getScheduleId());
+                List<Integer> conflictSeats = createDto.getSeatIds().stream()
+                        .filter(reservedSeatIds::contains)
+                        .toList();
+
+                if (!conflictSeats.isEmpty()) {
+                    return ResponseEntity.badRequest().body(Map.of(
+                            "status", "FAIL",
+                            "message", "이미 예약된 좌석이 포함되어 있습니다.",
+                            "failedSeatIds", conflictSeats,
+                            "waitlistAvailable", true
+                    ));
+                }
+
+                // 여러 좌석에 대해 예매 정보 저장 (할인 없이)
+                List<String> reservationIds = new ArrayList<>();
+
+                for (Integer seatId : createDto.getSeatIds()) {
+                    String reservationId = reservationService.saveReservation(
+                            ReservationSaveDto.builder()
+                                    .scheduleId(createDto.getScheduleId())
+                                    .seatId(seatId)
+                                    .memberUserId(memberUserId)
+                                    .phoneNumber(createDto.getPhoneNumber())
+                                    .waitlistCode(request.getHeader(WaitlistService.CODE_HEADER))
+                                    .build()
+                    );
+                    reservationIds.add(reservationId);
+                    scheduleSeatStateService.markReserved(createDto.getScheduleId(), seatId);
+                }
+
+                return ResponseEntity.ok(Map.of(
+                        "status", "SUCCESS",
+                        "reservationIds", reservationIds,
+                        "totalSeats", reservationIds.size(),
+                        "message", "예매가 생성되었습니다. 결제 시 할인 코드를 적용할 수 있습니다."
                 ));
-            }
-            
-            // 여러 좌석에 대해 예매 정보 저장 (할인 없이)
-            List<String> reservationIds = new ArrayList<>();
-            
-            for (Integer seatId : createDto.getSeatIds()) {
-                String reservationId = reservationService.saveReservation(
-                        ReservationSaveDto.builder()
-                                .scheduleId(createDto.getScheduleId())
-                                .seatId(seatId)
-                                .memberUserId(userId)
-                                .phoneNumber(createDto.getPhoneNumber())
-                                .build()
-                );
-                reservationIds.add(reservationId);
-            }
-            
-            return ResponseEntity.ok(Map.of(
-                    "status", "SUCCESS",
-                    "reservationIds", reservationIds,
-                    "totalSeats", reservationIds.size(),
-                    "message", "예매가 생성되었습니다. 결제 시 할인 코드를 적용할 수 있습니다."
-            ));
+            });
             
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -474,6 +693,17 @@ public class ReservationController {
             )
             @Valid @RequestBody PaymentProcessDto paymentDto) {
         
+        // 결제 처리 시간 기록 (응답 상태 코드별)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ResponseEntity<Map<String, Object>> response = processPayment(paymentDto);
+        sample.stop(Timer.builder("reservation.payment")
+                .description("예매 결제 처리 시간")
+                .tag("status", String.valueOf(response.getStatusCode().value()))
+                .register(meterRegistry));
+        return response;
+    }
+
+    private ResponseEntity<Map<String, Object>> processPayment(PaymentProcessDto paymentDto) {
         try {
             // 예매 정보들 확인
             List<ReservationDto> reservations = new ArrayList<>();
@@ -1346,4 +1576,13 @@ public class ReservationController {
             ));
         }
     }
+
+    // JWT로 로그인한 회원 ID 조회 (비로그인 시 null)
+    private String currentMemberUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !auth.getName().equals("anonymousUser")) {
+            return auth.getName();
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ public class PaymentDto {
             case StatusConstants.Payment.NOT_COMPLETED -> "결제 미완료";
             case StatusConstants.Payment.PROCESSING -> "결제 중";
             case StatusConstants.Payment.COMPLETED -> "결제 완료";
+            case StatusConstants.Payment.CANCELLED -> "결제 취소";
             default -> "알 수 없음";
         };
     }
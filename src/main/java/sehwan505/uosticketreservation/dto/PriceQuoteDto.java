@@ -0,0 +1,20 @@
+package sehwan505.uosticketreservation.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceQuoteDto {
+    private ScheduleDto schedule;
+    private MovieDto movie;
+    private List<SeatDto> seats;        // 요청 순서의 좌석별 등급/가격
+    private int totalSeats;
+    private int totalPrice;
+    private Integer availablePoints;    // 회원 보유 포인트 (비회원은 null)
+    private Integer maxUsablePoints;    // 이번 결제에 사용할 수 있는 최대 포인트
+}
@@ -14,4 +14,5 @@ public class ReservationSaveDto {
     private String phoneNumber;
     private String discountCode;
     private Integer discountAmount;
+    private String waitlistCode; // 비회원이 대기열 제안 좌석을 예매할 때 대기 확인 코드
 }
\ No newline at end of file
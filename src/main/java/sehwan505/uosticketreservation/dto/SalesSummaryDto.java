@@ -0,0 +1,20 @@
+package sehwan505.uosticketreservation.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesSummaryDto {
+    private String groupKey;        // 상영일(yyyyMMdd)/영화 ID/영화관 ID/상영관 ID/좌석 등급 ID
+    private String label;           // 영화 제목, 영화관 이름 등 (상영일 집계는 groupKey와 동일)
+    private long ticketsSold;
+    private long revenue;
+    private long averageDiscount;   // 판매 좌석당 평균 할인 금액
+    private double occupancyRate;   // 점유율 (%)
+    private long cancelledCount;
+    private long refundedCount;
+    private long refundedAmount;
+}
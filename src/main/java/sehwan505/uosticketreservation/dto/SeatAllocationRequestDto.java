@@ -0,0 +1,26 @@
+package sehwan505.uosticketreservation.dto;
+
+import sehwan505.uosticketreservation.constants.BusinessConstants;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatAllocationRequestDto {
+
+    @NotNull(message = "인원 수는 필수입니다.")
+    @Min(value = 1, message = "최소 1명 이상이어야 합니다.")
+    @Max(value = BusinessConstants.Seat.MAX_AUTO_SELECT_SEATS, message = "자동 배정 가능한 최대 인원을 초과했습니다.")
+    private Integer count;
+
+    // 선호 좌석 등급 (선택사항)
+    private String seatGradeId;
+
+    // 비회원의 경우 필수, 회원의 경우 선택사항 (JWT에서 추출)
+    private String phoneNumber;
+}
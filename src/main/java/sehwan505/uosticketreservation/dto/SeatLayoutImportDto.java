@@ -0,0 +1,23 @@
+package sehwan505.uosticketreservation.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상영관 좌석 배치 일괄 등록 요청
+ * rows의 첫 줄이 A행이고, 한 글자가 한 열(01부터)이다.
+ * 글자는 grades에 정의한 좌석 등급 코드이고, '.' 또는 공백은 통로/빈 칸으로 좌석 없이 열 번호만 건너뛴다.
+ * 예) rows = ["SSSS.SSSS", "PPPP.PPPP", "CC.....CC"], grades = {"S": "A", "P": "B", "C": "C"}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatLayoutImportDto {
+    private List<String> rows;
+    private Map<String, String> grades;     // 칸 문자 -> 좌석 등급 ID
+    private boolean removeMissing;          // 배치에 없는 기존 좌석 삭제 여부
+}
@@ -0,0 +1,17 @@
+package sehwan505.uosticketreservation.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatLayoutImportResultDto {
+    private String screenId;
+    private int created;        // 새로 등록된 좌석 수
+    private int gradeChanged;   // 등급이 바뀐 좌석 수
+    private int removed;        // 삭제된 좌석 수
+    private int unchanged;      // 그대로인 좌석 수
+    private int totalSeats;     // 반영 후 상영관 총 좌석 수
+}
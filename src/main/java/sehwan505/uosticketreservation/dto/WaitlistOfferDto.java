@@ -0,0 +1,24 @@
+package sehwan505.uosticketreservation.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistOfferDto {
+    private Long waitlistId;
+    private String scheduleId;
+    private Integer seatId;
+    private String memberUserId;
+    private String phoneNumber;
+    private LocalDateTime expiresAt;
+
+    // 제안 대상자 식별 키 (회원 ID 또는 비회원 전화번호)
+    public String getWaiterKey() {
+        return memberUserId != null ? memberUserId : phoneNumber;
+    }
+}
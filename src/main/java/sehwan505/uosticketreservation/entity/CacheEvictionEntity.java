@@ -0,0 +1,40 @@
+package sehwan505.uosticketreservation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 다른 노드에 전파할 캐시 제거 기록 (각 노드가 주기적으로 읽어 자기 JVM의 캐시를 비움)
+@Entity
+@Table(name = "cache_eviction",
+       indexes = {
+           @Index(name = "idx_cache_eviction_created", columnList = "created_at")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheEvictionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "cache_eviction_id")
+    private Long id;
+
+    // 제거 대상 (ReferenceCacheEvictionEvent.Target 이름)
+    @Column(name = "target", length = 20, nullable = false)
+    private String target;
+
+    // 대상 캐시의 키 (전체 제거면 null)
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    // 제거를 기록한 노드 (자기 기록은 반영하지 않음)
+    @Column(name = "node_id", length = 64, nullable = false)
+    private String nodeId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -2,11 +2,15 @@ package sehwan505.uosticketreservation.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "cinema",
        indexes = {
            @Index(name = "idx_cinema_region", columnList = "cinema_name, region_id", unique = true)
@@ -33,5 +37,6 @@ public class CinemaEntity {
     private RegionEntity region;
 
     @OneToMany(mappedBy = "cinema", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<ScreenEntity> screens;
 }
\ No newline at end of file
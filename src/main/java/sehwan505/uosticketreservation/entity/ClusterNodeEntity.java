@@ -0,0 +1,34 @@
+package sehwan505.uosticketreservation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 상영일정 소유 노드 결정을 위한 애플리케이션 노드 목록 (각 노드가 주기적으로 하트비트 갱신)
+@Entity
+@Table(name = "cluster_node",
+       indexes = {
+           @Index(name = "idx_cluster_node_heartbeat", columnList = "last_heartbeat")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterNodeEntity {
+
+    @Id
+    @Column(name = "node_id", length = 64)
+    private String id;
+
+    // 다른 노드가 요청을 전달할 주소 (예: http://10.0.0.5:8080)
+    @Column(name = "base_url", length = 255, nullable = false)
+    private String baseUrl;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "last_heartbeat", nullable = false)
+    private LocalDateTime lastHeartbeat;
+}
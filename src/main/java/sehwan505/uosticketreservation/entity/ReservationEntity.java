@@ -1,7 +1,9 @@
 package sehwan505.uosticketreservation.entity;
 
+import sehwan505.uosticketreservation.constants.StatusConstants;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -11,14 +13,16 @@ import java.time.LocalDateTime;
            @Index(name = "idx_reservation_payment", columnList = "payment_id"),
            @Index(name = "idx_reservation_member", columnList = "user_id"),
            @Index(name = "idx_reservation_nonmember", columnList = "phone_number"),
-           @Index(name = "idx_reservation_occupy", columnList = "schedule_id, seat_id", unique = true)
+           @Index(name = "idx_reservation_schedule_seat", columnList = "schedule_id, seat_id"),
+           @Index(name = "idx_reservation_occupied_seat", columnList = "occupied_seat_key", unique = true),
+           @Index(name = "idx_reservation_updated", columnList = "updated_at")
        })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class ReservationEntity extends BaseTimeEntity {
+public class ReservationEntity extends BaseTimeEntity implements Persistable<String> {
 
     @Id
     @Column(name = "reservation_id", length = 32)
@@ -74,6 +78,42 @@ public class ReservationEntity extends BaseTimeEntity {
     @Column(name = "ticket_issuance_status", length = 1, nullable = false, columnDefinition = "CHAR(1)")
     private String ticketIssuanceStatus; // N: 미발권, Y: 발권
 
+    // 좌석 점유 키: 활성 예매(N/Y)는 "상영일정ID-좌석ID", 취소된 예매는 null
+    // 유니크 인덱스가 활성 예매에만 걸리도록 해 취소 이력을 지우지 않고도 같은 좌석을 다시 예매할 수 있다.
+    @Column(name = "occupied_seat_key", length = 64)
+    @Setter(AccessLevel.NONE)
+    private String occupiedSeatKey;
+
+    // ID를 직접 지정하므로 save()가 merge로 빠지지 않도록 새 엔티티 여부를 따로 관리
+    // (동시 예매가 같은 ID를 계산하면 기존 행을 덮어쓰지 않고 PK 위반으로 실패해야 한다)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public static String occupiedSeatKey(String scheduleId, Integer seatId) {
+        return scheduleId + "-" + seatId;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncOccupiedSeatKey() {
+        boolean active = StatusConstants.Reservation.NOT_COMPLETED.equals(status)
+                || StatusConstants.Reservation.COMPLETED.equals(status);
+        this.occupiedSeatKey = active ? occupiedSeatKey(schedule.getId(), seat.getId()) : null;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
     // 예약자가 회원인지 확인
     public boolean isMember() {
         return this.member != null;
@@ -0,0 +1,70 @@
+package sehwan505.uosticketreservation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 상영일 x 영화 x 영화관 x 상영관 x 좌석 등급 단위 일별 매출 집계
+ * 예매 상태 변경 시 증분으로 갱신되며, 대시보드 조회는 reservation 테이블 대신 이 테이블을 사용한다.
+ */
+@Entity
+@Table(name = "sales_daily_rollup",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_sales_rollup_key",
+                   columnNames = {"sales_date", "movie_id", "cinema_id", "screen_id", "seat_grade_id"})
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesDailyRollupEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    // 상영일 (yyyyMMdd, schedule.screening_date와 동일)
+    @Column(name = "sales_date", length = 8, nullable = false, columnDefinition = "CHAR(8)")
+    private String salesDate;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "cinema_id", length = 2, nullable = false)
+    private String cinemaId;
+
+    @Column(name = "screen_id", length = 4, nullable = false, columnDefinition = "CHAR(4)")
+    private String screenId;
+
+    @Column(name = "seat_grade_id", length = 1, nullable = false, columnDefinition = "CHAR(1)")
+    private String seatGradeId;
+
+    // 판매(결제 완료) 좌석 수 (환불 시 차감)
+    @Column(name = "tickets_sold", nullable = false)
+    private long ticketsSold;
+
+    // 판매 금액 합계 (final_price 기준, 환불 시 차감)
+    @Column(name = "revenue", nullable = false)
+    private long revenue;
+
+    // 판매 좌석의 할인 금액 합계
+    @Column(name = "discount_total", nullable = false)
+    private long discountTotal;
+
+    // 결제 전 취소/만료 건수
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    // 결제 후 환불 건수와 금액
+    @Column(name = "refunded_count", nullable = false)
+    private long refundedCount;
+
+    @Column(name = "refunded_amount", nullable = false)
+    private long refundedAmount;
+
+    // 해당 등급 좌석 수 x 상영 횟수 (점유율 분모)
+    @Column(name = "capacity", nullable = false)
+    private long capacity;
+}
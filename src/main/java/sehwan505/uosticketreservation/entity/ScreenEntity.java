@@ -2,11 +2,15 @@ package sehwan505.uosticketreservation.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "screen",
        indexes = {
            @Index(name = "idx_screen_cinema", columnList = "cinema_id, screen_name", unique = true)
@@ -19,8 +19,10 @@ import java.util.List;
 @Builder
 public class SeatEntity {
 
+    // 기존 seat_seq(증가값 50)를 그대로 쓰는 pooled 시퀀스, 일괄 등록 시 50건마다 시퀀스 조회 1회
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_seq_generator")
+    @SequenceGenerator(name = "seat_seq_generator", sequenceName = "seat_seq", allocationSize = 50)
     @Column(name = "seat_id")
     private Integer id;
 
@@ -2,11 +2,15 @@ package sehwan505.uosticketreservation.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "seat_grade",
        indexes = {
            @Index(name = "idx_seat_grade_name", columnList = "seat_grade_name"),
@@ -0,0 +1,50 @@
+package sehwan505.uosticketreservation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "waitlist",
+       indexes = {
+           @Index(name = "idx_waitlist_schedule_status", columnList = "schedule_id, waitlist_status")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "waitlist_id")
+    private Long id;
+
+    @Column(name = "schedule_id", length = 14, nullable = false)
+    private String scheduleId;
+
+    @Column(name = "user_id", length = 20)
+    private String memberUserId;
+
+    @Column(name = "phone_number", length = 11)
+    private String phoneNumber;
+
+    @Column(name = "waitlist_status", length = 1, nullable = false, columnDefinition = "CHAR(1)")
+    private String status; // W: 대기, O: 좌석 제안됨, Y: 예매 완료, D: 취소/만료
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "offered_seat_id")
+    private Integer offeredSeatId;
+
+    @Column(name = "offer_expires_at")
+    private LocalDateTime offerExpiresAt;
+
+    // 대기자 식별 키 (회원 ID 또는 비회원 전화번호)
+    public String getWaiterKey() {
+        return memberUserId != null ? memberUserId : phoneNumber;
+    }
+}
@@ -0,0 +1,15 @@
+package sehwan505.uosticketreservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 살아 있는 애플리케이션 노드 목록이 바뀌어 상영일정 소유 노드가 다시 계산될 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ClusterMembershipChangedEvent {
+    private final Set<String> nodeIds;
+}
@@ -0,0 +1,24 @@
+package sehwan505.uosticketreservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 다른 노드에서 기준 데이터/좌석 배치 캐시를 비웠을 때 이 노드의 같은 캐시를 비우도록 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ReferenceCacheEvictionEvent {
+
+    public enum Target {
+        ALL,             // 기준 데이터와 좌석 배치 전체
+        REGION_CINEMAS,  // 지역의 영화관 목록 (키: 지역 ID)
+        CINEMA_SCREENS,  // 영화관의 상영관 목록 (키: 영화관 ID)
+        CINEMA,          // 영화관 (키: 영화관 ID)
+        SCREEN,          // 상영관 (키: 상영관 ID)
+        SCREEN_LAYOUT    // 상영관 좌석 배치 (키: 상영관 ID)
+    }
+
+    private final Target target;
+    private final String key;
+}
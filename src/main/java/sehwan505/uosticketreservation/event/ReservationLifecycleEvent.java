@@ -0,0 +1,52 @@
+package sehwan505.uosticketreservation.event;
+
+import sehwan505.uosticketreservation.entity.ReservationEntity;
+import sehwan505.uosticketreservation.entity.ScheduleEntity;
+import sehwan505.uosticketreservation.entity.ScreenEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예매가 결제 완료/결제 전 취소/환불될 때 발행되는 이벤트
+ * 커밋 이후 처리되므로 집계에 필요한 값을 엔티티 대신 스냅샷으로 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationLifecycleEvent {
+
+    public enum Type {
+        COMPLETED,   // 결제 완료
+        CANCELLED,   // 결제 전 취소 또는 미결제 만료
+        REFUNDED     // 결제 완료 후 취소
+    }
+
+    private final Type type;
+    private final String reservationId;
+    private final String screeningDate;
+    private final Long movieId;
+    private final String cinemaId;
+    private final String screenId;
+    private final String seatGradeId;
+    private final int finalPrice;
+    private final int discountAmount;
+
+    // 예매 엔티티에서 집계 차원과 금액을 복사 (트랜잭션 안에서 호출)
+    public static ReservationLifecycleEvent of(Type type, ReservationEntity reservation) {
+        ScheduleEntity schedule = reservation.getSchedule();
+        ScreenEntity screen = schedule.getScreen();
+        String seatGradeId = reservation.getSeatGrade() != null
+                ? reservation.getSeatGrade().getId()
+                : reservation.getSeat().getSeatGrade().getId();
+
+        return new ReservationLifecycleEvent(
+                type,
+                reservation.getId(),
+                schedule.getScreeningDate(),
+                schedule.getMovie().getId(),
+                screen.getCinema().getId(),
+                screen.getId(),
+                seatGradeId,
+                reservation.getFinalPrice() != null ? reservation.getFinalPrice() : 0,
+                reservation.getDiscountAmount() != null ? reservation.getDiscountAmount() : 0);
+    }
+}
@@ -0,0 +1,69 @@
+package sehwan505.uosticketreservation.event;
+
+import sehwan505.uosticketreservation.entity.ReservationEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 예매 상태가 바뀔 때마다 발행되는 이벤트 (예매 저널 기록용)
+ * 집계용 ReservationLifecycleEvent와 달리 선점/발권/전달/만료까지 모든 전이를 구분한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReservationTransitionEvent {
+
+    // 저널에는 code 값이 저장되므로 이미 쓴 코드는 바꾸거나 재사용하지 않고 새 종류에는 새 코드를 부여
+    public enum Type {
+        HELD(0),          // 좌석 선점 (결제 전 예매 생성)
+        COMPLETED(1),     // 결제 완료
+        CANCELLED(2),     // 결제 전 취소
+        EXPIRED(3),       // 미결제 자동 취소
+        REFUNDED(4),      // 결제 완료 후 취소
+        TRANSFERRED(5),   // 다른 회원에게 전달
+        ISSUED(6);        // 티켓 발권
+
+        private final byte code;
+
+        Type(int code) {
+            this.code = (byte) code;
+        }
+
+        public byte getCode() {
+            return code;
+        }
+
+        /**
+         * 저널 코드로 종류 찾기
+         */
+        public static Type findByCode(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 예매 전이 코드입니다: " + code);
+        }
+    }
+
+    private final Type type;
+    private final long occurredAtMillis;
+    private final String reservationId;
+    private final String scheduleId;
+    private final Integer seatId;
+    private final String memberUserId;   // 비회원 예매면 null
+    private final int finalPrice;
+
+    // 예매 엔티티에서 필요한 값 복사 (트랜잭션 안에서 호출)
+    public static ReservationTransitionEvent of(Type type, ReservationEntity reservation) {
+        return new ReservationTransitionEvent(
+                type,
+                System.currentTimeMillis(),
+                reservation.getId(),
+                reservation.getSchedule().getId(),
+                reservation.getSeat().getId(),
+                reservation.getMember() != null ? reservation.getMember().getUserId() : null,
+                reservation.getFinalPrice() != null ? reservation.getFinalPrice() : 0);
+    }
+}
@@ -0,0 +1,14 @@
+package sehwan505.uosticketreservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예매 취소/만료로 좌석이 다시 예약 가능해졌을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class SeatReleasedEvent {
+    private final String scheduleId;
+    private final Integer seatId;
+}
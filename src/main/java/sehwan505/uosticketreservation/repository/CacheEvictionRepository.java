@@ -0,0 +1,21 @@
+package sehwan505.uosticketreservation.repository;
+
+import sehwan505.uosticketreservation.entity.CacheEvictionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CacheEvictionRepository extends JpaRepository<CacheEvictionEntity, Long> {
+
+    // 기준 시각 이후 기록된 캐시 제거
+    List<CacheEvictionEntity> findByCreatedAtAfterOrderByIdAsc(LocalDateTime since);
+
+    // 보관 기간이 지난 기록 정리
+    @Modifying
+    @Query("DELETE FROM CacheEvictionEntity e WHERE e.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
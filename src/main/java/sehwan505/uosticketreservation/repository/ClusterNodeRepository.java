@@ -0,0 +1,21 @@
+package sehwan505.uosticketreservation.repository;
+
+import sehwan505.uosticketreservation.entity.ClusterNodeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ClusterNodeRepository extends JpaRepository<ClusterNodeEntity, String> {
+
+    // 하트비트가 기준 시각 이후인 살아 있는 노드
+    List<ClusterNodeEntity> findByLastHeartbeatAfterOrderByIdAsc(LocalDateTime since);
+
+    // 오래 응답이 없는 노드 정리
+    @Modifying
+    @Query("DELETE FROM ClusterNodeEntity n WHERE n.lastHeartbeat < :before")
+    int deleteByLastHeartbeatBefore(@Param("before") LocalDateTime before);
+}
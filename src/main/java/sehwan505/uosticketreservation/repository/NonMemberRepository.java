@@ -1,9 +1,17 @@
 package sehwan505.uosticketreservation.repository;
 
 import sehwan505.uosticketreservation.entity.NonMemberEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface NonMemberRepository extends JpaRepository<NonMemberEntity, String> {
-}
\ No newline at end of file
+
+    // 전화번호 순 페이징 조회 (예매 내역 집계용)
+    @Query(value = "SELECT n.phoneNumber FROM NonMemberEntity n ORDER BY n.phoneNumber",
+           countQuery = "SELECT COUNT(n) FROM NonMemberEntity n")
+    Page<String> findPhoneNumbers(Pageable pageable);
+}
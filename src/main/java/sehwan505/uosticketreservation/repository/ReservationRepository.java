@@ -24,14 +24,37 @@ public interface ReservationRepository extends JpaRepository<ReservationEntity,
     
     List<ReservationEntity> findBySchedule(ScheduleEntity schedule);
 
+    // 비회원 예매 내역을 DTO 변환에 필요한 연관 엔티티와 함께 한 번에 조회 (전화번호, 예매 시각 순)
+    @Query("SELECT r FROM ReservationEntity r " +
+           "JOIN FETCH r.schedule sc JOIN FETCH sc.movie JOIN FETCH sc.screen scr JOIN FETCH scr.cinema " +
+           "JOIN FETCH r.seat LEFT JOIN FETCH r.seatGrade LEFT JOIN FETCH r.payment LEFT JOIN FETCH r.member " +
+           "WHERE r.nonMember.phoneNumber IN :phoneNumbers " +
+           "ORDER BY r.nonMember.phoneNumber, r.reservationTime")
+    List<ReservationEntity> findByNonMemberPhoneNumbersWithDetails(@Param("phoneNumbers") List<String> phoneNumbers);
+
     @Query("SELECT r FROM ReservationEntity r WHERE r.schedule.id = :scheduleId AND r.status = 'Y'")
     List<ReservationEntity> findCompletedReservationsByScheduleId(@Param("scheduleId") String scheduleId);
     
     @Query("SELECT r.seat.id FROM ReservationEntity r WHERE r.schedule.id = :scheduleId AND r.status IN ('N', 'Y')")
     List<Integer> findReservedSeatIdsByScheduleId(@Param("scheduleId") String scheduleId);
     
+    // 주어진 시각 이후 상태가 바뀐 예매의 좌석 (좌석 상태 증분 동기화용)
+    @Query("SELECT r.schedule.id AS scheduleId, r.seat.id AS seatId, r.status AS status " +
+           "FROM ReservationEntity r WHERE r.updatedAt > :since")
+    List<SeatStatusChange> findSeatStatusChangedSince(@Param("since") LocalDateTime since);
+
+    interface SeatStatusChange {
+        String getScheduleId();
+        Integer getSeatId();
+        String getStatus();
+    }
+    
     @Query("SELECT COUNT(r) FROM ReservationEntity r WHERE r.schedule.id = :scheduleId AND r.status = 'Y'")
     Integer countCompletedReservationsByScheduleId(@Param("scheduleId") String scheduleId);
+
+    // 상영일정+좌석의 예매 이력 수 (취소 이력 포함, 예매 ID 순번용)
+    @Query("SELECT COUNT(r) FROM ReservationEntity r WHERE r.schedule.id = :scheduleId AND r.seat.id = :seatId")
+    int countByScheduleAndSeat(@Param("scheduleId") String scheduleId, @Param("seatId") Integer seatId);
     
     List<ReservationEntity> findByMemberAndStatus(MemberEntity member, String status);
     
@@ -58,4 +81,37 @@ public interface ReservationRepository extends JpaRepository<ReservationEntity,
     @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000")})
     @Query("SELECT r.seat.id FROM ReservationEntity r WHERE r.schedule.id = :scheduleId AND r.status IN ('N', 'Y')")
     List<Integer> findActiveReservedSeatIdsByScheduleIdWithLock(@Param("scheduleId") String scheduleId);
+    
+    // 매출 집계 재생성용: 상영일 x 영화 x 영화관 x 상영관 x 좌석 등급별 예매 현황
+    // 취소된 예매 중 결제 ID가 있는 것은 결제 후 취소(환불), 없는 것은 결제 전 취소
+    interface SalesAggregate {
+        String getSalesDate();
+        Long getMovieId();
+        String getCinemaId();
+        String getScreenId();
+        String getSeatGradeId();
+        Long getTicketsSold();
+        Long getRevenue();
+        Long getDiscountTotal();
+        Long getCancelledCount();
+        Long getRefundedCount();
+        Long getRefundedAmount();
+    }
+
+    @Query("SELECT s.screeningDate AS salesDate, s.movie.id AS movieId, sc.cinema.id AS cinemaId, sc.id AS screenId, " +
+           "r.seatGrade.id AS seatGradeId, " +
+           "SUM(CASE WHEN r.status = 'Y' THEN 1 ELSE 0 END) AS ticketsSold, " +
+           "SUM(CASE WHEN r.status = 'Y' THEN COALESCE(r.finalPrice, 0) ELSE 0 END) AS revenue, " +
+           "SUM(CASE WHEN r.status = 'Y' THEN COALESCE(r.discountAmount, 0) ELSE 0 END) AS discountTotal, " +
+           "SUM(CASE WHEN r.status = 'D' AND r.payment IS NULL THEN 1 ELSE 0 END) AS cancelledCount, " +
+           "SUM(CASE WHEN r.status = 'D' AND r.payment IS NOT NULL THEN 1 ELSE 0 END) AS refundedCount, " +
+           "SUM(CASE WHEN r.status = 'D' AND r.payment IS NOT NULL THEN COALESCE(r.finalPrice, 0) ELSE 0 END) AS refundedAmount " +
+           "FROM ReservationEntity r JOIN r.schedule s JOIN s.screen sc " +
+           "WHERE s.screeningDate BETWEEN :fromDate AND :toDate " +
+           "GROUP BY s.screeningDate, s.movie.id, sc.cinema.id, sc.id, r.seatGrade.id")
+    List<SalesAggregate> aggregateSalesByScreeningDate(@Param("fromDate") String fromDate, @Param("toDate") String toDate);
+
+    // 좌석 배치 변경용: 좌석 중 예매 이력(취소 포함)이 있는 좌석 ID
+    @Query("SELECT DISTINCT r.seat.id FROM ReservationEntity r WHERE r.seat.id IN :seatIds")
+    List<Integer> findSeatIdsWithReservations(@Param("seatIds") List<Integer> seatIds);
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package sehwan505.uosticketreservation.repository;
+
+import sehwan505.uosticketreservation.entity.SalesDailyRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesDailyRollupRepository extends JpaRepository<SalesDailyRollupEntity, Long> {
+
+    // 대시보드 집계 결과 (groupKey는 집계 기준에 따라 상영일/영화 ID/영화관 ID/상영관 ID/좌석 등급 ID)
+    interface SalesSummary {
+        Object getGroupKey();
+        Long getTicketsSold();
+        Long getRevenue();
+        Long getDiscountTotal();
+        Long getCancelledCount();
+        Long getRefundedCount();
+        Long getRefundedAmount();
+        Long getCapacity();
+    }
+
+    String SUMMARY_COLUMNS = "SUM(r.ticketsSold) AS ticketsSold, SUM(r.revenue) AS revenue, " +
+            "SUM(r.discountTotal) AS discountTotal, SUM(r.cancelledCount) AS cancelledCount, " +
+            "SUM(r.refundedCount) AS refundedCount, SUM(r.refundedAmount) AS refundedAmount, " +
+            "SUM(r.capacity) AS capacity ";
+
+    String SUMMARY_FILTER = "FROM SalesDailyRollupEntity r WHERE r.salesDate BETWEEN :fromDate AND :toDate " +
+            "AND (:movieId IS NULL OR r.movieId = :movieId) AND (:cinemaId IS NULL OR r.cinemaId = :cinemaId) ";
+
+    @Query("SELECT r.salesDate AS groupKey, " + SUMMARY_COLUMNS + SUMMARY_FILTER + "GROUP BY r.salesDate ORDER BY r.salesDate")
+    List<SalesSummary> summarizeByDate(@Param("fromDate") String fromDate, @Param("toDate") String toDate,
+                                       @Param("movieId") Long movieId, @Param("cinemaId") String cinemaId);
+
+    @Query("SELECT r.movieId AS groupKey, " + SUMMARY_COLUMNS + SUMMARY_FILTER + "GROUP BY r.movieId ORDER BY SUM(r.revenue) DESC")
+    List<SalesSummary> summarizeByMovie(@Param("fromDate") String fromDate, @Param("toDate") String toDate,
+                                        @Param("movieId") Long movieId, @Param("cinemaId") String cinemaId);
+
+    @Query("SELECT r.cinemaId AS groupKey, " + SUMMARY_COLUMNS + SUMMARY_FILTER + "GROUP BY r.cinemaId ORDER BY SUM(r.revenue) DESC")
+    List<SalesSummary> summarizeByCinema(@Param("fromDate") String fromDate, @Param("toDate") String toDate,
+                                         @Param("movieId") Long movieId, @Param("cinemaId") String cinemaId);
+
+    @Query("SELECT r.screenId AS groupKey, " + SUMMARY_COLUMNS + SUMMARY_FILTER + "GROUP BY r.screenId ORDER BY SUM(r.revenue) DESC")
+    List<SalesSummary> summarizeByScreen(@Param("fromDate") String fromDate, @Param("toDate") String toDate,
+                                         @Param("movieId") Long movieId, @Param("cinemaId") String cinemaId);
+
+    @Query("SELECT r.seatGradeId AS groupKey, " + SUMMARY_COLUMNS + SUMMARY_FILTER + "GROUP BY r.seatGradeId ORDER BY r.seatGradeId")
+    List<SalesSummary> summarizeBySeatGrade(@Param("fromDate") String fromDate, @Param("toDate") String toDate,
+                                            @Param("movieId") Long movieId, @Param("cinemaId") String cinemaId);
+
+    // 증분 반영 (여러 인스턴스가 동시에 반영해도 값이 유실되지 않도록 읽지 않고 더함)
+    @Modifying
+    @Query("UPDATE SalesDailyRollupEntity r SET r.ticketsSold = r.ticketsSold + :ticketsSold, " +
+           "r.revenue = r.revenue + :revenue, r.discountTotal = r.discountTotal + :discountTotal, " +
+           "r.cancelledCount = r.cancelledCount + :cancelledCount, r.refundedCount = r.refundedCount + :refundedCount, " +
+           "r.refundedAmount = r.refundedAmount + :refundedAmount, r.capacity = :capacity, r.updatedAt = :now " +
+           "WHERE r.salesDate = :salesDate AND r.movieId = :movieId AND r.cinemaId = :cinemaId " +
+           "AND r.screenId = :screenId AND r.seatGradeId = :seatGradeId")
+    int addDeltas(@Param("salesDate") String salesDate, @Param("movieId") Long movieId, @Param("cinemaId") String cinemaId,
+                  @Param("screenId") String screenId, @Param("seatGradeId") String seatGradeId,
+                  @Param("ticketsSold") long ticketsSold, @Param("revenue") long revenue,
+                  @Param("discountTotal") long discountTotal, @Param("cancelledCount") long cancelledCount,
+                  @Param("refundedCount") long refundedCount, @Param("refundedAmount") long refundedAmount,
+                  @Param("capacity") long capacity, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM SalesDailyRollupEntity r WHERE r.salesDate BETWEEN :fromDate AND :toDate")
+    int deleteBySalesDateBetween(@Param("fromDate") String fromDate, @Param("toDate") String toDate);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ScheduleRepository extends JpaRepository<ScheduleEntity, String> {
     
@@ -18,8 +19,19 @@ public interface ScheduleRepository extends JpaRepository<ScheduleEntity, String
     @Query("SELECT s FROM ScheduleEntity s WHERE s.movie.id = :movieId AND s.screeningDate = :date ORDER BY s.screeningStartTime")
     List<ScheduleEntity> findByMovieIdAndDateOrderByStartTime(@Param("movieId") Long movieId, @Param("date") String date);
     
+    // 예매 확인용 상영일정 조회 (영화/상영관/영화관을 한 번에)
+    @Query("SELECT s FROM ScheduleEntity s JOIN FETCH s.movie JOIN FETCH s.screen sc JOIN FETCH sc.cinema WHERE s.id = :id")
+    Optional<ScheduleEntity> findByIdWithMovieAndScreen(@Param("id") String id);
+
     @Query("SELECT DISTINCT s.screeningDate FROM ScheduleEntity s WHERE s.movie.id = :movieId ORDER BY s.screeningDate")
     List<String> findDistinctDatesForMovie(@Param("movieId") Long movieId);
+    
+    // 상영관·영화·상영일별 상영 횟수 (매출 집계 점유율 분모)
+    @Query("SELECT COUNT(s) FROM ScheduleEntity s WHERE s.movie.id = :movieId AND s.screen.id = :screenId AND s.screeningDate = :date")
+    long countByMovieIdAndScreenIdAndDate(@Param("movieId") Long movieId, @Param("screenId") String screenId, @Param("date") String date);
+
+    @Query("SELECT s.id FROM ScheduleEntity s WHERE s.movie.id = :movieId")
+    List<String> findIdsByMovieId(@Param("movieId") Long movieId);
 
     @Query("SELECT DISTINCT s.movie FROM ScheduleEntity s WHERE s.screen.cinema.id = :cinemaId AND s.movie.screeningStatus = 'Y'")
     List<MovieEntity> findMoviesByCinema(@Param("cinemaId") String cinemaId);
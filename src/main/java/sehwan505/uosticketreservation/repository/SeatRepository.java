@@ -3,6 +3,8 @@ package sehwan505.uosticketreservation.repository;
 import sehwan505.uosticketreservation.entity.ScreenEntity;
 import sehwan505.uosticketreservation.entity.SeatEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,6 +14,10 @@ public interface SeatRepository extends JpaRepository<SeatEntity, Integer> {
     
     List<SeatEntity> findByScreenOrderByRowAscColumnAsc(ScreenEntity screen);
     
+    // 좌석 배치 모델 생성용 (좌석 등급 함께 조회)
+    @Query("SELECT s FROM SeatEntity s JOIN FETCH s.seatGrade WHERE s.screen.id = :screenId")
+    List<SeatEntity> findByScreenIdWithSeatGrade(@Param("screenId") String screenId);
+    
     // 관리자 기능용 메서드들
     boolean existsByScreenAndRowAndColumn(ScreenEntity screen, String row, String column);
     
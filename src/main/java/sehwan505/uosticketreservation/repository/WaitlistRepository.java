@@ -0,0 +1,12 @@
+package sehwan505.uosticketreservation.repository;
+
+import sehwan505.uosticketreservation.entity.WaitlistEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntity, Long> {
+
+    // 복구용: 상태별 대기 항목을 등록 순서대로 조회
+    List<WaitlistEntity> findByStatusInOrderByIdAsc(List<String> statuses);
+}
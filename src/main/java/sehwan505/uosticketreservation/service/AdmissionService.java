@@ -0,0 +1,288 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.repository.ScheduleRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예매 오픈 시 몰리는 트래픽을 위한 가상 대기실 (입장 제어)
+ * 상영일정 또는 영화 단위로 대기실을 열면, 서명된 대기 토큰을 발급하고
+ * 설정된 초당 입장 수에 맞춰 순서대로 예매 API 진입을 허용한다.
+ * 토큰은 발급받은 클라이언트(로그인 회원은 회원 ID, 그 외는 IP)에 묶여 다른 클라이언트와 나눠 쓸 수 없다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class AdmissionService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SCHEDULE_ROOM_PREFIX = "S:";
+    private static final String MOVIE_ROOM_PREFIX = "M:";
+
+    private final ScheduleRepository scheduleRepository;
+
+    @Value("${admission.secret:uosTicketReservationAdmissionQueueSecretKey}")
+    private String secret;
+
+    // 대기실 기본 초당 입장 수
+    @Value("${admission.default-rate-per-second:50}")
+    private double defaultRatePerSecond;
+
+    // 대기실 오픈 직후 즉시 입장 가능한 인원
+    @Value("${admission.default-burst:100}")
+    private int defaultBurst;
+
+    // 입장 허가 후 토큰 유효 시간 (단위: 분)
+    @Value("${admission.token-ttl-minutes:30}")
+    private int tokenTtlMinutes;
+
+    // 대기실 키 -> 대기실
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+
+    // 상영일정 ID -> 대기실 키
+    private final Map<String, String> scheduleRooms = new ConcurrentHashMap<>();
+
+    private static class Room {
+        private final String key;
+        private final double ratePerSecond;
+        private final int burst;
+        private final long openedAtMillis = System.currentTimeMillis();
+        private final AtomicLong lastTicket = new AtomicLong();
+        private final List<String> scheduleIds;
+
+        private Room(String key, double ratePerSecond, int burst, List<String> scheduleIds) {
+            this.key = key;
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+            this.scheduleIds = scheduleIds;
+        }
+
+        // 현재까지 입장 허가된 순번
+        private long admittedUpTo(long nowMillis) {
+            return burst + (long) ((nowMillis - openedAtMillis) / 1000.0 * ratePerSecond);
+        }
+
+        // 해당 순번이 입장 허가되는 시각 (admittedUpTo가 처음으로 순번에 도달하는 시각)
+        private long admittedAtMillis(long ticket) {
+            if (ticket <= burst) {
+                return openedAtMillis;
+            }
+            return openedAtMillis + (long) Math.ceil((ticket - burst) * 1000.0 / ratePerSecond);
+        }
+    }
+
+    /**
+     * 대기 토큰 상태
+     */
+    @Getter
+    public static class QueueStatus {
+        private final String token;
+        private final long position;
+        private final long etaSeconds;
+        private final boolean admitted;
+
+        private QueueStatus(String token, long position, long etaSeconds) {
+            this.token = token;
+            this.position = position;
+            this.etaSeconds = etaSeconds;
+            this.admitted = position == 0;
+        }
+    }
+
+    // 상영일정 단위 대기실 오픈
+    public String openForSchedule(String scheduleId, Double ratePerSecond, Integer burst) {
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new IllegalArgumentException("존재하지 않는 상영일정입니다. ID: " + scheduleId);
+        }
+        return openRoom(SCHEDULE_ROOM_PREFIX + scheduleId, List.of(scheduleId), ratePerSecond, burst);
+    }
+
+    // 영화 단위 대기실 오픈 (현재 등록된 해당 영화의 모든 상영일정에 적용)
+    public String openForMovie(Long movieId, Double ratePerSecond, Integer burst) {
+        List<String> scheduleIds = scheduleRepository.findIdsByMovieId(movieId);
+        if (scheduleIds.isEmpty()) {
+            throw new IllegalArgumentException("상영일정이 없는 영화입니다. ID: " + movieId);
+        }
+        return openRoom(MOVIE_ROOM_PREFIX + movieId, scheduleIds, ratePerSecond, burst);
+    }
+
+    // 대기실 종료
+    public boolean close(String roomKey) {
+        Room room = rooms.remove(roomKey);
+        if (room == null) {
+            return false;
+        }
+        room.scheduleIds.forEach(scheduleId -> scheduleRooms.remove(scheduleId, roomKey));
+        log.info("대기실 종료: {}", roomKey);
+        return true;
+    }
+
+    // 운영 중인 대기실 현황
+    public List<Map<String, Object>> findOpenRooms() {
+        long now = System.currentTimeMillis();
+        return rooms.values().stream()
+                .map(room -> {
+                    Map<String, Object> info = new HashMap<>();
+                    info.put("roomKey", room.key);
+                    info.put("ratePerSecond", room.ratePerSecond);
+                    info.put("issuedTickets", room.lastTicket.get());
+                    info.put("admittedUpTo", room.admittedUpTo(now));
+                    info.put("scheduleCount", room.scheduleIds.size());
+                    return info;
+                })
+                .toList();
+    }
+
+    // 해당 상영일정이 대기실을 거쳐야 하는지 여부
+    public boolean requiresAdmission(String scheduleId) {
+        return scheduleRooms.containsKey(scheduleId);
+    }
+
+    // 운영 중인 대기실이 하나라도 있는지 여부
+    public boolean hasOpenRooms() {
+        return !rooms.isEmpty();
+    }
+
+    // 대기 토큰 발급 (holder: 토큰을 사용할 클라이언트 식별 키)
+    public QueueStatus issueToken(String scheduleId, String holder) {
+        Room room = roomForSchedule(scheduleId);
+        if (room == null) {
+            throw new IllegalStateException("대기실이 운영 중이지 않은 상영일정입니다. ID: " + scheduleId);
+        }
+
+        long ticket = room.lastTicket.incrementAndGet();
+        String payload = room.key + "|" + ticket + "|" + System.currentTimeMillis() + "|" + holderHash(holder);
+        String token = encode(payload.getBytes(StandardCharsets.UTF_8)) + "." + encode(sign(payload));
+
+        return statusOf(room, token, ticket);
+    }
+
+    // 대기 순번 및 예상 대기 시간 조회
+    public QueueStatus getStatus(String token) {
+        String[] claims = verify(token);
+        if (claims == null) {
+            throw new IllegalArgumentException("유효하지 않은 대기 토큰입니다.");
+        }
+        Room room = rooms.get(claims[0]);
+        if (room == null) {
+            throw new IllegalStateException("종료된 대기실입니다.");
+        }
+        return statusOf(room, token, Long.parseLong(claims[1]));
+    }
+
+    /**
+     * 토큰이 해당 상영일정의 예매 API에 입장 가능한지 확인
+     * 토큰을 발급받은 클라이언트가 보낸 요청이고, 토큰의 대기실이 상영일정에 적용되며, 입장 허가 후 유효 시간 안이어야 한다.
+     */
+    public boolean checkAdmitted(String token, String scheduleId, String holder) {
+        String[] claims = verify(token);
+        if (claims == null || !claims[3].equals(holderHash(holder))) {
+            return false;
+        }
+
+        Room room = rooms.get(claims[0]);
+        if (room == null || !room.key.equals(scheduleRooms.get(scheduleId))) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        long ticket = Long.parseLong(claims[1]);
+        if (ticket > room.admittedUpTo(now)) {
+            return false;
+        }
+
+        // 유효 시간은 대기열에 들어온 시각이 아니라 입장 허가된 시각부터 계산 (오래 기다린 사람도 입장 후 온전히 사용)
+        long issuedAt = Long.parseLong(claims[2]);
+        long admittedAt = Math.max(issuedAt, room.admittedAtMillis(ticket));
+        return now - admittedAt <= tokenTtlMinutes * 60_000L;
+    }
+
+    private String openRoom(String roomKey, List<String> scheduleIds, Double ratePerSecond, Integer burst) {
+        double rate = ratePerSecond != null && ratePerSecond > 0 ? ratePerSecond : defaultRatePerSecond;
+        int initialBurst = burst != null && burst >= 0 ? burst : defaultBurst;
+
+        close(roomKey);
+        rooms.put(roomKey, new Room(roomKey, rate, initialBurst, List.copyOf(scheduleIds)));
+        scheduleIds.forEach(scheduleId -> scheduleRooms.put(scheduleId, roomKey));
+
+        log.info("대기실 오픈: {}, 상영일정 {}개, 초당 입장 {}명, 즉시 입장 {}명", roomKey, scheduleIds.size(), rate, initialBurst);
+        return roomKey;
+    }
+
+    private Room roomForSchedule(String scheduleId) {
+        String roomKey = scheduleRooms.get(scheduleId);
+        return roomKey != null ? rooms.get(roomKey) : null;
+    }
+
+    private QueueStatus statusOf(Room room, String token, long ticket) {
+        long position = Math.max(0, ticket - room.admittedUpTo(System.currentTimeMillis()));
+        long etaSeconds = (long) Math.ceil(position / room.ratePerSecond);
+        return new QueueStatus(token, position, etaSeconds);
+    }
+
+    // 서명 검증 후 [대기실 키, 순번, 발급 시각, 클라이언트 해시] 반환, 실패 시 null
+    private String[] verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return null;
+            }
+            String[] claims = payload.split("\\|");
+            return claims.length == 4 ? claims : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("대기 토큰 서명에 실패했습니다.", e);
+        }
+    }
+
+    // 토큰에 넣는 클라이언트 식별 값 (IP가 토큰에 그대로 드러나지 않도록 해시 앞부분만 사용)
+    private String holderHash(String holder) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(holder.getBytes(StandardCharsets.UTF_8));
+            return encode(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("대기 토큰 서명에 실패했습니다.", e);
+        }
+    }
+
+    private String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -2,6 +2,8 @@ package sehwan505.uosticketreservation.service;
 
 import sehwan505.uosticketreservation.constants.BusinessConstants;
 import sehwan505.uosticketreservation.util.IdGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -15,9 +17,11 @@ import java.util.Random;
 public class BankService {
     
     private final IdGenerator idGenerator;
+    private final MeterRegistry meterRegistry;
     
-    public BankService(IdGenerator idGenerator) {
+    public BankService(IdGenerator idGenerator, MeterRegistry meterRegistry) {
         this.idGenerator = idGenerator;
+        this.meterRegistry = meterRegistry;
     }
 
     private final Random random = new Random();
@@ -25,6 +29,7 @@ public class BankService {
     // 결제 승인 요청 (더미)
     public Map<String, Object> requestPaymentApproval(String paymentMethod, int amount, String cardOrAccountNumber) {
         log.info("결제 승인 요청 - 방식: {}, 금액: {}, 번호: {}", paymentMethod, amount, cardOrAccountNumber);
+        Timer.Sample sample = Timer.start(meterRegistry);
         
         // 실제 은행/카드사 통신 대신 더미 응답
         Map<String, Object> response = new HashMap<>();
@@ -52,12 +57,14 @@ public class BankService {
             Thread.currentThread().interrupt();
         }
         
+        sample.stop(bankTimer("approval", response));
         return response;
     }
     
     // 결제 취소 요청 (더미)
     public Map<String, Object> requestPaymentCancellation(String approvalNumber) {
         log.info("결제 취소 요청 - 승인번호: {}", approvalNumber);
+        Timer.Sample sample = Timer.start(meterRegistry);
         
         // 실제 은행/카드사 통신 대신 더미 응답
         Map<String, Object> response = new HashMap<>();
@@ -78,9 +85,19 @@ public class BankService {
         
         log.info("취소 응답: {}", response);
         
+        sample.stop(bankTimer("cancellation", response));
         return response;
     }
     
+    // 은행/카드사 통신 시간 (요청 종류, 결과별)
+    private Timer bankTimer(String operation, Map<String, Object> response) {
+        return Timer.builder("bank.request")
+                .description("은행/카드사 통신 시간")
+                .tag("operation", operation)
+                .tag("result", String.valueOf(response.get("status")))
+                .register(meterRegistry);
+    }
+    
     // 더미 승인번호 생성
     private String generateApprovalNumber(String paymentMethod) {
         String prefix = paymentMethod.startsWith("CARD") ? "CD" : "BK";
@@ -0,0 +1,97 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.entity.CacheEvictionEntity;
+import sehwan505.uosticketreservation.event.ReferenceCacheEvictionEvent;
+import sehwan505.uosticketreservation.repository.CacheEvictionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 간 캐시 제거 전파 (cluster.affinity.enabled=true일 때만 동작)
+ * 기준 데이터 2차 캐시와 상영관 좌석 배치 캐시는 노드마다 JVM 안에 따로 있으므로,
+ * 한 노드에서 캐시를 비우면 cache_eviction 테이블에 기록하고 다른 노드가 주기적으로 읽어 ReferenceCacheEvictionEvent로 반영한다.
+ * 기록은 호출한 트랜잭션과 함께 커밋되므로 변경이 커밋된 뒤에만 다른 노드에 보인다.
+ * 커밋이 늦은 기록을 놓치지 않도록 조회 구간을 겹쳐 읽고, 이미 반영한 기록 ID는 건너뛴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheEvictionBroadcastService {
+
+    private static final long SYNC_OVERLAP_MILLIS = 30000;
+    private static final long RETENTION_MILLIS = 10 * 60 * 1000L;
+
+    private final CacheEvictionRepository cacheEvictionRepository;
+    private final ClusterMembershipService clusterMembershipService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, Long> appliedMillisById = new ConcurrentHashMap<>();
+    private volatile long syncedThroughMillis = System.currentTimeMillis();
+
+    // 다른 노드에 캐시 제거 전파 (클러스터 비활성화 상태면 아무것도 하지 않음)
+    @Transactional
+    public void publish(ReferenceCacheEvictionEvent.Target target, String key) {
+        String nodeId = clusterMembershipService.getNodeId();
+        if (!clusterMembershipService.isEnabled() || nodeId == null) {
+            return;
+        }
+        cacheEvictionRepository.save(CacheEvictionEntity.builder()
+                .target(target.name())
+                .cacheKey(key)
+                .nodeId(nodeId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 다른 노드가 기록한 캐시 제거를 이 노드에 반영하고 오래된 기록 정리
+    @Scheduled(fixedDelayString = "${cluster.affinity.cache-eviction-sync-millis:2000}")
+    @Transactional
+    public synchronized void applyEvictionsFromOtherNodes() {
+        String nodeId = clusterMembershipService.getNodeId();
+        if (!clusterMembershipService.isEnabled() || nodeId == null) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        List<CacheEvictionEntity> evictions = cacheEvictionRepository.findByCreatedAtAfterOrderByIdAsc(
+                toLocalDateTime(syncedThroughMillis - SYNC_OVERLAP_MILLIS));
+
+        int applied = 0;
+        for (CacheEvictionEntity eviction : evictions) {
+            if (nodeId.equals(eviction.getNodeId())
+                    || appliedMillisById.putIfAbsent(eviction.getId(), startedAt) != null) {
+                continue;
+            }
+            ReferenceCacheEvictionEvent.Target target;
+            try {
+                target = ReferenceCacheEvictionEvent.Target.valueOf(eviction.getTarget());
+            } catch (IllegalArgumentException e) {
+                log.warn("알 수 없는 캐시 제거 대상 건너뜀: {} (기록 ID: {})", eviction.getTarget(), eviction.getId());
+                continue;
+            }
+            eventPublisher.publishEvent(new ReferenceCacheEvictionEvent(target, eviction.getCacheKey()));
+            applied++;
+        }
+        if (applied > 0) {
+            log.info("다른 노드의 캐시 제거 {}건 반영", applied);
+        }
+
+        appliedMillisById.values().removeIf(appliedAt -> appliedAt < startedAt - SYNC_OVERLAP_MILLIS * 2);
+        cacheEvictionRepository.deleteByCreatedAtBefore(toLocalDateTime(startedAt - RETENTION_MILLIS));
+        syncedThroughMillis = startedAt;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
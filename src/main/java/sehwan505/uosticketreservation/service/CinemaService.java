@@ -28,6 +28,7 @@ public class CinemaService {
     private final CinemaRepository cinemaRepository;
     private final RegionRepository regionRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ReferenceDataCacheService referenceDataCacheService;
     
     // 모든 영화관 조회
     public List<CinemaDto> findAllCinemas() {
@@ -160,6 +161,7 @@ public class CinemaService {
                 .build();
         
         CinemaEntity savedCinema = cinemaRepository.save(cinema);
+        referenceDataCacheService.evictRegionCinemas(region.getId());
         return savedCinema.getId();
     }
     
@@ -173,12 +175,15 @@ public class CinemaService {
         if (!cinema.getRegion().getId().equals(cinemaSaveDto.getRegionId())) {
             RegionEntity newRegion = regionRepository.findById(cinemaSaveDto.getRegionId())
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지역입니다. ID: " + cinemaSaveDto.getRegionId()));
+            referenceDataCacheService.evictRegionCinemas(cinema.getRegion().getId());
+            referenceDataCacheService.evictRegionCinemas(newRegion.getId());
             cinema.setRegion(newRegion);
         }
         
         // 영화관 정보 업데이트
         cinema.setName(cinemaSaveDto.getName());
         cinema.setLocation(cinemaSaveDto.getLocation());
+        referenceDataCacheService.evictCinema(cinema.getId());
         
         return cinema.getId();
     }
@@ -195,6 +200,8 @@ public class CinemaService {
         }
         
         cinemaRepository.delete(cinema);
+        referenceDataCacheService.evictRegionCinemas(cinema.getRegion().getId());
+        referenceDataCacheService.evictCinema(id);
     }
     
     // CinemaEntity를 CinemaDto로 변환
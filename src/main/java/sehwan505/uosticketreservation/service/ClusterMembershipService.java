@@ -0,0 +1,176 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.entity.ClusterNodeEntity;
+import sehwan505.uosticketreservation.event.ClusterMembershipChangedEvent;
+import sehwan505.uosticketreservation.repository.ClusterNodeRepository;
+import sehwan505.uosticketreservation.util.ConsistentHashRing;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상영일정 소유 노드 관리 (cluster.affinity.enabled=true일 때만 동작)
+ * 각 노드는 cluster_node 테이블에 주기적으로 하트비트를 남기고, 하트비트가 살아 있는 노드들로 일관 해시 링을 만든다.
+ * 상영일정 ID의 링 위치로 소유 노드를 정하며, 소유 노드만 해당 상영일정의 좌석 상태를 메모리에 들고 예매를 처리한다.
+ * 노드가 추가/종료되면 다음 하트비트에서 링을 다시 만들고 ClusterMembershipChangedEvent를 발행한다.
+ * 비활성화 상태에서는 모든 상영일정을 자기 노드 소유로 본다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterMembershipService {
+
+    private final ClusterNodeRepository clusterNodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cluster.affinity.enabled:false}")
+    private boolean enabled;
+
+    // 노드 ID (비어 있으면 호스트명:포트)
+    @Value("${cluster.affinity.node-id:}")
+    private String configuredNodeId;
+
+    // 다른 노드가 이 노드로 요청을 전달할 주소 (비어 있으면 http://호스트 IP:포트)
+    @Value("${cluster.affinity.advertised-url:}")
+    private String configuredBaseUrl;
+
+    // 이 시간(ms) 동안 하트비트가 없으면 링에서 제외
+    @Value("${cluster.affinity.node-timeout-millis:10000}")
+    private long nodeTimeoutMillis;
+
+    @Value("${cluster.affinity.virtual-nodes:128}")
+    private int virtualNodes;
+
+    private record Membership(ConsistentHashRing ring, Map<String, String> baseUrls) {
+    }
+
+    private volatile String nodeId;
+    private volatile String baseUrl;
+    private volatile LocalDateTime startedAt;
+    private volatile Membership membership = new Membership(new ConsistentHashRing(List.of(), 1), Map.of());
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 웹 서버 포트가 정해진 뒤 노드 정보 확정 (하트비트는 스케줄러가 기록)
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if (!enabled || event.getApplicationContext().getServerNamespace() != null) {
+            return;   // 관리 포트 등 보조 서버는 제외
+        }
+        int port = event.getWebServer().getPort();
+        nodeId = StringUtils.hasText(configuredNodeId) ? configuredNodeId : hostName() + ":" + port;
+        baseUrl = StringUtils.hasText(configuredBaseUrl) ? configuredBaseUrl : "http://" + hostAddress() + ":" + port;
+        startedAt = LocalDateTime.now();
+        Gauge.builder("cluster.affinity.nodes", () -> membership.ring().getNodes().size())
+                .description("상영일정 소유 노드 계산에 사용 중인 살아 있는 노드 수")
+                .register(meterRegistry);
+        log.info("클러스터 노드 등록: {} ({})", nodeId, baseUrl);
+    }
+
+    // 하트비트 기록 후 살아 있는 노드 목록으로 링 갱신
+    @Scheduled(fixedDelayString = "${cluster.affinity.heartbeat-millis:2000}")
+    @Transactional
+    public void heartbeat() {
+        if (!enabled || nodeId == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        ClusterNodeEntity self = clusterNodeRepository.findById(nodeId)
+                .orElseGet(() -> ClusterNodeEntity.builder().id(nodeId).startedAt(startedAt).build());
+        self.setBaseUrl(baseUrl);
+        self.setLastHeartbeat(now);
+        clusterNodeRepository.save(self);
+
+        // 타임아웃의 10배 넘게 응답 없는 노드 행은 정리
+        clusterNodeRepository.deleteByLastHeartbeatBefore(now.minus(Duration.ofMillis(nodeTimeoutMillis * 10)));
+
+        List<ClusterNodeEntity> alive = clusterNodeRepository.findByLastHeartbeatAfterOrderByIdAsc(
+                now.minus(Duration.ofMillis(nodeTimeoutMillis)));
+        Map<String, String> baseUrls = new HashMap<>();
+        for (ClusterNodeEntity node : alive) {
+            baseUrls.put(node.getId(), node.getBaseUrl());
+        }
+        baseUrls.put(nodeId, baseUrl);
+
+        Membership current = membership;
+        if (!current.baseUrls().equals(baseUrls)) {
+            membership = new Membership(new ConsistentHashRing(baseUrls.keySet(), virtualNodes), Map.copyOf(baseUrls));
+            log.info("클러스터 노드 목록 변경: {} -> {}", current.baseUrls().keySet(), baseUrls.keySet());
+            eventPublisher.publishEvent(new ClusterMembershipChangedEvent(Set.copyOf(baseUrls.keySet())));
+        }
+    }
+
+    // 이 노드가 상영일정의 소유 노드인지 (비활성화 또는 링 구성 전이면 true)
+    public boolean isLocal(String scheduleId) {
+        if (!enabled || nodeId == null) {
+            return true;
+        }
+        String owner = membership.ring().ownerOf(scheduleId);
+        return owner == null || owner.equals(nodeId);
+    }
+
+    // 상영일정 소유 노드 주소 (자기 노드 소유면 null)
+    public String ownerBaseUrl(String scheduleId) {
+        if (isLocal(scheduleId)) {
+            return null;
+        }
+        Membership current = membership;
+        return current.baseUrls().get(current.ring().ownerOf(scheduleId));
+    }
+
+    // 종료 시 노드 행을 지워 다른 노드가 타임아웃을 기다리지 않고 바로 링을 다시 만들게 함
+    @PreDestroy
+    public void leave() {
+        if (!enabled || nodeId == null) {
+            return;
+        }
+        try {
+            clusterNodeRepository.deleteById(nodeId);
+            log.info("클러스터 노드 제거: {}", nodeId);
+        } catch (Exception e) {
+            log.warn("클러스터 노드 제거 실패 (타임아웃 후 제외됨): {}", e.getMessage());
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+
+    private static String hostAddress() {
+        try {
+            return InetAddress.getLocalHost().getHostAddress();
+        } catch (UnknownHostException e) {
+            return "127.0.0.1";
+        }
+    }
+}
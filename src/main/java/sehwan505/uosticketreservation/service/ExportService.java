@@ -0,0 +1,161 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.util.ExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정산용 예매/결제/포인트 내역 내보내기
+ * JPA 엔티티나 DTO 목록을 만들지 않고 읽기 전용·순방향 JDBC 커서에서 한 행씩 읽어 바로 응답으로 쓴다.
+ * fetch size만큼씩 DB에서 가져오므로 기간이 길어져도 애플리케이션 메모리 사용량은 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    private static final String RESERVATION_SQL = """
+            SELECT r.reservation_id, r.reservation_time, r.reservation_status,
+                   c.cinema_id, c.cinema_name, sc.screen_name, m.movie_title,
+                   s.schedule_id, s.screening_start_time, r.seat_id, g.seat_grade_name,
+                   r.base_price, r.discount_code, r.discount_amount, r.final_price,
+                   r.user_id, r.phone_number, r.payment_id, p.payment_status,
+                   r.ticket_issuance_status, r.is_transferred
+            FROM reservation r
+            JOIN schedule s ON s.schedule_id = r.schedule_id
+            JOIN screen sc ON sc.screen_id = s.screen_id
+            JOIN cinema c ON c.cinema_id = sc.cinema_id
+            JOIN movie m ON m.movie_id = s.movie_id
+            LEFT JOIN seat_grade g ON g.seat_grade_id = r.seat_grade_id
+            LEFT JOIN payment p ON p.payment_id = r.payment_id
+            WHERE r.reservation_time >= ? AND r.reservation_time < ?
+            """;
+
+    private static final String PAYMENT_SQL = """
+            SELECT p.payment_id, p.payment_time, p.payment_status, p.payment_method,
+                   p.payment_amount, p.deducted_points, p.payment_approval_number
+            FROM payment p
+            WHERE p.payment_time >= ? AND p.payment_time < ?
+            """;
+
+    // 결제는 영화관 정보가 없으므로 결제에 묶인 예매의 상영관으로 필터링
+    private static final String PAYMENT_CINEMA_FILTER = """
+            AND EXISTS (SELECT 1 FROM reservation r
+                        JOIN schedule s ON s.schedule_id = r.schedule_id
+                        JOIN screen sc ON sc.screen_id = s.screen_id
+                        WHERE r.payment_id = p.payment_id AND sc.cinema_id = ?)
+            """;
+
+    private static final String POINT_HISTORY_SQL = """
+            SELECT ph.point_history_id, ph.created_at, ph.user_id, ph.point_type, ph.point_amount
+            FROM point_history ph
+            WHERE ph.created_at >= ? AND ph.created_at < ?
+            ORDER BY ph.created_at, ph.point_history_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 번에 DB에서 가져올 행 수 (Oracle 드라이버 기본값 10은 대량 내보내기에 너무 작음)
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    // 한 번에 내보낼 수 있는 최대 기간 (단위: 일)
+    @Value("${export.max-range-days:366}")
+    private int maxRangeDays;
+
+    // 예매 내역 내보내기 (예매 시각 기준, cinemaId가 있으면 해당 영화관만)
+    public long exportReservations(LocalDate from, LocalDate to, String cinemaId,
+                                   ExportWriter.Format format, Writer out) {
+        validateRange(from, to);
+        List<Object> params = rangeParams(from, to);
+        StringBuilder sql = new StringBuilder(RESERVATION_SQL);
+        if (cinemaId != null && !cinemaId.isBlank()) {
+            sql.append("AND c.cinema_id = ?\n");
+            params.add(cinemaId);
+        }
+        sql.append("ORDER BY r.reservation_time, r.reservation_id");
+        return export("reservations", sql.toString(), params, format, out);
+    }
+
+    // 결제 내역 내보내기 (결제 시각 기준, cinemaId가 있으면 해당 영화관 예매의 결제만)
+    public long exportPayments(LocalDate from, LocalDate to, String cinemaId,
+                               ExportWriter.Format format, Writer out) {
+        validateRange(from, to);
+        List<Object> params = rangeParams(from, to);
+        StringBuilder sql = new StringBuilder(PAYMENT_SQL);
+        if (cinemaId != null && !cinemaId.isBlank()) {
+            sql.append(PAYMENT_CINEMA_FILTER);
+            params.add(cinemaId);
+        }
+        sql.append("ORDER BY p.payment_time, p.payment_id");
+        return export("payments", sql.toString(), params, format, out);
+    }
+
+    // 포인트 내역 내보내기 (회원 단위 내역이라 영화관 필터 없음)
+    public long exportPointHistory(LocalDate from, LocalDate to, ExportWriter.Format format, Writer out) {
+        validateRange(from, to);
+        return export("point-history", POINT_HISTORY_SQL, rangeParams(from, to), format, out);
+    }
+
+    private long export(String name, String sql, List<Object> params, ExportWriter.Format format, Writer out) {
+        long startedAt = System.currentTimeMillis();
+        ExportWriter writer = ExportWriter.of(format, out);
+
+        PreparedStatementCreator statement = connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        };
+
+        jdbcTemplate.query(statement, (ResultSet rs) -> {
+            try {
+                while (rs.next()) {
+                    writer.writeRow(rs);
+                }
+                writer.finish(rs.getMetaData());
+            } catch (IOException e) {
+                // 클라이언트 연결이 끊긴 경우 커서를 닫고 중단
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+
+        log.info("{} 내보내기 완료: {}행, {}ms", name, writer.getRowCount(), System.currentTimeMillis() - startedAt);
+        return writer.getRowCount();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 이후일 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new IllegalArgumentException("한 번에 내보낼 수 있는 기간은 최대 " + maxRangeDays + "일입니다.");
+        }
+    }
+
+    // [from 00:00, to 다음 날 00:00)
+    private List<Object> rangeParams(LocalDate from, LocalDate to) {
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(from.atStartOfDay()));
+        params.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        return params;
+    }
+}
@@ -0,0 +1,109 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.constants.BusinessConstants;
+import sehwan505.uosticketreservation.util.IdempotencyStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 예매 생성 멱등 처리 (Idempotency-Key 헤더)
+ * 모바일 클라이언트가 시간 초과로 같은 예매 요청을 다시 보내면, 좌석 잠금/INSERT를 다시 하지 않고
+ * 처음 성공한 응답(같은 예매 ID)을 그대로 돌려준다. 실패 응답은 보관하지 않으므로 재시도 시 다시 처리된다.
+ * 키는 요청자(회원 ID 또는 비회원 전화번호)별로 구분하고, 같은 키를 다른 상영일정/좌석에 쓰면 거부한다.
+ * 결과는 인스턴스 메모리에만 보관하므로 여러 인스턴스 운영 시 같은 요청자가 같은 인스턴스로 가야 보장된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final MeterRegistry meterRegistry;
+
+    // 결과 보관 시간 (예매 결제 제한 시간보다 짧게)
+    @Value("${idempotency.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${idempotency.max-entries:100000}")
+    private int maxEntries;
+
+    private IdempotencyStore<ResponseEntity<Map<String, Object>>> store;
+
+    private Counter executed;
+    private Counter replayed;
+    private Counter conflicts;
+    private Counter overflow;
+
+    @PostConstruct
+    void init() {
+        store = new IdempotencyStore<>(ttlSeconds * 1000, maxEntries,
+                BusinessConstants.Transaction.RESERVATION_TIMEOUT_SECONDS * 1000L);
+        executed = requestCounter("executed");
+        replayed = requestCounter("replayed");
+        conflicts = requestCounter("conflict");
+        overflow = requestCounter("store-full");
+    }
+
+    /**
+     * 같은 요청자·키의 성공 응답이 있으면 그대로 돌려주고(응답 헤더 Idempotent-Replayed: true), 없으면 action을 실행한다.
+     * 키가 다른 요청 내용에 쓰였거나 처음 요청이 아직 처리 중이면 IllegalStateException이 발생한다.
+     */
+    public ResponseEntity<Map<String, Object>> execute(String requester, String key, String fingerprint,
+                                                       Supplier<ResponseEntity<Map<String, Object>>> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        IdempotencyStore.Result<ResponseEntity<Map<String, Object>>> result;
+        try {
+            result = store.execute(requester + ":" + key, fingerprint, action,
+                    response -> response.getStatusCode().is2xxSuccessful());
+        } catch (IllegalStateException e) {
+            conflicts.increment();
+            throw e;
+        }
+
+        if (!result.stored()) {
+            overflow.increment();
+            log.warn("멱등 키 저장소가 가득 차 멱등 처리 없이 실행했습니다. (최대 {}개)", maxEntries);
+        }
+        if (!result.replayed()) {
+            executed.increment();
+            return result.value();
+        }
+
+        replayed.increment();
+        return ResponseEntity.status(result.value().getStatusCode())
+                .header(REPLAYED_HEADER, "true")
+                .body(result.value().getBody());
+    }
+
+    // 만료된 결과 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        int evicted = store.evictExpired();
+        if (evicted > 0) {
+            log.debug("만료된 멱등 키 {}개 정리", evicted);
+        }
+    }
+
+    private Counter requestCounter(String outcome) {
+        return Counter.builder("reservation.idempotency.requests")
+                .description("Idempotency-Key가 있는 예매 생성 요청 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.dto.WaitlistOfferDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class LogWaitlistNotifier implements WaitlistNotifier {
+
+    @Override
+    public void notifyOffer(WaitlistOfferDto offer) {
+        log.info("대기열 좌석 제안: 대기자={}, 스케줄={}, 좌석={}, 만료={}",
+                offer.getWaiterKey(), offer.getScheduleId(), offer.getSeatId(), offer.getExpiresAt());
+    }
+
+    @Override
+    public void notifyOfferExpired(WaitlistOfferDto offer) {
+        log.info("대기열 좌석 제안 만료: 대기자={}, 스케줄={}, 좌석={}",
+                offer.getWaiterKey(), offer.getScheduleId(), offer.getSeatId());
+    }
+}
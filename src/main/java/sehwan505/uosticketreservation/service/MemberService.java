@@ -8,6 +8,7 @@ import sehwan505.uosticketreservation.constants.StatusConstants;
 import sehwan505.uosticketreservation.constants.BusinessConstants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,10 +21,11 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class MemberService implements UserDetailsService {
+public class MemberService implements UserDetailsService, UserDetailsPasswordService {
     
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
     
     // 회원 상세 조회 (Spring Security용)
     @Override
@@ -32,6 +34,16 @@ public class MemberService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
     }
 
+    // 로그인 성공 시 낮은 비용의 해시를 현재 설정으로 재해시 (Spring Security용)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        MemberEntity member = memberRepository.findById(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + user.getUsername()));
+        member.setPassword(newPassword);
+        return member;
+    }
+
     public MemberDto findMemberByUserId(String userId) {
         MemberEntity member = memberRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("해당 ID를 가진 사용자가 존재하지 않습니다."));
@@ -96,6 +108,8 @@ public class MemberService implements UserDetailsService {
         // 비밀번호 변경 (새 비밀번호가 제공된 경우)
         if (memberSaveDto.getPassword() != null && !memberSaveDto.getPassword().isEmpty()) {
             member.setPassword(passwordEncoder.encode(memberSaveDto.getPassword()));
+            // 비밀번호 변경 전에 발급된 토큰은 모두 무효화
+            tokenRevocationService.revokeAllForUser(userId);
         }
         
         return member.getUserId();
@@ -108,6 +122,8 @@ public class MemberService implements UserDetailsService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다. ID: " + userId));
         
         memberRepository.delete(member);
+        // 탈퇴 전에 발급된 토큰이 만료 전까지 인증되지 않도록 모두 무효화
+        tokenRevocationService.revokeAllForUser(userId);
     }
     
     // 포인트 추가
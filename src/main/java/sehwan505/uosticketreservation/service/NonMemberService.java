@@ -1,23 +1,34 @@
 package sehwan505.uosticketreservation.service;
 
+import sehwan505.uosticketreservation.constants.StatusConstants;
 import sehwan505.uosticketreservation.entity.NonMemberEntity;
+import sehwan505.uosticketreservation.entity.ReservationEntity;
 import sehwan505.uosticketreservation.repository.NonMemberRepository;
+import sehwan505.uosticketreservation.repository.ReservationRepository;
 import sehwan505.uosticketreservation.dto.NonMemberDto;
 import sehwan505.uosticketreservation.dto.NonMemberWithReservationsDto;
 import sehwan505.uosticketreservation.dto.ReservationDto;
 //import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class NonMemberService {
+    // IN 절 파라미터 수 제한(Oracle 1000개)을 넘지 않도록 페이지 크기를 제한
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final NonMemberRepository nonMemberRepository;
-    private final ReservationService reservationService;
+    private final ReservationRepository reservationRepository;
 
     @Transactional(readOnly = true)
     public List<NonMemberDto> findAllNonMembers() {
@@ -26,16 +37,53 @@ public class NonMemberService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 비회원별 예매 내역 페이징 조회
+     * 전화번호 한 페이지를 조회한 뒤 해당 비회원들의 예매를 연관 엔티티와 함께 한 번의 쿼리로 가져오고,
+     * 두 목록 모두 전화번호 순으로 정렬되어 있으므로 한 번의 순회로 비회원별 DTO를 만든다.
+     */
     @Transactional(readOnly = true)
-    public List<NonMemberWithReservationsDto> findAllNonMembersWithReservations() {
-        List<NonMemberEntity> nonMembers = nonMemberRepository.findAll();
-        
-        return nonMembers.stream()
-                .map(nonMember -> {
-                    List<ReservationDto> reservations = reservationService.findReservationsByNonMember(nonMember.getPhoneNumber());
-                    return new NonMemberWithReservationsDto(nonMember.getPhoneNumber(), reservations);
-                })
-                .collect(Collectors.toList());
+    public Page<NonMemberWithReservationsDto> findNonMembersWithReservations(Pageable pageable) {
+        if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+            pageable = PageRequest.of(pageable.getPageNumber(), MAX_PAGE_SIZE);
+        }
+
+        Page<String> phoneNumbers = nonMemberRepository.findPhoneNumbers(pageable);
+        if (phoneNumbers.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, phoneNumbers.getTotalElements());
+        }
+
+        List<ReservationEntity> reservations =
+                reservationRepository.findByNonMemberPhoneNumbersWithDetails(phoneNumbers.getContent());
+
+        List<NonMemberWithReservationsDto> result = new ArrayList<>(phoneNumbers.getNumberOfElements());
+        int cursor = 0;
+        for (String phoneNumber : phoneNumbers) {
+            List<ReservationDto> dtos = new ArrayList<>();
+            int completed = 0;
+            int cancelled = 0;
+
+            while (cursor < reservations.size()
+                    && phoneNumber.equals(reservations.get(cursor).getNonMember().getPhoneNumber())) {
+                ReservationDto dto = ReservationDtoMapper.toDto(reservations.get(cursor++));
+                if (StatusConstants.Reservation.COMPLETED.equals(dto.getStatus())) {
+                    completed++;
+                } else if (StatusConstants.Reservation.CANCELLED.equals(dto.getStatus())) {
+                    cancelled++;
+                }
+                dtos.add(dto);
+            }
+
+            result.add(NonMemberWithReservationsDto.builder()
+                    .phoneNumber(phoneNumber)
+                    .reservations(dtos)
+                    .totalReservations(dtos.size())
+                    .completedReservations(completed)
+                    .cancelledReservations(cancelled)
+                    .build());
+        }
+
+        return new PageImpl<>(result, pageable, phoneNumbers.getTotalElements());
     }
 
     @Transactional(readOnly = true)
@@ -43,7 +91,10 @@ public class NonMemberService {
         NonMemberEntity nonMember = nonMemberRepository.findById(phoneNumber)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 비회원입니다. 전화번호: " + phoneNumber));
         
-        List<ReservationDto> reservations = reservationService.findReservationsByNonMember(phoneNumber);
+        List<ReservationDto> reservations = reservationRepository
+                .findByNonMemberPhoneNumbersWithDetails(List.of(nonMember.getPhoneNumber())).stream()
+                .map(ReservationDtoMapper::toDto)
+                .collect(Collectors.toList());
         return new NonMemberWithReservationsDto(phoneNumber, reservations);
     }
 
@@ -5,12 +5,17 @@ import sehwan505.uosticketreservation.dto.PaymentSaveDto;
 import sehwan505.uosticketreservation.entity.MemberEntity;
 import sehwan505.uosticketreservation.entity.PaymentEntity;
 import sehwan505.uosticketreservation.entity.PointHistoryEntity;
+import sehwan505.uosticketreservation.entity.ReservationEntity;
+import sehwan505.uosticketreservation.event.ReservationLifecycleEvent;
+import sehwan505.uosticketreservation.event.ReservationTransitionEvent;
+import sehwan505.uosticketreservation.event.SeatReleasedEvent;
 import sehwan505.uosticketreservation.repository.MemberRepository;
 import sehwan505.uosticketreservation.repository.PaymentRepository;
 import sehwan505.uosticketreservation.repository.PointHistoryRepository;
 import sehwan505.uosticketreservation.constants.StatusConstants;
 import sehwan505.uosticketreservation.constants.BusinessConstants;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +32,7 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final MemberRepository memberRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 모든 결제 조회
     public List<PaymentDto> findAllPayments() {
@@ -127,6 +133,9 @@ public class PaymentService {
     public String cancelPayment(String paymentId) {
         PaymentEntity payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다. ID: " + paymentId));
+        if (StatusConstants.Payment.CANCELLED.equals(payment.getStatus())) {
+            throw new IllegalStateException("이미 취소된 결제입니다. ID: " + paymentId);
+        }
         
         // 포인트 환불
         if (payment.getDeductedPoints() != null && payment.getDeductedPoints() > 0) {
@@ -147,7 +156,27 @@ public class PaymentService {
             }
         }
         
-        paymentRepository.delete(payment);
+        // 결제와 연결된 예매는 삭제하지 않고 취소 상태로 바꿔 환불 이력(결제 ID 포함)을 남긴다.
+        // 행이 남아 수정 시각이 바뀌므로 다른 노드의 좌석 상태 증분 조회와 매출 집계 재생성에도 보인다.
+        if (payment.getReservations() != null) {
+            for (ReservationEntity reservation : payment.getReservations()) {
+                String previousStatus = reservation.getStatus();
+                if (StatusConstants.Reservation.CANCELLED.equals(previousStatus)) {
+                    continue;
+                }
+                reservation.setStatus(StatusConstants.Reservation.CANCELLED);
+                eventPublisher.publishEvent(new SeatReleasedEvent(reservation.getSchedule().getId(), reservation.getSeat().getId()));
+                if (StatusConstants.Reservation.COMPLETED.equals(previousStatus)) {
+                    eventPublisher.publishEvent(ReservationLifecycleEvent.of(ReservationLifecycleEvent.Type.REFUNDED, reservation));
+                    eventPublisher.publishEvent(ReservationTransitionEvent.of(ReservationTransitionEvent.Type.REFUNDED, reservation));
+                } else {
+                    eventPublisher.publishEvent(ReservationLifecycleEvent.of(ReservationLifecycleEvent.Type.CANCELLED, reservation));
+                    eventPublisher.publishEvent(ReservationTransitionEvent.of(ReservationTransitionEvent.Type.CANCELLED, reservation));
+                }
+            }
+        }
+
+        payment.setStatus(StatusConstants.Payment.CANCELLED);
         
         return paymentId;
     }
@@ -0,0 +1,114 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.dto.MovieDto;
+import sehwan505.uosticketreservation.dto.PriceQuoteDto;
+import sehwan505.uosticketreservation.dto.ScheduleDto;
+import sehwan505.uosticketreservation.dto.SeatDto;
+import sehwan505.uosticketreservation.entity.MemberEntity;
+import sehwan505.uosticketreservation.entity.MovieEntity;
+import sehwan505.uosticketreservation.entity.ScheduleEntity;
+import sehwan505.uosticketreservation.repository.MemberRepository;
+import sehwan505.uosticketreservation.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 예매 확인 화면용 가격 견적
+ * 상영일정(영화, 상영관 포함)은 조회 1번, 좌석 등급/가격은 상영관 좌석 배치 캐시, 회원 포인트는 조회 1번으로
+ * 좌석 수와 관계없이 일정한 쿼리 수로 견적을 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PriceQuoteService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final MemberRepository memberRepository;
+    private final ScreenLayoutService screenLayoutService;
+
+    // 선택 좌석 견적 (userId가 null이면 비회원)
+    public PriceQuoteDto quote(String scheduleId, List<Integer> seatIds, String userId) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            throw new IllegalArgumentException("좌석을 선택해주세요.");
+        }
+
+        ScheduleEntity schedule = scheduleRepository.findByIdWithMovieAndScreen(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상영일정입니다. ID: " + scheduleId));
+        ScreenLayout layout = screenLayoutService.getLayout(schedule.getScreen().getId());
+
+        List<SeatDto> seats = new ArrayList<>(seatIds.size());
+        Set<Integer> seen = new HashSet<>();
+        int totalPrice = 0;
+        for (Integer seatId : seatIds) {
+            if (!seen.add(seatId)) {
+                throw new IllegalArgumentException("중복된 좌석이 포함되어 있습니다. ID: " + seatId);
+            }
+            int index = layout.indexOf(seatId);
+            if (index == ScreenLayout.NO_SEAT) {
+                throw new IllegalArgumentException("해당 상영관의 좌석이 아닙니다. ID: " + seatId);
+            }
+            SeatDto seat = layout.seatAt(index);
+            seats.add(seat);
+            totalPrice += seat.getPrice();
+        }
+
+        Integer availablePoints = null;
+        Integer maxUsablePoints = null;
+        if (userId != null) {
+            MemberEntity member = memberRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다. ID: " + userId));
+            availablePoints = member.getAvailablePoints() != null ? member.getAvailablePoints() : 0;
+            maxUsablePoints = Math.min(availablePoints, totalPrice);
+        }
+
+        return PriceQuoteDto.builder()
+                .schedule(convertScheduleToDto(schedule))
+                .movie(convertMovieToDto(schedule.getMovie()))
+                .seats(seats)
+                .totalSeats(seats.size())
+                .totalPrice(totalPrice)
+                .availablePoints(availablePoints)
+                .maxUsablePoints(maxUsablePoints)
+                .build();
+    }
+
+    // ScheduleEntity를 ScheduleDto로 변환
+    private ScheduleDto convertScheduleToDto(ScheduleEntity schedule) {
+        return ScheduleDto.builder()
+                .id(schedule.getId())
+                .movieId(schedule.getMovie().getId())
+                .movieTitle(schedule.getMovie().getTitle())
+                .screenId(schedule.getScreen().getId())
+                .screenName(schedule.getScreen().getName())
+                .cinemaName(schedule.getScreen().getCinema().getName())
+                .screeningDate(schedule.getScreeningDate())
+                .screeningStartTime(schedule.getScreeningStartTime())
+                .runtime(schedule.getMovie().getRuntime())
+                .build();
+    }
+
+    // MovieEntity를 MovieDto로 변환
+    private MovieDto convertMovieToDto(MovieEntity movie) {
+        return MovieDto.builder()
+                .id(movie.getId())
+                .title(movie.getTitle())
+                .genre(movie.getGenre())
+                .releaseDate(movie.getReleaseDate())
+                .screeningStatus(movie.getScreeningStatus())
+                .runtime(movie.getRuntime())
+                .actorName(movie.getActorName())
+                .directorName(movie.getDirectorName())
+                .distributorName(movie.getDistributorName())
+                .viewingGrade(movie.getViewingGrade())
+                .description(movie.getDescription())
+                .image(movie.getImage())
+                .rating(movie.getRating())
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.entity.CinemaEntity;
+import sehwan505.uosticketreservation.entity.RegionEntity;
+import sehwan505.uosticketreservation.entity.ScreenEntity;
+import sehwan505.uosticketreservation.entity.SeatGradeEntity;
+import sehwan505.uosticketreservation.event.ReferenceCacheEvictionEvent;
+import sehwan505.uosticketreservation.repository.CinemaRepository;
+import sehwan505.uosticketreservation.repository.RegionRepository;
+import sehwan505.uosticketreservation.repository.SeatGradeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 기준 데이터(지역, 좌석 등급, 영화관, 상영관) 2차 캐시 관리
+ * 시작 시 전체를 미리 읽어 캐시를 채우고, 영화관/상영관 등록·수정·삭제 시 역방향 컬렉션 캐시를 비운다.
+ * (엔티티 자체는 Hibernate가 READ_WRITE 전략으로 갱신하지만 mappedBy 컬렉션은 갱신하지 않음)
+ * 캐시는 노드마다 따로 있으므로 제거 내용은 CacheEvictionBroadcastService로 다른 노드에도 전파한다.
+ * 이 노드의 엔티티는 Hibernate가 갱신하므로 영화관/상영관 수정·삭제는 다른 노드에만 전파한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ReferenceDataCacheService {
+
+    private static final String REGION_CINEMAS = RegionEntity.class.getName() + ".cinemas";
+    private static final String CINEMA_SCREENS = CinemaEntity.class.getName() + ".screens";
+
+    private final RegionRepository regionRepository;
+    private final SeatGradeRepository seatGradeRepository;
+    private final CinemaRepository cinemaRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ScreenLayoutService screenLayoutService;
+    private final CacheEvictionBroadcastService cacheEvictionBroadcastService;
+
+    // 시작 시 기준 데이터 전체를 캐시에 적재 (데이터 생성 ApplicationRunner 이후 실행됨)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<RegionEntity> regions = regionRepository.findAll();
+        regions.forEach(region -> region.getCinemas().size());
+        int seatGrades = seatGradeRepository.findAll().size();
+
+        List<CinemaEntity> cinemas = cinemaRepository.findAll();
+        int screens = 0;
+        for (CinemaEntity cinema : cinemas) {
+            screens += cinema.getScreens().size();
+        }
+        log.info("기준 데이터 캐시 적재: 지역 {}개, 좌석 등급 {}개, 영화관 {}개, 상영관 {}개",
+                regions.size(), seatGrades, cinemas.size(), screens);
+    }
+
+    // 전체 캐시 초기화 후 다시 적재 (DB를 직접 수정한 경우, 좌석 배치 캐시와 다른 노드 캐시도 비움)
+    @Transactional
+    public void reload() {
+        evictAll();
+        screenLayoutService.evictAll();
+        cacheEvictionBroadcastService.publish(ReferenceCacheEvictionEvent.Target.ALL, null);
+        warmUp();
+    }
+
+    // 지역의 영화관 목록 캐시 제거
+    public void evictRegionCinemas(String regionId) {
+        evictCollection(REGION_CINEMAS, regionId);
+        cacheEvictionBroadcastService.publish(ReferenceCacheEvictionEvent.Target.REGION_CINEMAS, regionId);
+    }
+
+    // 영화관의 상영관 목록 캐시 제거
+    public void evictCinemaScreens(String cinemaId) {
+        evictCollection(CINEMA_SCREENS, cinemaId);
+        cacheEvictionBroadcastService.publish(ReferenceCacheEvictionEvent.Target.CINEMA_SCREENS, cinemaId);
+    }
+
+    // 영화관 수정/삭제를 다른 노드 캐시에 전파
+    public void evictCinema(String cinemaId) {
+        cacheEvictionBroadcastService.publish(ReferenceCacheEvictionEvent.Target.CINEMA, cinemaId);
+    }
+
+    // 상영관 수정/삭제를 다른 노드 캐시에 전파
+    public void evictScreen(String screenId) {
+        cacheEvictionBroadcastService.publish(ReferenceCacheEvictionEvent.Target.SCREEN, screenId);
+    }
+
+    // 다른 노드에서 비운 캐시를 이 노드에서도 제거
+    @EventListener
+    public void onEvictedElsewhere(ReferenceCacheEvictionEvent event) {
+        Cache cache = cache();
+        switch (event.getTarget()) {
+            case ALL -> evictAll();
+            case REGION_CINEMAS -> cache.evictCollectionData(REGION_CINEMAS, event.getKey());
+            case CINEMA_SCREENS -> cache.evictCollectionData(CINEMA_SCREENS, event.getKey());
+            case CINEMA -> cache.evictEntityData(CinemaEntity.class, event.getKey());
+            case SCREEN -> cache.evictEntityData(ScreenEntity.class, event.getKey());
+            default -> {
+            }
+        }
+    }
+
+    private void evictAll() {
+        Cache cache = cache();
+        cache.evictEntityData(RegionEntity.class);
+        cache.evictEntityData(SeatGradeEntity.class);
+        cache.evictEntityData(CinemaEntity.class);
+        cache.evictEntityData(ScreenEntity.class);
+        cache.evictCollectionData(REGION_CINEMAS);
+        cache.evictCollectionData(CINEMA_SCREENS);
+    }
+
+    // 트랜잭션 중이면 커밋 후 한 번 더 제거 (커밋 전에 다른 트랜잭션이 옛 목록을 다시 캐시하는 경우 대비)
+    private void evictCollection(String role, String ownerId) {
+        cache().evictCollectionData(role, ownerId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evictCollectionData(role, ownerId);
+                }
+            });
+        }
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,56 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.dto.ReservationDto;
+import sehwan505.uosticketreservation.entity.ReservationEntity;
+
+/**
+ * 예매 엔티티 -> 예매 DTO 변환
+ * 예매/비회원 조회 서비스가 함께 사용하며, 의존성이 없어 벤치마크에서도 서비스 없이 호출한다.
+ * 상영일정/좌석/결제 등 연관 엔티티를 읽으므로 트랜잭션 안에서 호출해야 한다.
+ */
+final class ReservationDtoMapper {
+
+    private ReservationDtoMapper() {
+    }
+
+    static ReservationDto toDto(ReservationEntity reservation) {
+        ReservationDto dto = ReservationDto.builder()
+                .id(reservation.getId())
+                .scheduleId(reservation.getSchedule().getId())
+                .movieTitle(reservation.getSchedule().getMovie().getTitle())
+                .screenName(reservation.getSchedule().getScreen().getName())
+                .cinemaName(reservation.getSchedule().getScreen().getCinema().getName())
+                .seatId(reservation.getSeat().getId())
+                .seatLabel(reservation.getSeat().getSeatLabel())
+                .seatGradeName(reservation.getSeatGrade().getName())
+                .status(reservation.getStatus())
+                .reservationTime(reservation.getReservationTime())
+                .basePrice(reservation.getBasePrice())
+                .discountAmount(reservation.getDiscountAmount())
+                .finalPrice(reservation.getFinalPrice())
+                .ticketIssuanceStatus(reservation.getTicketIssuanceStatus())
+                .screeningDate(reservation.getSchedule().getScreeningDate())
+                .screeningStartTime(reservation.getSchedule().getScreeningStartTime())
+                .isTransferred(reservation.getIsTransferred())
+                .build();
+
+        // 회원 정보 설정
+        if (reservation.getMember() != null) {
+            dto.setMemberUserId(reservation.getMember().getUserId());
+            dto.setUserName(reservation.getMember().getUserId());
+        }
+
+        // 비회원 정보 설정
+        if (reservation.getNonMember() != null) {
+            dto.setPhoneNumber(reservation.getNonMember().getPhoneNumber());
+        }
+
+        // 결제 정보 설정
+        if (reservation.getPayment() != null) {
+            dto.setPaymentId(reservation.getPayment().getId());
+            dto.setPaymentStatus(reservation.getPayment().getStatus());
+        }
+
+        return dto;
+    }
+}
@@ -0,0 +1,228 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.event.ReservationTransitionEvent;
+import sehwan505.uosticketreservation.util.SegmentedJournal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예매 상태 변경 저널
+ * 커밋된 예매 상태 전이(선점/결제 완료/취소/만료/환불/전달/발권)를 로컬 디스크의 추가 전용 저널에 이진 레코드로 남긴다.
+ * 캐시 재구성, 장애 재현, 분석 적재는 예매 테이블을 조회하지 않고 tail()이나 SegmentedJournal.Reader로 저널을 이어 읽으면 된다.
+ * 디스크 동기화는 journal.flush-interval-millis마다 모아서 하므로, 장비 장애 시 마지막 주기의 기록은 잃을 수 있다. (DB가 원본)
+ * 저널을 열지 못하면 경고만 남기고 기록하지 않는다. (예매 처리에는 영향 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationJournalService {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${journal.directory:data/reservation-journal}")
+    private String directory;
+
+    // 세그먼트 파일 크기 (단위: 바이트)
+    @Value("${journal.segment-bytes:16777216}")
+    private int segmentBytes;
+
+    // 보관할 세그먼트 수 (넘으면 오래된 것부터 삭제)
+    @Value("${journal.retain-segments:32}")
+    private int retainSegments;
+
+    private volatile SegmentedJournal journal;
+
+    private Counter appended;
+    private Counter failed;
+
+    // 저널에서 읽은 이벤트와 위치
+    public record Entry(long position, ReservationTransitionEvent event) {
+    }
+
+    // 읽은 이벤트 목록과 다음에 이어 읽을 위치
+    public record Page(List<Entry> events, long nextPosition) {
+    }
+
+    @PostConstruct
+    public void open() {
+        appended = appendCounter("appended");
+        failed = appendCounter("failed");
+        if (!enabled) {
+            return;
+        }
+        try {
+            journal = new SegmentedJournal(Paths.get(directory), segmentBytes, retainSegments);
+            log.info("예매 저널 열기: {} (끝 위치 {})", directory, journal.endPosition());
+        } catch (IOException | RuntimeException e) {
+            log.warn("예매 저널을 열 수 없어 기록하지 않습니다: {} ({})", directory, e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return journal != null;
+    }
+
+    // 커밋된 상태 전이만 기록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationTransition(ReservationTransitionEvent event) {
+        SegmentedJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.append(encode(event));
+            appended.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.error("예매 저널 기록 실패: {} {}", event.getType(), event.getReservationId(), e);
+        }
+    }
+
+    /**
+     * fromPosition부터 최대 maxEvents개의 이벤트를 읽는다.
+     * 돌려받은 nextPosition으로 다시 호출하면 이어서 읽으며, 새 이벤트가 없으면 빈 목록과 같은 위치를 돌려준다.
+     */
+    public Page tail(long fromPosition, int maxEvents) {
+        SegmentedJournal current = requireJournal();
+        SegmentedJournal.Reader reader = current.reader(fromPosition);
+        List<Entry> events = new ArrayList<>();
+        for (SegmentedJournal.Record record : reader.poll(maxEvents)) {
+            events.add(new Entry(record.position(), decode(record.payload())));
+        }
+        return new Page(events, reader.position());
+    }
+
+    // 보관 중인 가장 오래된 위치
+    public long startPosition() {
+        return requireJournal().startPosition();
+    }
+
+    // 마지막 기록 다음 위치
+    public long endPosition() {
+        return requireJournal().endPosition();
+    }
+
+    // 쌓인 기록을 모아서 디스크에 동기화
+    @Scheduled(fixedDelayString = "${journal.flush-interval-millis:200}")
+    public void flush() {
+        SegmentedJournal current = journal;
+        if (current != null) {
+            current.flush();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        SegmentedJournal current = journal;
+        journal = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.warn("예매 저널 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이벤트를 이진 레코드로 변환
+     * [버전 1][종류 1][발생 시각 8][좌석 ID 4][최종 금액 4][예매 ID][상영일정 ID][회원 ID] (문자열은 [길이 2][UTF-8], null은 길이 -1)
+     */
+    public static byte[] encode(ReservationTransitionEvent event) {
+        byte[] reservationId = utf8(event.getReservationId());
+        byte[] scheduleId = utf8(event.getScheduleId());
+        byte[] memberUserId = utf8(event.getMemberUserId());
+        ByteBuffer buffer = ByteBuffer.allocate(18 + stringBytes(reservationId) + stringBytes(scheduleId)
+                + stringBytes(memberUserId));
+        buffer.put(FORMAT_VERSION);
+        buffer.put(event.getType().getCode());
+        buffer.putLong(event.getOccurredAtMillis());
+        buffer.putInt(event.getSeatId() != null ? event.getSeatId() : -1);
+        buffer.putInt(event.getFinalPrice());
+        putString(buffer, reservationId);
+        putString(buffer, scheduleId);
+        putString(buffer, memberUserId);
+        return buffer.array();
+    }
+
+    // 이진 레코드를 이벤트로 변환
+    public static ReservationTransitionEvent decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 저널 레코드 버전입니다: " + version);
+        }
+        ReservationTransitionEvent.Type type = ReservationTransitionEvent.Type.findByCode(buffer.get());
+        long occurredAtMillis = buffer.getLong();
+        int seatId = buffer.getInt();
+        int finalPrice = buffer.getInt();
+        String reservationId = getString(buffer);
+        String scheduleId = getString(buffer);
+        String memberUserId = getString(buffer);
+        return new ReservationTransitionEvent(type, occurredAtMillis, reservationId, scheduleId,
+                seatId >= 0 ? seatId : null, memberUserId, finalPrice);
+    }
+
+    private SegmentedJournal requireJournal() {
+        SegmentedJournal current = journal;
+        if (current == null) {
+            throw new IllegalStateException("예매 저널이 비활성화되어 있습니다.");
+        }
+        return current;
+    }
+
+    private Counter appendCounter(String outcome) {
+        return Counter.builder("reservation.journal.appends")
+                .description("예매 저널 기록 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int stringBytes(byte[] value) {
+        return 2 + (value != null ? value.length : 0);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putShort((short) -1);
+            return;
+        }
+        buffer.putShort((short) value.length);
+        buffer.put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
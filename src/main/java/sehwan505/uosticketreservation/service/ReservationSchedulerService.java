@@ -1,6 +1,9 @@
 package sehwan505.uosticketreservation.service;
 
 import sehwan505.uosticketreservation.dto.ReservationDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +18,7 @@ import java.util.List;
 public class ReservationSchedulerService {
     
     private final ReservationService reservationService;
+    private final MeterRegistry meterRegistry;
     
     // application.properties에서 설정할 수 있도록 값 주입
     // 기본값: 30분 (단위: 분)
@@ -28,9 +32,14 @@ public class ReservationSchedulerService {
     @Scheduled(cron = "0 */10 * * * *")
     public void cancelExpiredReservations() {
         log.info("미결제 예약 자동 취소 작업 시작");
+        Timer.Sample sample = Timer.start(meterRegistry);
         
         try {
             List<String> canceledIds = reservationService.cancelExpiredReservations(paymentTimeoutMinutes);
+            DistributionSummary.builder("reservation.expired.batch.size")
+                    .description("자동 취소 1회당 취소된 예약 수")
+                    .register(meterRegistry)
+                    .record(canceledIds.size());
             
             if (!canceledIds.isEmpty()) {
                 log.info("자동 취소된 예약 수: {}, 예약 ID: {}", canceledIds.size(), canceledIds);
@@ -41,6 +50,7 @@ public class ReservationSchedulerService {
         } catch (Exception e) {
             log.error("예약 자동 취소 작업 중 오류 발생", e);
         }
+        sample.stop(meterRegistry.timer("reservation.expired.run"));
         
         log.info("미결제 예약 자동 취소 작업 완료");
     }
@@ -3,16 +3,25 @@ package sehwan505.uosticketreservation.service;
 import sehwan505.uosticketreservation.dto.ReservationDto;
 import sehwan505.uosticketreservation.dto.ReservationSaveDto;
 import sehwan505.uosticketreservation.entity.*;
+import sehwan505.uosticketreservation.event.ReservationLifecycleEvent;
+import sehwan505.uosticketreservation.event.ReservationTransitionEvent;
+import sehwan505.uosticketreservation.event.SeatReleasedEvent;
 import sehwan505.uosticketreservation.repository.*;
 import lombok.RequiredArgsConstructor;
 import sehwan505.uosticketreservation.constants.StatusConstants;
 import sehwan505.uosticketreservation.constants.BusinessConstants;
+import sehwan505.uosticketreservation.util.DataSourceRoutingContext;
 import sehwan505.uosticketreservation.util.IdGenerator;
 import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 
 import jakarta.persistence.PessimisticLockException;
 import java.time.LocalDateTime;
@@ -35,11 +44,23 @@ public class ReservationService {
     private final NonMemberRepository nonMemberRepository;
     private final PaymentRepository paymentRepository;
     private final IdGenerator idGenerator;
+    private final WaitlistService waitlistService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    // 예매 생성 결과 (reservation.save 메트릭 태그)
+    private static final class SaveOutcome {
+        private static final String SUCCESS = "success";
+        private static final String DUPLICATE = "duplicate";
+        private static final String LOCK_TIMEOUT = "lock-timeout";
+        private static final String HELD = "held";
+        private static final String ERROR = "error";
+    }
     
     // 모든 예매 조회
     public List<ReservationDto> findAllReservations() {
         return reservationRepository.findAll().stream()
-                .map(this::convertToDto)
+                .map(ReservationDtoMapper::toDto)
                 .collect(Collectors.toList());
     }
     
@@ -48,7 +69,7 @@ public class ReservationService {
         ReservationEntity reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예매입니다. ID: " + id));
         
-        return convertToDto(reservation);
+        return ReservationDtoMapper.toDto(reservation);
     }
     
     // 회원별 예매 조회
@@ -57,7 +78,7 @@ public class ReservationService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다. ID: " + userId));
         
         return reservationRepository.findByMember(member).stream()
-                .map(this::convertToDto)
+                .map(ReservationDtoMapper::toDto)
                 .collect(Collectors.toList());
     }
     
@@ -67,19 +88,26 @@ public class ReservationService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 비회원입니다. 전화번호: " + phoneNumber));
         
         return reservationRepository.findByNonMember(nonMember).stream()
-                .map(this::convertToDto)
+                .map(ReservationDtoMapper::toDto)
                 .collect(Collectors.toList());
     }
     
-    // 상영일정별 예매된 좌석 조회
+    // 상영일정별 예매된 좌석 조회 (복제 지연으로 방금 팔린 좌석이 비어 보이지 않도록 주 DB에서 조회)
     public List<Integer> findReservedSeatsBySchedule(String scheduleId) {
-        return reservationRepository.findReservedSeatIdsByScheduleId(scheduleId);
+        return DataSourceRoutingContext.onPrimary(() -> reservationRepository.findReservedSeatIdsByScheduleId(scheduleId));
+    }
+
+    // 주어진 시각 이후 상태가 바뀐 예매의 좌석 (주 DB 조회)
+    public List<ReservationRepository.SeatStatusChange> findSeatStatusChangedSince(LocalDateTime since) {
+        return DataSourceRoutingContext.onPrimary(() -> reservationRepository.findSeatStatusChangedSince(since));
     }
     
     // 예매 등록 (중복 체크 로직 추가)
     @Transactional(isolation = Isolation.READ_COMMITTED, timeout = BusinessConstants.Transaction.RESERVATION_TIMEOUT_SECONDS)
     public String saveReservation(ReservationSaveDto reservationSaveDto) {
         log.info("예약 생성 시작: 스케줄={}, 좌석={}", reservationSaveDto.getScheduleId(), reservationSaveDto.getSeatId());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = SaveOutcome.ERROR;
         
         try {
             // 1. 기본 엔티티 조회
@@ -97,16 +125,25 @@ public class ReservationService {
                     );
             
             if (existingReservation.isPresent()) {
+                outcome = SaveOutcome.DUPLICATE;
                 log.warn("중복 예약 시도: 스케줄={}, 좌석={}", reservationSaveDto.getScheduleId(), reservationSaveDto.getSeatId());
                 throw new IllegalStateException("이미 예약된 좌석입니다. 다른 좌석을 선택해주세요.");
             }
             
+            // 대기열 고객에게 독점 제안 중인 좌석은 해당 고객만 예매 가능
+            if (waitlistService.isHeldForOther(reservationSaveDto.getScheduleId(), reservationSaveDto.getSeatId(),
+                    reservationSaveDto.getMemberUserId(), reservationSaveDto.getPhoneNumber(),
+                    reservationSaveDto.getWaitlistCode())) {
+                outcome = SaveOutcome.HELD;
+                throw new IllegalStateException("대기열 고객에게 제안된 좌석입니다. 다른 좌석을 선택해주세요.");
+            }
+            
             // 3. 예매 생성
             SeatGradeEntity seatGrade = seat.getSeatGrade();
             
-            // 예매 ID 생성
-            int dailyReservationCount = reservationRepository.countCompletedReservationsByScheduleId(schedule.getId()) + 1;
-            String reservationId = idGenerator.generateReservationId(schedule.getId(), seat.getId().toString(), dailyReservationCount);
+            // 예매 ID 생성 (취소된 예매 행도 남아 있으므로 같은 좌석의 이력 수로 순번을 매겨 ID가 겹치지 않게 함)
+            int seatReservationCount = reservationRepository.countByScheduleAndSeat(schedule.getId(), seat.getId()) + 1;
+            String reservationId = idGenerator.generateReservationId(schedule.getId(), seat.getId().toString(), seatReservationCount);
             
             // 예매 엔티티 생성
             ReservationEntity reservation = ReservationEntity.builder()
@@ -131,22 +168,45 @@ public class ReservationService {
             // 회원/비회원 정보 설정
             setReservationUser(reservation, reservationSaveDto);
             
-            // 저장
-            ReservationEntity savedReservation = reservationRepository.save(reservation);
+            // 저장 (즉시 flush해 동시 예매와 ID가 겹치면 여기서 PK 위반으로 실패하게 함)
+            ReservationEntity savedReservation = reservationRepository.saveAndFlush(reservation);
+            eventPublisher.publishEvent(ReservationTransitionEvent.of(ReservationTransitionEvent.Type.HELD, savedReservation));
+            waitlistService.claimOffer(reservationSaveDto.getScheduleId(), reservationSaveDto.getSeatId(),
+                    reservationSaveDto.getMemberUserId(), reservationSaveDto.getPhoneNumber(),
+                    reservationSaveDto.getWaitlistCode());
             log.info("예약 생성 완료: {}", savedReservation.getId());
             
+            outcome = SaveOutcome.SUCCESS;
             return savedReservation.getId();
             
-        } catch (PessimisticLockException e) {
+        } catch (PessimisticLockException | PessimisticLockingFailureException | QueryTimeoutException e) {
+            outcome = SaveOutcome.LOCK_TIMEOUT;
             log.error("락 획득 실패: 스케줄={}, 좌석={}", reservationSaveDto.getScheduleId(), reservationSaveDto.getSeatId());
             throw new IllegalStateException("다른 사용자가 같은 좌석을 선택 중입니다. 잠시 후 다시 시도해주세요.", e);
         } catch (DataIntegrityViolationException e) {
-            log.error("데이터 무결성 위반: 스케줄={}, 좌석={}", reservationSaveDto.getScheduleId(), reservationSaveDto.getSeatId());
-            throw new IllegalStateException("좌석 예약 중 충돌이 발생했습니다. 다시 시도해주세요.", e);
+            // 예매 ID(PK) 또는 좌석 점유 키 유니크 위반 = 동시에 들어온 다른 예매가 먼저 좌석을 가져감
+            outcome = SaveOutcome.DUPLICATE;
+            log.warn("동시 예약 충돌: 스케줄={}, 좌석={}", reservationSaveDto.getScheduleId(), reservationSaveDto.getSeatId());
+            throw new IllegalStateException("이미 예약된 좌석입니다. 다른 좌석을 선택해주세요.", e);
         } catch (Exception e) {
             log.error("예약 생성 중 오류: {}", e.getMessage(), e);
             throw new RuntimeException("예약 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } finally {
+            sample.stop(Timer.builder("reservation.save")
+                    .description("좌석 예매 생성 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 여러 좌석 일괄 예매 (하나라도 실패하면 전체 롤백)
+    @Transactional(isolation = Isolation.READ_COMMITTED, timeout = BusinessConstants.Transaction.RESERVATION_TIMEOUT_SECONDS)
+    public List<String> saveReservations(List<ReservationSaveDto> reservationSaveDtos) {
+        List<String> reservationIds = new ArrayList<>();
+        for (ReservationSaveDto reservationSaveDto : reservationSaveDtos) {
+            reservationIds.add(saveReservation(reservationSaveDto));
         }
+        return reservationIds;
     }
 
     // 예매 결제 완료 처리
@@ -158,9 +218,15 @@ public class ReservationService {
         PaymentEntity payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다. ID: " + paymentId));
 
+        boolean wasCompleted = StatusConstants.Reservation.COMPLETED.equals(reservation.getStatus());
+
         // 예매 상태 업데이트
         reservation.setStatus(StatusConstants.Reservation.COMPLETED); // 예매완료로 변경
         reservation.setPayment(payment);
+        if (!wasCompleted) {
+            eventPublisher.publishEvent(ReservationLifecycleEvent.of(ReservationLifecycleEvent.Type.COMPLETED, reservation));
+            eventPublisher.publishEvent(ReservationTransitionEvent.of(ReservationTransitionEvent.Type.COMPLETED, reservation));
+        }
 
         return reservation.getId();
     }
@@ -176,8 +242,25 @@ public class ReservationService {
             throw new IllegalStateException("이미 발권된 티켓은 취소할 수 없습니다.");
         }
 
+        // 결제 완료된 예매면 환불, 아니면 결제 전 취소로 집계
+        String previousStatus = reservation.getStatus();
+
         // 예매 상태를 취소로 변경
         reservation.setStatus(StatusConstants.Reservation.CANCELLED); // 예매취소중으로 변경
+        // 결제 취소가 먼저 상태를 바꾼 경우처럼 이미 취소된 예매는 좌석을 다시 반납하지 않는다.
+        if (!StatusConstants.Reservation.CANCELLED.equals(previousStatus)) {
+            eventPublisher.publishEvent(new SeatReleasedEvent(reservation.getSchedule().getId(), reservation.getSeat().getId()));
+            eventPublisher.publishEvent(ReservationLifecycleEvent.of(
+                    StatusConstants.Reservation.COMPLETED.equals(previousStatus)
+                            ? ReservationLifecycleEvent.Type.REFUNDED
+                            : ReservationLifecycleEvent.Type.CANCELLED,
+                    reservation));
+            eventPublisher.publishEvent(ReservationTransitionEvent.of(
+                    StatusConstants.Reservation.COMPLETED.equals(previousStatus)
+                            ? ReservationTransitionEvent.Type.REFUNDED
+                            : ReservationTransitionEvent.Type.CANCELLED,
+                    reservation));
+        }
 
         return reservation.getId();
     }
@@ -195,6 +278,7 @@ public class ReservationService {
 
         // 티켓 발권 상태로 변경
         reservation.setTicketIssuanceStatus(StatusConstants.TicketIssuance.ISSUED); // 발권으로 변경
+        eventPublisher.publishEvent(ReservationTransitionEvent.of(ReservationTransitionEvent.Type.ISSUED, reservation));
 
         return reservation.getId();
     }
@@ -213,6 +297,9 @@ public class ReservationService {
                 if (!StatusConstants.TicketIssuance.ISSUED.equals(reservation.getTicketIssuanceStatus())) {
                     reservation.setStatus(StatusConstants.Reservation.CANCELLED); // 예매취소중으로 변경
                     canceledReservationIds.add(reservation.getId());
+                    eventPublisher.publishEvent(new SeatReleasedEvent(reservation.getSchedule().getId(), reservation.getSeat().getId()));
+                    eventPublisher.publishEvent(ReservationLifecycleEvent.of(ReservationLifecycleEvent.Type.CANCELLED, reservation));
+                    eventPublisher.publishEvent(ReservationTransitionEvent.of(ReservationTransitionEvent.Type.EXPIRED, reservation));
                     System.out.println("자동 취소된 예약: " + reservation.getId() + 
                                      ", 예약 시간: " + reservation.getReservationTime());
                 }
@@ -227,25 +314,28 @@ public class ReservationService {
     // 미결제 예약 현황 조회
     public List<ReservationDto> findUnpaidReservations() {
         return reservationRepository.findAllUnpaidReservations().stream()
-                .map(this::convertToDto)
+                .map(ReservationDtoMapper::toDto)
                 .collect(Collectors.toList());
     }
 
     // 실시간 좌석 상태 조회 (락 포함)
     @Transactional(readOnly = true, timeout = BusinessConstants.Transaction.READ_TIMEOUT_SECONDS)
     public List<Integer> getActiveReservedSeatsWithLock(String scheduleId) {
-        try {
-            return reservationRepository.findActiveReservedSeatIdsByScheduleIdWithLock(scheduleId);
-        } catch (PessimisticLockException e) {
-            log.warn("좌석 상태 조회 중 락 경합: {}", scheduleId);
-            // 락 실패시 일반 조회로 폴백
-            return reservationRepository.findReservedSeatIdsByScheduleId(scheduleId);
-        }
+        return DataSourceRoutingContext.onPrimary(() -> {
+            try {
+                return reservationRepository.findActiveReservedSeatIdsByScheduleIdWithLock(scheduleId);
+            } catch (PessimisticLockException e) {
+                log.warn("좌석 상태 조회 중 락 경합: {}", scheduleId);
+                // 락 실패시 일반 조회로 폴백
+                return reservationRepository.findReservedSeatIdsByScheduleId(scheduleId);
+            }
+        });
     }
 
     // 좌석 예약 가능 여부 실시간 체크
     public boolean isSeatAvailable(String scheduleId, Integer seatId) {
-        return !reservationRepository.existsActiveReservationByScheduleAndSeat(scheduleId, seatId);
+        return DataSourceRoutingContext.onPrimary(
+                () -> !reservationRepository.existsActiveReservationByScheduleAndSeat(scheduleId, seatId));
     }
 
     // 회원/비회원 정보 설정 헬퍼 메서드
@@ -268,48 +358,6 @@ public class ReservationService {
         }
     }
 
-    // Entity를 DTO로 변환
-    private ReservationDto convertToDto(ReservationEntity reservation) {
-        ReservationDto dto = ReservationDto.builder()
-                .id(reservation.getId())
-                .scheduleId(reservation.getSchedule().getId())
-                .movieTitle(reservation.getSchedule().getMovie().getTitle())
-                .screenName(reservation.getSchedule().getScreen().getName())
-                .cinemaName(reservation.getSchedule().getScreen().getCinema().getName())
-                .seatId(reservation.getSeat().getId())
-                .seatLabel(reservation.getSeat().getSeatLabel())
-                .seatGradeName(reservation.getSeatGrade().getName())
-                .status(reservation.getStatus())
-                .reservationTime(reservation.getReservationTime())
-                .basePrice(reservation.getBasePrice())
-                .discountAmount(reservation.getDiscountAmount())
-                .finalPrice(reservation.getFinalPrice())
-                .ticketIssuanceStatus(reservation.getTicketIssuanceStatus())
-                .screeningDate(reservation.getSchedule().getScreeningDate())
-                .screeningStartTime(reservation.getSchedule().getScreeningStartTime())
-                .isTransferred(reservation.getIsTransferred())
-                .build();
-
-        // 회원 정보 설정
-        if (reservation.getMember() != null) {
-            dto.setMemberUserId(reservation.getMember().getUserId());
-            dto.setUserName(reservation.getMember().getUserId());
-        }
-
-        // 비회원 정보 설정
-        if (reservation.getNonMember() != null) {
-            dto.setPhoneNumber(reservation.getNonMember().getPhoneNumber());
-        }
-
-        // 결제 정보 설정
-        if (reservation.getPayment() != null) {
-            dto.setPaymentId(reservation.getPayment().getId());
-            dto.setPaymentStatus(reservation.getPayment().getStatus());
-        }
-
-        return dto;
-    }
-
     // 예약 소유권 변경 (예약 전달)
     @Transactional
     public String transferReservation(String reservationId, String targetUserId) {
@@ -332,6 +380,7 @@ public class ReservationService {
         // 새로운 회원으로 설정
         reservation.setMember(targetMember);
         reservation.setIsTransferred(StatusConstants.Transfer.TRANSFERRED);
+        eventPublisher.publishEvent(ReservationTransitionEvent.of(ReservationTransitionEvent.Type.TRANSFERRED, reservation));
         
         return reservation.getId();
     }
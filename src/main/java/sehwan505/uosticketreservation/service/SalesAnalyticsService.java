@@ -0,0 +1,116 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.dto.SalesSummaryDto;
+import sehwan505.uosticketreservation.entity.CinemaEntity;
+import sehwan505.uosticketreservation.entity.MovieEntity;
+import sehwan505.uosticketreservation.entity.ScreenEntity;
+import sehwan505.uosticketreservation.entity.SeatGradeEntity;
+import sehwan505.uosticketreservation.repository.CinemaRepository;
+import sehwan505.uosticketreservation.repository.MovieRepository;
+import sehwan505.uosticketreservation.repository.SalesDailyRollupRepository;
+import sehwan505.uosticketreservation.repository.SalesDailyRollupRepository.SalesSummary;
+import sehwan505.uosticketreservation.repository.ScreenRepository;
+import sehwan505.uosticketreservation.repository.SeatGradeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 매출 대시보드 조회
+ * 예매 테이블 대신 일별 집계(sales_daily_rollup)만 읽으므로 조회 부하가 예매 처리에 영향을 주지 않는다.
+ * 최근 반영 주기(analytics.rollup.flush-interval-millis) 이내의 변경은 아직 포함되지 않을 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SalesAnalyticsService {
+
+    private static final DateTimeFormatter SALES_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final SalesDailyRollupRepository rollupRepository;
+    private final MovieRepository movieRepository;
+    private final CinemaRepository cinemaRepository;
+    private final ScreenRepository screenRepository;
+    private final SeatGradeRepository seatGradeRepository;
+
+    public enum GroupBy {
+        DATE, MOVIE, CINEMA, SCREEN, SEAT_GRADE;
+
+        public static GroupBy from(String value) {
+            for (GroupBy groupBy : values()) {
+                if (groupBy.name().equalsIgnoreCase(value.replace("-", "_"))) {
+                    return groupBy;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 집계 기준입니다: " + value
+                    + " (date, movie, cinema, screen, seat-grade)");
+        }
+    }
+
+    // 상영일 기간의 매출 요약 (movieId, cinemaId는 선택 필터)
+    public List<SalesSummaryDto> summarize(GroupBy groupBy, LocalDate from, LocalDate to, Long movieId, String cinemaId) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 이후일 수 없습니다.");
+        }
+        String fromDate = from.format(SALES_DATE_FORMAT);
+        String toDate = to.format(SALES_DATE_FORMAT);
+
+        List<SalesSummary> summaries = switch (groupBy) {
+            case DATE -> rollupRepository.summarizeByDate(fromDate, toDate, movieId, cinemaId);
+            case MOVIE -> rollupRepository.summarizeByMovie(fromDate, toDate, movieId, cinemaId);
+            case CINEMA -> rollupRepository.summarizeByCinema(fromDate, toDate, movieId, cinemaId);
+            case SCREEN -> rollupRepository.summarizeByScreen(fromDate, toDate, movieId, cinemaId);
+            case SEAT_GRADE -> rollupRepository.summarizeBySeatGrade(fromDate, toDate, movieId, cinemaId);
+        };
+
+        Map<String, String> labels = labelsFor(groupBy, summaries);
+        return summaries.stream()
+                .map(summary -> convertToDto(summary, labels))
+                .collect(Collectors.toList());
+    }
+
+    // 집계 기준 ID의 표시 이름 (그룹 수만큼만 조회)
+    private Map<String, String> labelsFor(GroupBy groupBy, List<SalesSummary> summaries) {
+        Set<String> keys = summaries.stream()
+                .map(summary -> summary.getGroupKey().toString())
+                .collect(Collectors.toSet());
+
+        return switch (groupBy) {
+            case DATE -> keys.stream().collect(Collectors.toMap(Function.identity(), Function.identity()));
+            case MOVIE -> movieRepository.findAllById(keys.stream().map(Long::valueOf).toList()).stream()
+                    .collect(Collectors.toMap(movie -> movie.getId().toString(), MovieEntity::getTitle));
+            case CINEMA -> cinemaRepository.findAllById(keys).stream()
+                    .collect(Collectors.toMap(CinemaEntity::getId, CinemaEntity::getName));
+            case SCREEN -> screenRepository.findAllById(keys).stream()
+                    .collect(Collectors.toMap(ScreenEntity::getId, ScreenEntity::getName));
+            case SEAT_GRADE -> seatGradeRepository.findAllById(keys).stream()
+                    .collect(Collectors.toMap(SeatGradeEntity::getId, SeatGradeEntity::getName));
+        };
+    }
+
+    private SalesSummaryDto convertToDto(SalesSummary summary, Map<String, String> labels) {
+        String key = summary.getGroupKey().toString();
+        long ticketsSold = summary.getTicketsSold();
+        long capacity = summary.getCapacity();
+
+        return SalesSummaryDto.builder()
+                .groupKey(key)
+                .label(labels.getOrDefault(key, key))
+                .ticketsSold(ticketsSold)
+                .revenue(summary.getRevenue())
+                .averageDiscount(ticketsSold > 0 ? summary.getDiscountTotal() / ticketsSold : 0)
+                .occupancyRate(capacity > 0 ? Math.round(ticketsSold * 1000.0 / capacity) / 10.0 : 0)
+                .cancelledCount(summary.getCancelledCount())
+                .refundedCount(summary.getRefundedCount())
+                .refundedAmount(summary.getRefundedAmount())
+                .build();
+    }
+}
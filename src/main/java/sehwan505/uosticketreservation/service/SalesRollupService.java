@@ -0,0 +1,212 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.entity.SalesDailyRollupEntity;
+import sehwan505.uosticketreservation.event.ReservationLifecycleEvent;
+import sehwan505.uosticketreservation.repository.ReservationRepository;
+import sehwan505.uosticketreservation.repository.SalesDailyRollupRepository;
+import sehwan505.uosticketreservation.repository.ScheduleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일별 매출 집계(sales_daily_rollup) 증분 갱신
+ * 예매 결제 완료/취소/환불 이벤트를 커밋 후 메모리에서 키별 증분으로 합쳐 두었다가
+ * 주기적으로 한 트랜잭션에서 "기존 값 + 증분" UPDATE로 반영한다.
+ * 예매 트랜잭션에는 집계 테이블 쓰기가 끼어들지 않고, 같은 키의 여러 건은 UPDATE 한 번으로 합쳐진다.
+ * 증분은 반영 전까지 메모리에만 있으므로 프로세스가 비정상 종료되면 마지막 반영 주기(flush-interval-millis)의
+ * 증분을 잃는다. 시작 시 재생성은 집계 테이블이 비어 있을 때만 하므로, 비정상 종료 후에는 해당 기간을
+ * rebuild()로 다시 계산해야 한다. (정상 종료 시에는 남은 증분을 반영)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalesRollupService {
+
+    private final SalesDailyRollupRepository rollupRepository;
+    private final ReservationRepository reservationRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScreenLayoutService screenLayoutService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 집계 테이블이 비어 있으면 시작 시 예매 테이블에서 재생성
+    @Value("${analytics.rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    // 반영 대기 중인 증분
+    private final Map<RollupKey, Delta> pending = new ConcurrentHashMap<>();
+
+    private record RollupKey(String salesDate, Long movieId, String cinemaId, String screenId, String seatGradeId) {
+    }
+
+    private record Delta(long ticketsSold, long revenue, long discountTotal,
+                         long cancelledCount, long refundedCount, long refundedAmount) {
+
+        static Delta of(ReservationLifecycleEvent event) {
+            return switch (event.getType()) {
+                case COMPLETED -> new Delta(1, event.getFinalPrice(), event.getDiscountAmount(), 0, 0, 0);
+                case CANCELLED -> new Delta(0, 0, 0, 1, 0, 0);
+                case REFUNDED -> new Delta(-1, -event.getFinalPrice(), -event.getDiscountAmount(),
+                        0, 1, event.getFinalPrice());
+            };
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(ticketsSold + other.ticketsSold, revenue + other.revenue,
+                    discountTotal + other.discountTotal, cancelledCount + other.cancelledCount,
+                    refundedCount + other.refundedCount, refundedAmount + other.refundedAmount);
+        }
+    }
+
+    // 예매 상태 변경이 커밋되면 증분 누적 (DB 접근 없음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationLifecycle(ReservationLifecycleEvent event) {
+        RollupKey key = new RollupKey(event.getScreeningDate(), event.getMovieId(), event.getCinemaId(),
+                event.getScreenId(), event.getSeatGradeId());
+        pending.merge(key, Delta.of(event), Delta::plus);
+    }
+
+    /**
+     * 누적된 증분을 집계 테이블에 반영
+     * 실패하면 꺼낸 증분을 다시 넣어 다음 주기에 재시도한다.
+     * analytics.rollup.flush-interval-millis(기본 10초)가 비정상 종료 시 잃을 수 있는 증분의 최대 구간이다.
+     */
+    @Scheduled(fixedDelayString = "${analytics.rollup.flush-interval-millis:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키별 remove는 merge와 원자적으로 동작하므로 꺼내는 도중 들어온 증분은 다음 주기로 넘어감
+        Map<RollupKey, Delta> drained = new HashMap<>();
+        for (RollupKey key : new ArrayList<>(pending.keySet())) {
+            Delta delta = pending.remove(key);
+            if (delta != null) {
+                drained.put(key, delta);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(drained));
+            log.debug("매출 집계 반영: {}건", drained.size());
+        } catch (RuntimeException e) {
+            drained.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+            log.warn("매출 집계 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    // 종료 전 남은 증분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 시작 시 집계 테이블이 비어 있으면 전체 기간 재생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (backfillOnStartup && rollupRepository.count() == 0) {
+            int rows = rebuild("00000000", "99999999");
+            log.info("매출 집계 초기 생성 완료: {}건", rows);
+        }
+    }
+
+    /**
+     * 상영일 기간의 집계를 예매 테이블에서 다시 계산
+     * 취소된 예매는 결제 ID 유무로 결제 전 취소와 환불(결제 후 취소)을 나눠 증분 집계와 같은 기준으로 센다.
+     * @param fromDate 시작 상영일 (yyyyMMdd, 포함)
+     * @param toDate   종료 상영일 (yyyyMMdd, 포함)
+     * @return 생성된 집계 행 수
+     */
+    public int rebuild(String fromDate, String toDate) {
+        flush();
+
+        Integer rows = transactionTemplate.execute(status -> {
+            rollupRepository.deleteBySalesDateBetween(fromDate, toDate);
+
+            Map<String, Long> screeningCounts = new HashMap<>();
+            List<SalesDailyRollupEntity> rollups = new ArrayList<>();
+            for (ReservationRepository.SalesAggregate aggregate
+                    : reservationRepository.aggregateSalesByScreeningDate(fromDate, toDate)) {
+                RollupKey key = new RollupKey(aggregate.getSalesDate(), aggregate.getMovieId(),
+                        aggregate.getCinemaId(), aggregate.getScreenId(), aggregate.getSeatGradeId());
+                rollups.add(SalesDailyRollupEntity.builder()
+                        .salesDate(key.salesDate())
+                        .movieId(key.movieId())
+                        .cinemaId(key.cinemaId())
+                        .screenId(key.screenId())
+                        .seatGradeId(key.seatGradeId())
+                        .ticketsSold(aggregate.getTicketsSold())
+                        .revenue(aggregate.getRevenue())
+                        .discountTotal(aggregate.getDiscountTotal())
+                        .cancelledCount(aggregate.getCancelledCount())
+                        .refundedCount(aggregate.getRefundedCount())
+                        .refundedAmount(aggregate.getRefundedAmount())
+                        .capacity(capacityOf(key, screeningCounts))
+                        .build());
+            }
+            rollupRepository.saveAll(rollups);
+            return rollups.size();
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private void apply(Map<RollupKey, Delta> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> screeningCounts = new HashMap<>();
+
+        deltas.forEach((key, delta) -> {
+            long capacity = capacityOf(key, screeningCounts);
+            int updated = rollupRepository.addDeltas(key.salesDate(), key.movieId(), key.cinemaId(),
+                    key.screenId(), key.seatGradeId(), delta.ticketsSold(), delta.revenue(),
+                    delta.discountTotal(), delta.cancelledCount(), delta.refundedCount(),
+                    delta.refundedAmount(), capacity, now);
+
+            if (updated == 0) {
+                rollupRepository.save(SalesDailyRollupEntity.builder()
+                        .salesDate(key.salesDate())
+                        .movieId(key.movieId())
+                        .cinemaId(key.cinemaId())
+                        .screenId(key.screenId())
+                        .seatGradeId(key.seatGradeId())
+                        .ticketsSold(delta.ticketsSold())
+                        .revenue(delta.revenue())
+                        .discountTotal(delta.discountTotal())
+                        .cancelledCount(delta.cancelledCount())
+                        .refundedCount(delta.refundedCount())
+                        .refundedAmount(delta.refundedAmount())
+                        .capacity(capacity)
+                        .build());
+            }
+        });
+    }
+
+    // 점유율 분모: 해당 등급 좌석 수 x 그날 해당 상영관의 영화 상영 횟수
+    private long capacityOf(RollupKey key, Map<String, Long> screeningCounts) {
+        long screenings = screeningCounts.computeIfAbsent(
+                key.salesDate() + ":" + key.movieId() + ":" + key.screenId(),
+                ignored -> scheduleRepository.countByMovieIdAndScreenIdAndDate(key.movieId(), key.screenId(), key.salesDate()));
+        if (screenings == 0) {
+            return 0;
+        }
+        try {
+            return screenings * screenLayoutService.getLayout(key.screenId()).countSeatsOfGrade(key.seatGradeId());
+        } catch (IllegalArgumentException e) {
+            return 0;   // 삭제된 상영관
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.constants.BusinessConstants;
+import sehwan505.uosticketreservation.constants.StatusConstants;
+import sehwan505.uosticketreservation.event.ClusterMembershipChangedEvent;
+import sehwan505.uosticketreservation.event.SeatReleasedEvent;
+import sehwan505.uosticketreservation.repository.ReservationRepository;
+import sehwan505.uosticketreservation.util.SeatInventorySnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 소유 노드의 상영일정별 좌석 상태 (cluster.affinity.enabled=true이고 이 노드가 소유한 상영일정만)
+ * - 예매 생성은 상영일정별 JVM 락으로 한 줄로 세워, 같은 상영일정의 좌석 잠금 경합이 DB까지 가지 않게 한다.
+ * - 예매된 좌석 집합을 메모리에 들고 좌석 현황 조회와 예매 전 중복 확인에 사용한다.
+ *   이 노드의 예매는 바로 반영되고, 취소는 SeatReleasedEvent로 반영되며,
+ *   다른 노드의 변경(소유권 이동 중 예매 등)은 seat-state-sync-millis마다 수정 시각 기준 증분 조회로 맞춘다.
+ *   예매 취소와 결제 취소는 행을 지우지 않고 상태만 바꾸므로 증분 조회로 모두 보인다.
+ *   회원 탈퇴 등 연쇄 삭제나 직접 수정처럼 증분 조회로 보이지 않는 변경에 대비해 seat-state-full-reload-millis마다
+ *   상영일정 전체를 다시 읽는다. (스냅샷에서 복구한 상태는 스냅샷 시각부터 계산)
+ * - 좌석 상태는 snapshot-interval-millis마다 로컬 파일에 스냅샷으로 남기고, 재시작 시 스냅샷을 읽은 뒤
+ *   스냅샷 이후 바뀐 예매만 DB에서 조회해 복구한다. (상영일정마다 전체 조회하지 않음)
+ * 메모리 상태는 빠른 거절에만 쓰고 실제 예매는 기존처럼 DB 락으로 한 번 더 확인하므로, 상태가 늦어도 이중 예매는 생기지 않는다.
+ * 소유하지 않은 상영일정이나 비활성화 상태에서는 DB를 그대로 조회하고 락을 걸지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleSeatStateService {
+
+    // 이 시간(ms) 동안 사용되지 않은 상영일정 상태는 정리
+    private static final long IDLE_EVICT_MILLIS = 10 * 60 * 1000;
+
+    // 증분 조회 겹침 구간: 수정 시각은 커밋 전에 기록되므로 예매 트랜잭션 최대 시간 + 노드 간 시계 차이만큼 앞에서부터 조회
+    private static final long SYNC_OVERLAP_MILLIS = BusinessConstants.Transaction.RESERVATION_TIMEOUT_SECONDS * 1000L + 5000;
+
+    private final ClusterMembershipService clusterMembershipService;
+    private final ReservationService reservationService;
+
+    // 상영일정 전체를 DB에서 다시 읽는 주기 (단위: 밀리초)
+    @Value("${cluster.affinity.seat-state-full-reload-millis:60000}")
+    private long fullReloadMillis;
+
+    // 좌석 상태 스냅샷 파일 (비우면 스냅샷을 쓰지 않음)
+    @Value("${cluster.affinity.snapshot-file:data/seat-state.snapshot}")
+    private String snapshotFile;
+
+    private static final class SeatState {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private volatile Set<Integer> reservedSeatIds;
+        private volatile long loadedAtMillis;
+        private volatile long lastUsedMillis = System.currentTimeMillis();
+    }
+
+    private final Map<String, SeatState> states = new ConcurrentHashMap<>();
+
+    // 이 시각 이전의 DB 변경은 메모리 상태에 모두 반영됨 (증분 조회와 스냅샷 기준)
+    private volatile long syncedThroughMillis = System.currentTimeMillis();
+
+    // 상영일정의 예매된 좌석 ID (소유 상영일정은 메모리 상태, 아니면 DB)
+    public List<Integer> findReservedSeatIds(String scheduleId) {
+        if (!managed(scheduleId)) {
+            return reservationService.findReservedSeatsBySchedule(scheduleId);
+        }
+        SeatState state = state(scheduleId);
+        Set<Integer> reserved = state.reservedSeatIds;
+        if (reserved == null || System.currentTimeMillis() - state.loadedAtMillis > fullReloadMillis) {
+            reserved = ConcurrentHashMap.newKeySet();
+            reserved.addAll(reservationService.findReservedSeatsBySchedule(scheduleId));
+            state.reservedSeatIds = reserved;
+            state.loadedAtMillis = System.currentTimeMillis();
+        }
+        return List.copyOf(reserved);
+    }
+
+    // 소유 상영일정이면 상영일정별 락을 잡고 실행 (같은 상영일정의 예매 생성/자동 배정을 이 JVM 안에서 순서대로 처리)
+    // 클러스터 비활성화 상태에서는 모든 상영일정이 자기 노드 소유이므로 항상 락을 잡는다.
+    public <T> T withScheduleLock(String scheduleId, Supplier<T> action) {
+        if (!clusterMembershipService.isLocal(scheduleId)) {
+            return action.get();
+        }
+        SeatState state = state(scheduleId);
+        boolean locked;
+        try {
+            locked = state.lock.tryLock(BusinessConstants.Transaction.RESERVATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("예매 대기 중 인터럽트되었습니다.");
+        }
+        if (!locked) {
+            throw new IllegalStateException("다른 사용자가 같은 좌석을 선택 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return action.get();
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    // 이 노드에서 예매된 좌석 반영 (예매 커밋 후 호출)
+    public void markReserved(String scheduleId, Integer seatId) {
+        SeatState state = states.get(scheduleId);
+        if (state != null && state.reservedSeatIds != null) {
+            state.reservedSeatIds.add(seatId);
+        }
+    }
+
+    // 취소/만료로 풀린 좌석 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatReleased(SeatReleasedEvent event) {
+        SeatState state = states.get(event.getScheduleId());
+        if (state != null && state.reservedSeatIds != null) {
+            state.reservedSeatIds.remove(event.getSeatId());
+        }
+    }
+
+    // 소유 노드가 바뀌면 넘겨준 상영일정 상태는 버림 (남은 상영일정의 그 사이 변경은 증분 조회로 반영)
+    @EventListener
+    public void onMembershipChanged(ClusterMembershipChangedEvent event) {
+        states.entrySet().removeIf(entry -> !clusterMembershipService.isLocal(entry.getKey())
+                && !entry.getValue().lock.isLocked());
+        log.info("상영일정 소유권 재계산: 노드 {}개, 보유 좌석 상태 {}개", event.getNodeIds().size(), states.size());
+    }
+
+    /**
+     * 시작 시 스냅샷 복구 후 스냅샷 이후 변경만 DB에서 반영
+     * 복구 전에 이미 읽은 상영일정은 덮어쓰지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshot() {
+        if (!clusterMembershipService.isEnabled() || !StringUtils.hasText(snapshotFile)) {
+            return;
+        }
+        Path path = Paths.get(snapshotFile);
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        SeatInventorySnapshot.Contents snapshot;
+        try {
+            snapshot = SeatInventorySnapshot.read(path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("좌석 상태 스냅샷을 읽을 수 없어 상영일정별로 다시 조회합니다: {} ({})", path, e.getMessage());
+            return;
+        }
+
+        for (Map.Entry<String, int[]> entry : snapshot.reservedSeatIds().entrySet()) {
+            if (!clusterMembershipService.isLocal(entry.getKey())) {
+                continue;
+            }
+            SeatState state = new SeatState();
+            Set<Integer> reserved = ConcurrentHashMap.newKeySet(entry.getValue().length * 2);
+            for (int seatId : entry.getValue()) {
+                reserved.add(seatId);
+            }
+            state.reservedSeatIds = reserved;
+            // 스냅샷 시점 기준으로 두어, 스냅샷이 오래됐으면 전체 다시 읽기가 그만큼 빨리 일어나게 함
+            state.loadedAtMillis = snapshot.takenAtMillis();
+            states.putIfAbsent(entry.getKey(), state);
+        }
+        syncedThroughMillis = Math.min(syncedThroughMillis, snapshot.takenAtMillis());
+        int changes = syncChanges();
+        log.info("좌석 상태 스냅샷 복구: 상영일정 {}개, 이후 변경 {}건, {}ms (스냅샷 시각 {})",
+                snapshot.reservedSeatIds().size(), changes, System.currentTimeMillis() - startedAt,
+                Instant.ofEpochMilli(snapshot.takenAtMillis()));
+    }
+
+    // 다른 노드에서 바뀐 예매를 수정 시각 기준으로 반영
+    @Scheduled(fixedDelayString = "${cluster.affinity.seat-state-sync-millis:2000}")
+    public void syncDatabaseChanges() {
+        if (clusterMembershipService.isEnabled()) {
+            syncChanges();
+        }
+    }
+
+    // 좌석 상태 스냅샷 저장
+    @Scheduled(initialDelayString = "${cluster.affinity.snapshot-interval-millis:30000}",
+               fixedDelayString = "${cluster.affinity.snapshot-interval-millis:30000}")
+    public void writeSnapshot() {
+        if (!clusterMembershipService.isEnabled() || !StringUtils.hasText(snapshotFile)) {
+            return;
+        }
+        long takenAtMillis = syncedThroughMillis;
+        Map<String, int[]> reservedSeatIds = new HashMap<>();
+        for (Map.Entry<String, SeatState> entry : states.entrySet()) {
+            Set<Integer> reserved = entry.getValue().reservedSeatIds;
+            if (reserved != null) {
+                reservedSeatIds.put(entry.getKey(), reserved.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+        try {
+            SeatInventorySnapshot.write(Paths.get(snapshotFile), takenAtMillis, reservedSeatIds);
+            log.debug("좌석 상태 스냅샷 저장: 상영일정 {}개", reservedSeatIds.size());
+        } catch (IOException e) {
+            log.error("좌석 상태 스냅샷 저장 실패: {}", snapshotFile, e);
+        }
+    }
+
+    // 종료 시 최신 상태로 스냅샷 저장
+    @PreDestroy
+    public void shutdown() {
+        writeSnapshot();
+    }
+
+    // 오래 쓰지 않은 상영일정 상태 정리 (지난 상영일정 등)
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - IDLE_EVICT_MILLIS;
+        states.values().removeIf(state -> state.lastUsedMillis < idleBefore && !state.lock.isLocked());
+    }
+
+    /**
+     * syncedThroughMillis 이후(겹침 구간 포함) 수정된 예매를 읽어 메모리에 있는 상영일정에 반영
+     * 같은 행을 여러 번 반영해도 결과가 같으므로 겹쳐서 조회해도 된다.
+     */
+    private synchronized int syncChanges() {
+        long startedAt = System.currentTimeMillis();
+        if (states.isEmpty()) {
+            syncedThroughMillis = startedAt;
+            return 0;
+        }
+
+        LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(syncedThroughMillis - SYNC_OVERLAP_MILLIS), ZoneId.systemDefault());
+        List<ReservationRepository.SeatStatusChange> changes;
+        try {
+            changes = reservationService.findSeatStatusChangedSince(since);
+        } catch (RuntimeException e) {
+            log.warn("좌석 상태 증분 조회 실패 (다음 주기에 재시도): {}", e.getMessage());
+            return 0;
+        }
+
+        for (ReservationRepository.SeatStatusChange change : changes) {
+            SeatState state = states.get(change.getScheduleId());
+            Set<Integer> reserved = state != null ? state.reservedSeatIds : null;
+            if (reserved == null) {
+                continue;
+            }
+            if (StatusConstants.Reservation.CANCELLED.equals(change.getStatus())) {
+                reserved.remove(change.getSeatId());
+            } else {
+                reserved.add(change.getSeatId());
+            }
+        }
+        syncedThroughMillis = startedAt;
+        return changes.size();
+    }
+
+    private boolean managed(String scheduleId) {
+        return clusterMembershipService.isEnabled() && clusterMembershipService.isLocal(scheduleId);
+    }
+
+    private SeatState state(String scheduleId) {
+        SeatState state = states.computeIfAbsent(scheduleId, ignored -> new SeatState());
+        state.lastUsedMillis = System.currentTimeMillis();
+        return state;
+    }
+}
@@ -0,0 +1,204 @@
+package sehwan505.uosticketreservation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import sehwan505.uosticketreservation.dto.SeatDto;
+import sehwan505.uosticketreservation.entity.SeatEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상영관 좌석 배치의 불변 압축 모델
+ * 행×열 격자를 1차원 배열(index = row * columns + column)로 펼쳐
+ * 좌석 ID/등급/라벨 조회와 인접 판정을 정렬이나 객체 생성 없이 배열 조회로 처리한다.
+ * 상영관별로 한 번 만들어 ScreenLayoutService에서 캐시한다.
+ * 열 값이 숫자가 아닌 좌석은 격자에 놓을 수 없으므로 경고 로그를 남기고 제외한다.
+ */
+@Slf4j
+public final class ScreenLayout {
+
+    public static final int NO_SEAT = -1;
+
+    private final String screenId;
+    private final String[] rowLabels;
+    private final int columns;
+
+    private final int[] seatIds;        // 칸별 좌석 ID (좌석 없음: NO_SEAT)
+    private final String[] gradeIds;    // 칸별 좌석 등급 ID
+    private final String[] labels;      // 칸별 좌석 라벨 (예: A01)
+    private final SeatDto[] seatDtos;   // 칸별 좌석 정보
+    private final Map<Integer, Integer> indexBySeatId;
+
+    private final List<SeatDto> seats;            // 행/열 순서의 좌석 목록
+    private final List<List<SeatDto>> seatMap;    // 행별 좌석 배치도
+
+    private ScreenLayout(String screenId, List<SeatEntity> screenSeats) {
+        this.screenId = screenId;
+
+        TreeMap<String, List<SeatEntity>> byRow = new TreeMap<>();
+        int maxColumn = 0;
+        for (SeatEntity seat : screenSeats) {
+            int column = columnNumber(seat);
+            if (column == NO_SEAT) {
+                log.warn("좌석 배치에서 제외: 열 값이 올바르지 않음 (상영관: {}, 좌석 ID: {}, 열: '{}')",
+                        screenId, seat.getId(), seat.getColumn());
+                continue;
+            }
+            byRow.computeIfAbsent(seat.getRow(), row -> new ArrayList<>()).add(seat);
+            maxColumn = Math.max(maxColumn, column);
+        }
+
+        this.rowLabels = byRow.keySet().toArray(new String[0]);
+        this.columns = maxColumn;
+
+        int cells = rowLabels.length * columns;
+        this.seatIds = new int[cells];
+        this.gradeIds = new String[cells];
+        this.labels = new String[cells];
+        this.indexBySeatId = new HashMap<>(screenSeats.size() * 2);
+        Arrays.fill(seatIds, NO_SEAT);
+
+        this.seatDtos = new SeatDto[cells];
+        int row = 0;
+        for (List<SeatEntity> rowSeats : byRow.values()) {
+            for (SeatEntity seat : rowSeats) {
+                int index = row * columns + columnNumber(seat) - 1;
+                seatIds[index] = seat.getId();
+                gradeIds[index] = seat.getSeatGrade().getId();
+                labels[index] = seat.getSeatLabel();
+                indexBySeatId.put(seat.getId(), index);
+                seatDtos[index] = SeatDto.builder()
+                        .id(seat.getId())
+                        .seatGradeId(seat.getSeatGrade().getId())
+                        .seatGradeName(seat.getSeatGrade().getName())
+                        .row(seat.getRow())
+                        .column(seat.getColumn())
+                        .screenId(screenId)
+                        .price(seat.getSeatGrade().getPrice())
+                        .build();
+            }
+            row++;
+        }
+
+        List<SeatDto> orderedSeats = new ArrayList<>(screenSeats.size());
+        List<List<SeatDto>> rowsOfSeats = new ArrayList<>(rowLabels.length);
+        for (int r = 0; r < rowLabels.length; r++) {
+            List<SeatDto> rowSeats = new ArrayList<>();
+            for (int c = 0; c < columns; c++) {
+                SeatDto dto = seatDtos[r * columns + c];
+                if (dto != null) {
+                    rowSeats.add(dto);
+                    orderedSeats.add(dto);
+                }
+            }
+            rowsOfSeats.add(Collections.unmodifiableList(rowSeats));
+        }
+        this.seats = Collections.unmodifiableList(orderedSeats);
+        this.seatMap = Collections.unmodifiableList(rowsOfSeats);
+    }
+
+    // 상영관 좌석 목록으로 배치 모델 생성 (좌석 등급이 로딩되어 있어야 함)
+    public static ScreenLayout of(String screenId, List<SeatEntity> screenSeats) {
+        return new ScreenLayout(screenId, screenSeats);
+    }
+
+    public String getScreenId() {
+        return screenId;
+    }
+
+    public int getRows() {
+        return rowLabels.length;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getCellCount() {
+        return seatIds.length;
+    }
+
+    public String getRowLabel(int row) {
+        return rowLabels[row];
+    }
+
+    // 행/열 순서의 좌석 목록 (공유 객체이므로 수정 금지)
+    public List<SeatDto> getSeats() {
+        return seats;
+    }
+
+    // 행별 좌석 배치도 (공유 객체이므로 수정 금지)
+    public List<List<SeatDto>> getSeatMap() {
+        return seatMap;
+    }
+
+    public int indexOf(int row, int column) {
+        return row * columns + column;
+    }
+
+    // 좌석 ID의 칸 인덱스 (이 상영관 좌석이 아니면 NO_SEAT)
+    public int indexOf(Integer seatId) {
+        Integer index = indexBySeatId.get(seatId);
+        return index != null ? index : NO_SEAT;
+    }
+
+    public boolean hasSeat(int index) {
+        return seatIds[index] != NO_SEAT;
+    }
+
+    public int seatIdAt(int index) {
+        return seatIds[index];
+    }
+
+    public String gradeIdAt(int index) {
+        return gradeIds[index];
+    }
+
+    public String labelAt(int index) {
+        return labels[index];
+    }
+
+    public SeatDto seatAt(int index) {
+        return seatDtos[index];
+    }
+
+    // 해당 등급 좌석 수
+    public int countSeatsOfGrade(String gradeId) {
+        int count = 0;
+        for (int i = 0; i < seatIds.length; i++) {
+            if (seatIds[i] != NO_SEAT && gradeIds[i].equals(gradeId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 좌석 라벨 조회 (이 상영관 좌석이 아니면 null)
+    public String labelOf(Integer seatId) {
+        int index = indexOf(seatId);
+        return index != NO_SEAT ? labels[index] : null;
+    }
+
+    // 같은 행에서 바로 옆 칸인지 확인
+    public boolean areAdjacent(Integer seatIdA, Integer seatIdB) {
+        int a = indexOf(seatIdA);
+        int b = indexOf(seatIdB);
+        return a != NO_SEAT && b != NO_SEAT && a / columns == b / columns && Math.abs(a - b) == 1;
+    }
+
+    // 좌석 열 번호 (1부터, 숫자가 아니거나 1 미만이면 NO_SEAT)
+    private static int columnNumber(SeatEntity seat) {
+        String column = seat.getColumn() != null ? seat.getColumn().trim() : "";
+        try {
+            int number = Integer.parseInt(column);
+            return number >= 1 ? number : NO_SEAT;
+        } catch (NumberFormatException e) {
+            return NO_SEAT;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.event.ReferenceCacheEvictionEvent;
+import sehwan505.uosticketreservation.repository.ScreenRepository;
+import sehwan505.uosticketreservation.repository.SeatRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 상영관별 좌석 배치 모델 캐시
+ * 좌석 등록/수정/삭제 시 해당 상영관 캐시를 비우고, 다른 노드에도 CacheEvictionBroadcastService로 전파한다.
+ * 전파가 꺼져 있거나 DB를 직접 수정한 경우에도 일정 시간(screen-layout.cache.expire-after-write-seconds)이 지나면 다시 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ScreenLayoutService {
+
+    private final SeatRepository seatRepository;
+    private final ScreenRepository screenRepository;
+    private final CacheEvictionBroadcastService cacheEvictionBroadcastService;
+
+    @Value("${screen-layout.cache.expire-after-write-seconds:600}")
+    private long expireAfterWriteSeconds;
+
+    private Cache<String, ScreenLayout> layouts;
+
+    @PostConstruct
+    void init() {
+        layouts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+
+    // 상영관 좌석 배치 조회 (캐시가 없거나 만료됐을 때만 DB 조회)
+    public ScreenLayout getLayout(String screenId) {
+        return layouts.get(screenId, this::load);
+    }
+
+    private ScreenLayout load(String screenId) {
+        if (!screenRepository.existsById(screenId)) {
+            throw new IllegalArgumentException("존재하지 않는 상영관입니다. ID: " + screenId);
+        }
+
+        ScreenLayout loaded = ScreenLayout.of(screenId, seatRepository.findByScreenIdWithSeatGrade(screenId));
+        log.debug("상영관 좌석 배치 캐시 생성: {}, 좌석 {}개", screenId, loaded.getSeats().size());
+        return loaded;
+    }
+
+    // 상영관 좌석 배치 캐시 제거 (트랜잭션 중이면 커밋 후 한 번 더 제거, 다른 노드에도 전파)
+    public void evict(String screenId) {
+        layouts.invalidate(screenId);
+        cacheEvictionBroadcastService.publish(ReferenceCacheEvictionEvent.Target.SCREEN_LAYOUT, screenId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    layouts.invalidate(screenId);
+                }
+            });
+        }
+    }
+
+    // 이 노드의 좌석 배치 캐시 전체 제거
+    public void evictAll() {
+        layouts.invalidateAll();
+    }
+
+    // 다른 노드에서 비운 좌석 배치 캐시를 이 노드에서도 제거
+    @EventListener
+    public void onEvictedElsewhere(ReferenceCacheEvictionEvent event) {
+        switch (event.getTarget()) {
+            case ALL -> evictAll();
+            case SCREEN_LAYOUT -> layouts.invalidate(event.getKey());
+            default -> {
+            }
+        }
+    }
+}
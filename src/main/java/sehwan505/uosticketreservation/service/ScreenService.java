@@ -20,6 +20,8 @@ public class ScreenService {
     
     private final ScreenRepository screenRepository;
     private final CinemaRepository cinemaRepository;
+    private final ScreenLayoutService screenLayoutService;
+    private final ReferenceDataCacheService referenceDataCacheService;
     
     // 모든 상영관 조회
     public List<ScreenDto> findAllScreens() {
@@ -62,6 +64,7 @@ public class ScreenService {
                 .build();
         
         ScreenEntity savedScreen = screenRepository.save(screen);
+        referenceDataCacheService.evictCinemaScreens(cinema.getId());
         return savedScreen.getId();
     }
     
@@ -75,12 +78,15 @@ public class ScreenService {
         if (!screen.getCinema().getId().equals(screenSaveDto.getCinemaId())) {
             CinemaEntity newCinema = cinemaRepository.findById(screenSaveDto.getCinemaId())
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영화관입니다. ID: " + screenSaveDto.getCinemaId()));
+            referenceDataCacheService.evictCinemaScreens(screen.getCinema().getId());
+            referenceDataCacheService.evictCinemaScreens(newCinema.getId());
             screen.setCinema(newCinema);
         }
         
         // 상영관 정보 업데이트
         screen.setName(screenSaveDto.getName());
         screen.setTotalSeats(screenSaveDto.getTotalSeats());
+        referenceDataCacheService.evictScreen(screen.getId());
         
         return screen.getId();
     }
@@ -97,6 +103,9 @@ public class ScreenService {
         }
         
         screenRepository.delete(screen);
+        screenLayoutService.evict(id);
+        referenceDataCacheService.evictCinemaScreens(screen.getCinema().getId());
+        referenceDataCacheService.evictScreen(id);
     }
     
     // ScreenEntity를 ScreenDto로 변환
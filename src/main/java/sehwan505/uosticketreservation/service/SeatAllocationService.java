@@ -0,0 +1,191 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.constants.BusinessConstants;
+import sehwan505.uosticketreservation.dto.ReservationSaveDto;
+import sehwan505.uosticketreservation.entity.ScheduleEntity;
+import sehwan505.uosticketreservation.repository.ScheduleRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 단체 예매를 위한 자동 좌석 배정
+ * 상영관 좌석 배치(ScreenLayout) 위의 점유 배열에서 같은 행의 연속된 N개 좌석을 중앙 근접도와 등급으로 점수화해
+ * 가장 좋은 블록을 한 번에 선점한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatAllocationService {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final double GRADE_MISMATCH_PENALTY = 1.0;
+    private static final double MIXED_GRADE_PENALTY = 0.5;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScreenLayoutService screenLayoutService;
+    private final ReservationService reservationService;
+    private final WaitlistService waitlistService;
+    private final ScheduleSeatStateService scheduleSeatStateService;
+
+    /**
+     * 자동 배정 결과
+     */
+    @Getter
+    public static class Allocation {
+        private final List<String> reservationIds;
+        private final List<Integer> seatIds;
+        private final List<String> seatLabels;
+
+        private Allocation(List<String> reservationIds, List<Integer> seatIds, List<String> seatLabels) {
+            this.reservationIds = reservationIds;
+            this.seatIds = seatIds;
+            this.seatLabels = seatLabels;
+        }
+    }
+
+    /**
+     * 최적의 연속 좌석 N개를 찾아 선점
+     * 소유 노드에서는 수동 예매와 같은 상영일정별 락(ScheduleSeatStateService) 안에서 배정한다.
+     * 동시 예매와 좌석이 겹쳐 키 위반이나 락 획득 실패로 선점하지 못한 경우에만 최신 점유 상태로 다시 시도한다.
+     */
+    public Allocation allocateBestAvailable(String scheduleId, int count, String preferredGradeId,
+                                            String memberUserId, String phoneNumber) {
+        if (count < 1 || count > BusinessConstants.Seat.MAX_AUTO_SELECT_SEATS) {
+            throw new IllegalArgumentException("자동 배정 인원은 1명 이상 " + BusinessConstants.Seat.MAX_AUTO_SELECT_SEATS + "명 이하여야 합니다.");
+        }
+
+        ScheduleEntity schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상영일정입니다. ID: " + scheduleId));
+        ScreenLayout layout = screenLayoutService.getLayout(schedule.getScreen().getId());
+
+        return scheduleSeatStateService.withScheduleLock(scheduleId, () -> {
+            RuntimeException lastFailure = null;
+
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                boolean[] occupied = new boolean[layout.getCellCount()];
+                markOccupied(layout, occupied, scheduleSeatStateService.findReservedSeatIds(scheduleId));
+                markOccupied(layout, occupied, waitlistService.findHeldSeatIds(scheduleId));
+
+                int blockStart = findBestBlock(layout, occupied, count, preferredGradeId);
+                if (blockStart == ScreenLayout.NO_SEAT) {
+                    throw new IllegalStateException("요청한 인원이 나란히 앉을 수 있는 좌석이 없습니다.");
+                }
+
+                List<Integer> seatIds = new ArrayList<>(count);
+                List<String> seatLabels = new ArrayList<>(count);
+                for (int index = blockStart; index < blockStart + count; index++) {
+                    seatIds.add(layout.seatIdAt(index));
+                    seatLabels.add(layout.labelAt(index));
+                }
+
+                List<ReservationSaveDto> requests = seatIds.stream()
+                        .map(seatId -> ReservationSaveDto.builder()
+                                .scheduleId(scheduleId)
+                                .seatId(seatId)
+                                .memberUserId(memberUserId)
+                                .phoneNumber(phoneNumber)
+                                .build())
+                        .toList();
+
+                try {
+                    List<String> reservationIds = reservationService.saveReservations(requests);
+                    seatIds.forEach(seatId -> scheduleSeatStateService.markReserved(scheduleId, seatId));
+                    log.info("자동 좌석 배정 완료: 스케줄={}, 좌석={}", scheduleId, seatLabels);
+
+                    return new Allocation(reservationIds, seatIds, seatLabels);
+                } catch (RuntimeException e) {
+                    if (!isContention(e)) {
+                        throw e;
+                    }
+                    log.warn("자동 좌석 배정 경합 (시도 {}/{}): 스케줄={}, 사유={}", attempt, MAX_ATTEMPTS, scheduleId, e.getMessage());
+                    lastFailure = e;
+                }
+            }
+
+            throw new IllegalStateException("좌석 선점 경합으로 자동 배정에 실패했습니다. 잠시 후 다시 시도해주세요.", lastFailure);
+        });
+    }
+
+    // 다른 예매와 좌석이 겹친 실패인지 (예매 ID/좌석 점유 키 위반 또는 행 락 획득 실패)
+    private static boolean isContention(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException || cause instanceof PessimisticLockingFailureException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 이 상영관 좌석만 점유 표시
+    private void markOccupied(ScreenLayout layout, boolean[] occupied, List<Integer> seatIds) {
+        for (Integer seatId : seatIds) {
+            int index = layout.indexOf(seatId);
+            if (index != ScreenLayout.NO_SEAT) {
+                occupied[index] = true;
+            }
+        }
+    }
+
+    // 점수가 가장 낮은(좋은) 연속 좌석 블록의 시작 칸 탐색 (없으면 NO_SEAT)
+    private int findBestBlock(ScreenLayout layout, boolean[] occupied, int count, String preferredGradeId) {
+        int rows = layout.getRows();
+        int columns = layout.getColumns();
+        double idealRow = (rows - 1) * BusinessConstants.Seat.IDEAL_ROW_RATIO;
+        double rowCenter = (columns - 1) / 2.0;
+
+        int best = ScreenLayout.NO_SEAT;
+        double bestScore = Double.MAX_VALUE;
+
+        for (int r = 0; r < rows; r++) {
+            int run = 0;
+            for (int c = 0; c < columns; c++) {
+                int index = layout.indexOf(r, c);
+                run = layout.hasSeat(index) && !occupied[index] ? run + 1 : 0;
+                if (run < count) {
+                    continue;
+                }
+
+                int start = index - count + 1;
+                double score = scoreBlock(layout, r, c - count + 1, start, count, preferredGradeId, idealRow, rowCenter);
+                if (score < bestScore) {
+                    bestScore = score;
+                    best = start;
+                }
+            }
+        }
+
+        return best;
+    }
+
+    private double scoreBlock(ScreenLayout layout, int row, int startColumn, int startIndex, int count,
+                              String preferredGradeId, double idealRow, double rowCenter) {
+        double blockCenter = startColumn + (count - 1) / 2.0;
+        double horizontal = Math.abs(blockCenter - rowCenter) / Math.max(1, layout.getColumns());
+        double vertical = Math.abs(row - idealRow) / Math.max(1, layout.getRows());
+
+        String firstGrade = layout.gradeIdAt(startIndex);
+        boolean mixedGrade = false;
+        for (int i = startIndex + 1; i < startIndex + count; i++) {
+            if (!firstGrade.equals(layout.gradeIdAt(i))) {
+                mixedGrade = true;
+                break;
+            }
+        }
+
+        double gradePenalty = 0;
+        if (mixedGrade) {
+            gradePenalty = MIXED_GRADE_PENALTY;
+        } else if (preferredGradeId != null && !preferredGradeId.equals(firstGrade)) {
+            gradePenalty = GRADE_MISMATCH_PENALTY;
+        }
+
+        return horizontal + vertical + gradePenalty;
+    }
+}
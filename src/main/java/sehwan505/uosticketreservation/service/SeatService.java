@@ -1,10 +1,13 @@
 package sehwan505.uosticketreservation.service;
 
 import sehwan505.uosticketreservation.dto.SeatDto;
+import sehwan505.uosticketreservation.dto.SeatLayoutImportDto;
+import sehwan505.uosticketreservation.dto.SeatLayoutImportResultDto;
 import sehwan505.uosticketreservation.dto.SeatSaveDto;
 import sehwan505.uosticketreservation.entity.ScreenEntity;
 import sehwan505.uosticketreservation.entity.SeatEntity;
 import sehwan505.uosticketreservation.entity.SeatGradeEntity;
+import sehwan505.uosticketreservation.repository.ReservationRepository;
 import sehwan505.uosticketreservation.repository.ScreenRepository;
 import sehwan505.uosticketreservation.repository.SeatRepository;
 import sehwan505.uosticketreservation.repository.SeatGradeRepository;
@@ -16,7 +19,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,10 +31,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SeatService {
 
+    private static final char LAYOUT_GAP = '.';
+    private static final int MAX_IN_LIST_SIZE = 1000;
+
     private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
     private final ScreenRepository screenRepository;
     private final SeatGradeRepository seatGradeRepository;
     private final IdGenerator idGenerator;
+    private final ScreenLayoutService screenLayoutService;
 
     // 모든 좌석 조회
     public List<SeatDto> findAllSeats() {
@@ -43,14 +55,9 @@ public class SeatService {
         return convertToDto(seat);
     }
 
-    // 상영관별 좌석 조회
+    // 상영관별 좌석 조회 (행/열 순서, 캐시된 좌석 배치 사용)
     public List<SeatDto> findSeatsByScreen(String screenId) {
-        ScreenEntity screen = screenRepository.findById(screenId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상영관입니다. ID: " + screenId));
-
-        return seatRepository.findByScreenOrderByRowAscColumnAsc(screen).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return screenLayoutService.getLayout(screenId).getSeats();
     }
 
     // Entity를 DTO로 변환
@@ -66,19 +73,9 @@ public class SeatService {
                 .build();
     }
 
-    // 상영관별 좌석 배치도 정보
+    // 상영관별 좌석 배치도 정보 (행별, 캐시된 좌석 배치 사용)
     public List<List<SeatDto>> getSeatMapByScreen(String screenId) {
-        List<SeatDto> seats = findSeatsByScreen(screenId);
-
-        // 행별로 그룹화
-        return seats.stream()
-                .collect(Collectors.groupingBy(SeatDto::getRow))
-                .entrySet().stream()
-                .sorted(java.util.Map.Entry.comparingByKey())
-                .map(entry -> entry.getValue().stream()
-                        .sorted((s1, s2) -> s1.getColumn().compareTo(s2.getColumn()))
-                        .collect(Collectors.toList()))
-                .collect(Collectors.toList());
+        return screenLayoutService.getLayout(screenId).getSeatMap();
     }
     
     // ===== 관리자 기능 =====
@@ -94,21 +91,24 @@ public class SeatService {
         SeatGradeEntity seatGrade = seatGradeRepository.findById(seatSaveDto.getSeatGradeId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석 등급입니다. ID: " + seatSaveDto.getSeatGradeId()));
         
+        String column = normalizeColumn(seatSaveDto.getColumn());
+        
         // 동일한 상영관에서 동일한 좌석 위치(행+열) 중복 확인
-        boolean exists = seatRepository.existsByScreenAndRowAndColumn(screen, seatSaveDto.getRow(), seatSaveDto.getColumn());
+        boolean exists = seatRepository.existsByScreenAndRowAndColumn(screen, seatSaveDto.getRow(), column);
         if (exists) {
-            throw new IllegalStateException("해당 위치에 이미 좌석이 존재합니다. (행: " + seatSaveDto.getRow() + ", 열: " + seatSaveDto.getColumn() + ")");
+            throw new IllegalStateException("해당 위치에 이미 좌석이 존재합니다. (행: " + seatSaveDto.getRow() + ", 열: " + column + ")");
         }
         
         // 좌석 엔티티 생성
         SeatEntity seat = SeatEntity.builder()
                 .seatGrade(seatGrade)
                 .row(seatSaveDto.getRow())
-                .column(seatSaveDto.getColumn())
+                .column(column)
                 .screen(screen)
                 .build();
         
         SeatEntity savedSeat = seatRepository.save(seat);
+        screenLayoutService.evict(screen.getId());
         return savedSeat.getId();
     }
     
@@ -118,6 +118,9 @@ public class SeatService {
         SeatEntity seat = seatRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다. ID: " + id));
         
+        String column = normalizeColumn(seatSaveDto.getColumn());
+        screenLayoutService.evict(seat.getScreen().getId());
+        
         // 상영관이 변경되는 경우 상영관 존재 확인
         if (!seat.getScreen().getId().equals(seatSaveDto.getScreenId())) {
             ScreenEntity newScreen = screenRepository.findById(seatSaveDto.getScreenId())
@@ -133,16 +136,17 @@ public class SeatService {
         }
         
         // 좌석 위치가 변경되는 경우 중복 확인
-        if (!seat.getRow().equals(seatSaveDto.getRow()) || !seat.getColumn().equals(seatSaveDto.getColumn())) {
-            boolean exists = seatRepository.existsByScreenAndRowAndColumn(seat.getScreen(), seatSaveDto.getRow(), seatSaveDto.getColumn());
+        if (!seat.getRow().equals(seatSaveDto.getRow()) || !seat.getColumn().equals(column)) {
+            boolean exists = seatRepository.existsByScreenAndRowAndColumn(seat.getScreen(), seatSaveDto.getRow(), column);
             if (exists) {
-                throw new IllegalStateException("해당 위치에 이미 좌석이 존재합니다. (행: " + seatSaveDto.getRow() + ", 열: " + seatSaveDto.getColumn() + ")");
+                throw new IllegalStateException("해당 위치에 이미 좌석이 존재합니다. (행: " + seatSaveDto.getRow() + ", 열: " + column + ")");
             }
         }
         
         // 좌석 정보 업데이트
         seat.setRow(seatSaveDto.getRow());
-        seat.setColumn(seatSaveDto.getColumn());
+        seat.setColumn(column);
+        screenLayoutService.evict(seat.getScreen().getId());
         
         return seat.getId();
     }
@@ -164,9 +168,10 @@ public class SeatService {
         }
         
         seatRepository.delete(seat);
+        screenLayoutService.evict(seat.getScreen().getId());
     }
     
-    // 상영관의 좌석 일괄 생성 (격자 형태)
+    // 상영관의 좌석 일괄 생성 (격자 형태, 이미 있는 위치는 건너뜀)
     @Transactional
     public List<Integer> createSeatsForScreen(String screenId, String seatGradeId, int rows, int seatsPerRow) {
         // 상영관 존재 확인
@@ -177,37 +182,181 @@ public class SeatService {
         SeatGradeEntity seatGrade = seatGradeRepository.findById(seatGradeId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석 등급입니다. ID: " + seatGradeId));
         
-        List<SeatEntity> seats = new ArrayList<>();
+        validateGridSize(rows, seatsPerRow);
         
-        // A부터 시작하여 행 생성
+        // A부터 시작하여 행 생성, 각 행의 좌석 생성 (01, 02, 03...)
+        Map<String, SeatGradeEntity> cells = new LinkedHashMap<>();
         for (int i = 0; i < rows; i++) {
             String row = String.valueOf((char) ('A' + i));
-            
-            // 각 행의 좌석 생성 (01, 02, 03...)
             for (int j = 1; j <= seatsPerRow; j++) {
-                String column = idGenerator.generateSeatColumn(j);
-                
-                // 중복 확인
-                boolean exists = seatRepository.existsByScreenAndRowAndColumn(screen, row, column);
-                if (!exists) {
-                    SeatEntity seat = SeatEntity.builder()
-                            .seatGrade(seatGrade)
-                            .row(row)
-                            .column(column)
-                            .screen(screen)
-                            .build();
-                    seats.add(seat);
+                cells.put(row + idGenerator.generateSeatColumn(j), seatGrade);
+            }
+        }
+        
+        return applyLayout(screen, cells, false, false).created().stream()
+                .map(SeatEntity::getId)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 상영관 좌석 배치 일괄 등록
+     * 배치 전체를 기존 좌석과 한 번에 비교해 없는 좌석은 추가하고, 등급이 다른 좌석은 등급을 바꾸며,
+     * removeMissing이면 배치에 없는 좌석을 삭제한다. (활성 예약이 있는 좌석이 삭제 대상이면 전체 실패)
+     */
+    @Transactional
+    public SeatLayoutImportResultDto importLayout(String screenId, SeatLayoutImportDto layoutDto) {
+        ScreenEntity screen = screenRepository.findById(screenId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상영관입니다. ID: " + screenId));
+        
+        List<String> rows = layoutDto.getRows();
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("좌석 배치가 비어 있습니다.");
+        }
+        validateGridSize(rows.size(), rows.stream().mapToInt(String::length).max().orElse(0));
+        
+        Map<Character, SeatGradeEntity> gradeByCode = resolveGradeCodes(layoutDto.getGrades());
+        
+        Map<String, SeatGradeEntity> cells = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            String row = String.valueOf((char) ('A' + i));
+            String line = rows.get(i);
+            for (int j = 0; j < line.length(); j++) {
+                char code = line.charAt(j);
+                if (code == LAYOUT_GAP || code == ' ') {
+                    continue;
                 }
+                SeatGradeEntity seatGrade = gradeByCode.get(code);
+                if (seatGrade == null) {
+                    throw new IllegalArgumentException("정의되지 않은 좌석 등급 코드입니다: '" + code + "' (행: " + row + ", 열: " + (j + 1) + ")");
+                }
+                cells.put(row + idGenerator.generateSeatColumn(j + 1), seatGrade);
             }
         }
         
-        List<SeatEntity> savedSeats = seatRepository.saveAll(seats);
+        LayoutChanges changes = applyLayout(screen, cells, true, layoutDto.isRemoveMissing());
+        return SeatLayoutImportResultDto.builder()
+                .screenId(screenId)
+                .created(changes.created().size())
+                .gradeChanged(changes.gradeChanged())
+                .removed(changes.removed())
+                .unchanged(changes.unchanged())
+                .totalSeats(screen.getTotalSeats())
+                .build();
+    }
+    
+    private record LayoutChanges(List<SeatEntity> created, int gradeChanged, int removed, int unchanged) {
+    }
+    
+    /**
+     * 좌석 배치(좌석 라벨 -> 등급)를 상영관의 기존 좌석과 비교해 반영
+     * 기존 좌석 조회 1회, 시퀀스 조회/INSERT/UPDATE는 JDBC 배치 단위(기본 50건)로 묶인다.
+     */
+    private LayoutChanges applyLayout(ScreenEntity screen, Map<String, SeatGradeEntity> cells,
+                                      boolean updateGrades, boolean removeMissing) {
+        List<SeatEntity> existingSeats = seatRepository.findByScreenIdWithSeatGrade(screen.getId());
+        Map<String, SeatEntity> existingByLabel = new HashMap<>(existingSeats.size() * 2);
+        for (SeatEntity seat : existingSeats) {
+            existingByLabel.put(seat.getSeatLabel(), seat);
+        }
+        
+        List<SeatEntity> created = new ArrayList<>();
+        int gradeChanged = 0;
+        int unchanged = 0;
+        for (Map.Entry<String, SeatGradeEntity> cell : cells.entrySet()) {
+            SeatEntity seat = existingByLabel.remove(cell.getKey());
+            if (seat == null) {
+                created.add(SeatEntity.builder()
+                        .seatGrade(cell.getValue())
+                        .row(cell.getKey().substring(0, 1))
+                        .column(cell.getKey().substring(1))
+                        .screen(screen)
+                        .build());
+            } else if (updateGrades && !seat.getSeatGrade().getId().equals(cell.getValue().getId())) {
+                seat.setSeatGrade(cell.getValue());
+                gradeChanged++;
+            } else {
+                unchanged++;
+            }
+        }
+        
+        // 배치에 없는 기존 좌석 삭제 (남은 existingByLabel)
+        // 취소/환불 이력도 매출 집계와 내보내기에 쓰이므로 예매 이력이 하나라도 있는 좌석은 삭제하지 않고 거부
+        int removed = 0;
+        if (removeMissing && !existingByLabel.isEmpty()) {
+            List<Integer> removedIds = existingByLabel.values().stream()
+                    .map(SeatEntity::getId)
+                    .collect(Collectors.toList());
+            for (List<Integer> chunk : chunks(removedIds)) {
+                if (!reservationRepository.findSeatIdsWithReservations(chunk).isEmpty()) {
+                    throw new IllegalStateException("예매 이력이 있는 좌석은 배치에서 삭제할 수 없습니다.");
+                }
+            }
+            for (List<Integer> chunk : chunks(removedIds)) {
+                seatRepository.deleteAllByIdInBatch(chunk);
+            }
+            removed = removedIds.size();
+        }
+        
+        seatRepository.saveAll(created);
         
         // 상영관의 총 좌석 수 업데이트
-        screen.setTotalSeats(seatRepository.countByScreen(screen));
+        screen.setTotalSeats(existingSeats.size() + created.size() - removed);
+        screenLayoutService.evict(screen.getId());
         
-        return savedSeats.stream()
-                .map(SeatEntity::getId)
-                .collect(Collectors.toList());
+        return new LayoutChanges(created, gradeChanged, removed, unchanged);
+    }
+    
+    // 칸 문자 -> 좌석 등급 (등급 조회 1회)
+    private Map<Character, SeatGradeEntity> resolveGradeCodes(Map<String, String> grades) {
+        if (grades == null || grades.isEmpty()) {
+            throw new IllegalArgumentException("좌석 등급 코드가 정의되지 않았습니다.");
+        }
+        Map<String, SeatGradeEntity> gradeById = seatGradeRepository.findAllById(new HashSet<>(grades.values())).stream()
+                .collect(Collectors.toMap(SeatGradeEntity::getId, grade -> grade));
+        
+        Map<Character, SeatGradeEntity> gradeByCode = new HashMap<>();
+        grades.forEach((code, gradeId) -> {
+            if (code == null || code.length() != 1 || code.charAt(0) == LAYOUT_GAP || code.charAt(0) == ' ') {
+                throw new IllegalArgumentException("좌석 등급 코드는 '.'과 공백을 제외한 한 글자여야 합니다: " + code);
+            }
+            SeatGradeEntity seatGrade = gradeById.get(gradeId);
+            if (seatGrade == null) {
+                throw new IllegalArgumentException("존재하지 않는 좌석 등급입니다. ID: " + gradeId);
+            }
+            gradeByCode.put(code.charAt(0), seatGrade);
+        });
+        return gradeByCode;
+    }
+    
+    private void validateGridSize(int rows, int columns) {
+        if (rows < 1 || rows > BusinessConstants.Seat.MAX_LAYOUT_ROWS) {
+            throw new IllegalArgumentException("행 수는 1 이상 " + BusinessConstants.Seat.MAX_LAYOUT_ROWS + " 이하여야 합니다.");
+        }
+        if (columns < 1 || columns > BusinessConstants.Seat.MAX_LAYOUT_COLUMNS) {
+            throw new IllegalArgumentException("열 수는 1 이상 " + BusinessConstants.Seat.MAX_LAYOUT_COLUMNS + " 이하여야 합니다.");
+        }
+    }
+    
+    // 좌석 열 검증 후 두 자리 형식(01~99)으로 변환 (좌석 배치 격자는 숫자 열만 지원)
+    private String normalizeColumn(String column) {
+        int number;
+        try {
+            number = Integer.parseInt(column == null ? "" : column.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("좌석 열은 숫자여야 합니다. (열: " + column + ")");
+        }
+        if (number < 1 || number > BusinessConstants.Seat.MAX_LAYOUT_COLUMNS) {
+            throw new IllegalArgumentException("좌석 열은 1 이상 " + BusinessConstants.Seat.MAX_LAYOUT_COLUMNS + " 이하여야 합니다. (열: " + column + ")");
+        }
+        return idGenerator.generateSeatColumn(number);
+    }
+    
+    // IN 절 항목 수 제한(Oracle 1000개)에 맞춰 분할
+    private static List<List<Integer>> chunks(List<Integer> ids) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size())));
+        }
+        return chunks;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,201 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.util.BloomFilter;
+import sehwan505.uosticketreservation.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JWT 폐기 목록
+ * 로그아웃한 토큰의 jti와, 비밀번호 변경 등으로 이전 토큰을 모두 무효화한 회원의 기준 시각을 관리한다.
+ * 대부분의 요청은 폐기되지 않은 토큰이므로 블룸 필터로 먼저 걸러내고, 걸린 경우에만 정확한 집합을 확인한다.
+ * 항목은 토큰의 원래 만료 시각이 지나면 제거되며, 재시작에 대비해 로컬 파일에 저장한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private static final String TOKEN_RECORD = "J";
+    private static final String USER_RECORD = "U";
+
+    private final JwtUtil jwtUtil;
+
+    @Value("${jwt.revocation.file:data/revoked-tokens.dat}")
+    private String storeFile;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private int expectedEntries;
+
+    @Value("${jwt.expiration:86400000}")
+    private long jwtExpiration;
+
+    // 폐기된 jti -> 토큰 만료 시각 (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    // 회원 ID -> 이 시각(epoch seconds) 이전에 발급된 토큰은 모두 무효
+    private final Map<String, Long> userNotBefore = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter revokedFilter;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    @PostConstruct
+    public void load() {
+        revokedFilter = new BloomFilter(expectedEntries, 0.01);
+
+        Path path = Paths.get(storeFile);
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\\|");
+                if (fields.length != 3) {
+                    continue;
+                }
+                long value = Long.parseLong(fields[2]);
+                if (TOKEN_RECORD.equals(fields[0]) && value > now) {
+                    revokedTokens.put(fields[1], value);
+                    revokedFilter.add(fields[1]);
+                } else if (USER_RECORD.equals(fields[0]) && value * 1000 + jwtExpiration > now) {
+                    userNotBefore.put(fields[1], value);
+                }
+            }
+            log.info("토큰 폐기 목록 복구: 토큰 {}건, 회원 {}건", revokedTokens.size(), userNotBefore.size());
+        } catch (IOException | NumberFormatException e) {
+            log.error("토큰 폐기 목록 파일을 읽을 수 없습니다: {}", path, e);
+        }
+    }
+
+    // 토큰 하나 폐기 (로그아웃)
+    public boolean revokeToken(String token) {
+        Claims claims = jwtUtil.parseToken(token);
+        if (claims == null) {
+            return false;
+        }
+
+        // jti가 없는 이전 토큰은 개별 폐기가 불가능하므로 해당 회원의 기존 토큰을 모두 폐기
+        if (claims.getId() == null) {
+            revokeAllForUser(claims.getSubject());
+            return true;
+        }
+
+        long expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : System.currentTimeMillis() + jwtExpiration;
+        revokedTokens.put(claims.getId(), expiresAt);
+        revokedFilter.add(claims.getId());
+        dirty.set(true);
+        return true;
+    }
+
+    /**
+     * 회원의 기존 토큰 모두 폐기 (비밀번호 변경 등)
+     * 발급 시각(iat)이 초 단위이므로 지금 이전 초에 발급된 토큰까지 무효화된다.
+     */
+    public void revokeAllForUser(String userId) {
+        userNotBefore.put(userId, System.currentTimeMillis() / 1000);
+        dirty.set(true);
+        log.info("회원 토큰 전체 폐기: {}", userId);
+    }
+
+    // 폐기된 토큰인지 확인 (DB 조회 없음)
+    public boolean isRevoked(String userId, String jti, long issuedAtSeconds) {
+        Long notBefore = userNotBefore.get(userId);
+        if (notBefore != null && issuedAtSeconds < notBefore) {
+            return true;
+        }
+        if (jti == null || !revokedFilter.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokens.containsKey(jti);
+    }
+
+    /**
+     * 5초마다 변경된 폐기 목록을 파일에 저장
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void flush() {
+        if (dirty.getAndSet(false)) {
+            writeStore();
+        }
+    }
+
+    /**
+     * 1시간마다 만료된 항목 제거 후 블룸 필터 재생성
+     */
+    @Scheduled(fixedDelay = 3600000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revokedTokens.size() + userNotBefore.size();
+
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        userNotBefore.values().removeIf(notBefore -> notBefore * 1000 + jwtExpiration <= now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revokedTokens.size() * 2), 0.01);
+        revokedTokens.keySet().forEach(rebuilt::add);
+        revokedFilter = rebuilt;
+
+        // 재생성 중 추가된 jti 반영
+        revokedTokens.keySet().forEach(rebuilt::add);
+
+        int purged = before - revokedTokens.size() - userNotBefore.size();
+        if (purged > 0) {
+            log.info("만료된 토큰 폐기 항목 정리: {}건", purged);
+            dirty.set(true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeStore();
+    }
+
+    // 임시 파일에 쓴 뒤 교체하여 중간에 종료되어도 이전 파일 유지
+    private synchronized void writeStore() {
+        Path path = Paths.get(storeFile).toAbsolutePath();
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Long> entry : revokedTokens.entrySet()) {
+                    writeRecord(writer, TOKEN_RECORD, entry.getKey(), entry.getValue());
+                }
+                for (Map.Entry<String, Long> entry : userNotBefore.entrySet()) {
+                    writeRecord(writer, USER_RECORD, entry.getKey(), entry.getValue());
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.error("토큰 폐기 목록 저장 실패: {}", path, e);
+        }
+    }
+
+    private void writeRecord(BufferedWriter writer, String type, String key, long value) throws IOException {
+        writer.write(String.join("|", List.of(type, key, String.valueOf(value))));
+        writer.newLine();
+    }
+}
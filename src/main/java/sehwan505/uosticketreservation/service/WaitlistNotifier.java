@@ -0,0 +1,16 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.dto.WaitlistOfferDto;
+
+/**
+ * 대기열 좌석 제안 알림 채널
+ * 기본 구현은 로그 기록이며, 다른 채널(SMS, 푸시 등)을 쓰려면 @Primary 빈으로 교체한다.
+ */
+public interface WaitlistNotifier {
+
+    // 대기자에게 좌석이 제안되었음을 알림
+    void notifyOffer(WaitlistOfferDto offer);
+
+    // 제안 시간 내에 예매하지 않아 제안이 만료되었음을 알림
+    void notifyOfferExpired(WaitlistOfferDto offer);
+}
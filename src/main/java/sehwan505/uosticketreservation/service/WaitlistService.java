@@ -0,0 +1,507 @@
+package sehwan505.uosticketreservation.service;
+
+import sehwan505.uosticketreservation.constants.BusinessConstants;
+import sehwan505.uosticketreservation.constants.StatusConstants;
+import sehwan505.uosticketreservation.dto.WaitlistOfferDto;
+import sehwan505.uosticketreservation.entity.WaitlistEntity;
+import sehwan505.uosticketreservation.event.ClusterMembershipChangedEvent;
+import sehwan505.uosticketreservation.event.SeatReleasedEvent;
+import sehwan505.uosticketreservation.repository.ReservationRepository;
+import sehwan505.uosticketreservation.repository.WaitlistRepository;
+import sehwan505.uosticketreservation.util.DataSourceRoutingContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매진된 상영일정의 대기열 관리
+ * 대기열은 메모리(스케줄별 FIFO)에서 처리하고, 복구를 위해 waitlist 테이블에 함께 기록한다.
+ * 메모리 상태는 waitlist 테이블 변경이 커밋된 뒤에만 바꾼다. (예매 트랜잭션이 롤백되면 대기열/제안도 그대로 남음)
+ * 여러 노드로 운영하면(cluster.affinity.enabled=true) 상영일정 소유 노드만 대기열/제안을 메모리에 들고 처리한다.
+ * 예매 취소, 결제 취소, 만료 작업은 소유 노드로 전달되지 않아 다른 노드에서 좌석이 풀릴 수 있으므로,
+ * 소유 노드가 수정 시각 기준 증분 조회로 그런 좌석을 찾아 제안한다. 소유권이 바뀌면 대기열을 DB에서 다시 읽는다.
+ * 비회원은 전화번호만으로는 본인 확인이 안 되므로, 등록할 때 대기 항목에 서명한 대기 확인 코드를 발급하고
+ * 순번/제안 조회, 대기 취소, 제안 좌석 예매 때 X-Waitlist-Code 헤더로 받아 확인한다. (회원은 JWT로 확인)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistService {
+
+    public static final String CODE_HEADER = "X-Waitlist-Code";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final WaitlistRepository waitlistRepository;
+    private final WaitlistNotifier waitlistNotifier;
+    private final PlatformTransactionManager transactionManager;
+    private final ReservationRepository reservationRepository;
+    private final ClusterMembershipService clusterMembershipService;
+
+    // 다른 노드에서 풀린 좌석 증분 조회 겹침 구간 (수정 시각은 커밋 전에 기록되므로 트랜잭션 최대 시간 + 노드 간 시계 차이)
+    private static final long RELEASE_SYNC_OVERLAP_MILLIS = BusinessConstants.Transaction.RESERVATION_TIMEOUT_SECONDS * 1000L + 5000;
+
+    // 제안된 좌석을 대기자에게 독점으로 유지하는 시간 (단위: 초)
+    @Value("${reservation.waitlist.offer-hold-seconds:120}")
+    private int offerHoldSeconds;
+
+    // 비회원 대기 확인 코드 서명 키
+    @Value("${reservation.waitlist.secret:uosTicketReservationWaitlistCodeSecretKey}")
+    private String secret;
+
+    // 스케줄별 대기열 (등록 순서대로)
+    private final Map<String, Deque<Waiter>> queues = new ConcurrentHashMap<>();
+
+    // 스케줄+좌석별 진행 중인 좌석 제안
+    private final Map<String, WaitlistOfferDto> offers = new ConcurrentHashMap<>();
+
+    // 이 시각 이전에 다른 노드에서 풀린 좌석은 모두 확인함
+    private volatile long releasesSyncedThroughMillis = System.currentTimeMillis();
+
+    private record Waiter(Long id, String memberUserId, String phoneNumber) {
+        String key() {
+            return memberUserId != null ? memberUserId : phoneNumber;
+        }
+    }
+
+    /**
+     * 대기열 등록 결과 (비회원 신규 등록이면 대기 확인 코드 포함, 회원은 null)
+     */
+    @Getter
+    public static class Registration {
+        private final int position;
+        private final String waitlistCode;
+
+        private Registration(int position, String waitlistCode) {
+            this.position = position;
+            this.waitlistCode = waitlistCode;
+        }
+    }
+
+    // 서버 시작 시 DB에 남아 있는 대기/제안 상태 복구 (이미 메모리에 있는 항목과 소유하지 않은 상영일정은 건너뜀)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restore() {
+        List<WaitlistEntity> entries = waitlistRepository.findByStatusInOrderByIdAsc(
+                List.of(StatusConstants.Waitlist.WAITING, StatusConstants.Waitlist.OFFERED));
+
+        int restoredWaiters = 0;
+        int restoredOffers = 0;
+        for (WaitlistEntity entry : entries) {
+            if (!clusterMembershipService.isLocal(entry.getScheduleId())) {
+                continue;
+            }
+            if (StatusConstants.Waitlist.OFFERED.equals(entry.getStatus())) {
+                // 만료된 제안은 다음 만료 처리 주기에서 정리됨
+                if (offers.putIfAbsent(offerKey(entry.getScheduleId(), entry.getOfferedSeatId()), toOfferDto(entry)) == null) {
+                    restoredOffers++;
+                }
+            } else {
+                Deque<Waiter> queue = queueOf(entry.getScheduleId());
+                synchronized (queue) {
+                    if (queue.stream().noneMatch(waiter -> waiter.id().equals(entry.getId()))) {
+                        queue.addLast(new Waiter(entry.getId(), entry.getMemberUserId(), entry.getPhoneNumber()));
+                        restoredWaiters++;
+                    }
+                }
+            }
+        }
+
+        if (restoredWaiters + restoredOffers > 0) {
+            log.info("대기열 복구 완료: 대기 {}건, 제안 {}건", restoredWaiters, restoredOffers);
+        }
+    }
+
+    // 소유 노드가 바뀌면 넘겨준 상영일정의 대기열/제안은 버리고, 새로 맡은 상영일정의 대기열은 DB에서 읽음
+    @EventListener
+    public void onMembershipChanged(ClusterMembershipChangedEvent event) {
+        queues.keySet().removeIf(scheduleId -> !clusterMembershipService.isLocal(scheduleId));
+        offers.values().removeIf(offer -> !clusterMembershipService.isLocal(offer.getScheduleId()));
+        restore();
+    }
+
+    // 대기열 등록 (회원이 이미 대기 중이면 현재 순번 반환, 비회원은 확인 코드를 다시 발급하지 않음)
+    @Transactional
+    public Registration join(String scheduleId, String memberUserId, String phoneNumber) {
+        String waiterKey = waiterKey(memberUserId, phoneNumber);
+
+        Deque<Waiter> queue = queueOf(scheduleId);
+        synchronized (queue) {
+            int position = positionOf(queue, waiterKey);
+            if (position > 0) {
+                if (memberUserId == null) {
+                    throw new IllegalStateException("이미 대기열에 등록된 전화번호입니다. 등록할 때 받은 대기 확인 코드로 조회해주세요.");
+                }
+                return new Registration(position, null);
+            }
+
+            WaitlistEntity saved = waitlistRepository.save(WaitlistEntity.builder()
+                    .scheduleId(scheduleId)
+                    .memberUserId(memberUserId)
+                    .phoneNumber(memberUserId == null ? phoneNumber : null)
+                    .status(StatusConstants.Waitlist.WAITING)
+                    .requestedAt(LocalDateTime.now())
+                    .build());
+
+            Waiter waiter = new Waiter(saved.getId(), saved.getMemberUserId(), saved.getPhoneNumber());
+            afterCommit(() -> {
+                synchronized (queue) {
+                    if (positionOf(queue, waiterKey) == 0) {
+                        queue.addLast(waiter);
+                    }
+                }
+                log.info("대기열 등록: 스케줄={}, 대기자={}", scheduleId, waiterKey);
+            });
+            return new Registration(queue.size() + 1,
+                    memberUserId == null ? waitlistCode(saved.getId(), saved.getPhoneNumber()) : null);
+        }
+    }
+
+    // 대기 순번 조회 (대기 중이 아니거나 비회원 확인 코드가 맞지 않으면 0)
+    public int getPosition(String scheduleId, String memberUserId, String phoneNumber, String waitlistCode) {
+        Deque<Waiter> queue = queues.get(scheduleId);
+        if (queue == null) {
+            return 0;
+        }
+        String waiterKey = waiterKey(memberUserId, phoneNumber);
+        synchronized (queue) {
+            int position = 1;
+            for (Waiter waiter : queue) {
+                if (waiter.key().equals(waiterKey)) {
+                    return verified(waiter.id(), memberUserId, phoneNumber, waitlistCode) ? position : 0;
+                }
+                position++;
+            }
+            return 0;
+        }
+    }
+
+    // 대기열 취소 (비회원은 확인 코드가 맞아야 함)
+    @Transactional
+    public boolean leave(String scheduleId, String memberUserId, String phoneNumber, String waitlistCode) {
+        Deque<Waiter> queue = queues.get(scheduleId);
+        if (queue == null) {
+            return false;
+        }
+
+        String waiterKey = waiterKey(memberUserId, phoneNumber);
+        Waiter found = null;
+        synchronized (queue) {
+            for (Waiter waiter : queue) {
+                if (waiter.key().equals(waiterKey)) {
+                    found = waiter;
+                    break;
+                }
+            }
+        }
+
+        if (found == null || !verified(found.id(), memberUserId, phoneNumber, waitlistCode)) {
+            return false;
+        }
+        waitlistRepository.findById(found.id())
+                .ifPresent(entry -> entry.setStatus(StatusConstants.Waitlist.CANCELLED));
+
+        Waiter leaving = found;
+        afterCommit(() -> {
+            synchronized (queue) {
+                queue.remove(leaving);
+            }
+        });
+        return true;
+    }
+
+    // 대기자에게 제안된 좌석 조회
+    public List<WaitlistOfferDto> findOffers(String scheduleId, String memberUserId, String phoneNumber, String waitlistCode) {
+        String waiterKey = waiterKey(memberUserId, phoneNumber);
+        return offers.values().stream()
+                .filter(offer -> offer.getScheduleId().equals(scheduleId))
+                .filter(offer -> offer.getWaiterKey().equals(waiterKey))
+                .filter(offer -> verified(offer.getWaitlistId(), memberUserId, phoneNumber, waitlistCode))
+                .toList();
+    }
+
+    // 대기자에게 독점 제안 중인 좌석 ID 목록
+    public List<Integer> findHeldSeatIds(String scheduleId) {
+        LocalDateTime now = LocalDateTime.now();
+        return offers.values().stream()
+                .filter(offer -> offer.getScheduleId().equals(scheduleId))
+                .filter(offer -> offer.getExpiresAt().isAfter(now))
+                .map(WaitlistOfferDto::getSeatId)
+                .toList();
+    }
+
+    // 다른 대기자에게 제안 중인 좌석인지 확인 (비회원은 전화번호와 확인 코드가 모두 맞아야 본인 제안)
+    public boolean isHeldForOther(String scheduleId, Integer seatId, String memberUserId, String phoneNumber,
+                                  String waitlistCode) {
+        WaitlistOfferDto offer = offers.get(offerKey(scheduleId, seatId));
+        if (offer == null || !offer.getExpiresAt().isAfter(LocalDateTime.now())) {
+            return false;
+        }
+        return !isOfferedTo(offer, memberUserId, phoneNumber, waitlistCode);
+    }
+
+    // 제안받은 좌석을 예매한 경우 제안 종료 (예매 트랜잭션에 참여)
+    @Transactional
+    public void claimOffer(String scheduleId, Integer seatId, String memberUserId, String phoneNumber,
+                           String waitlistCode) {
+        String key = offerKey(scheduleId, seatId);
+        WaitlistOfferDto offer = offers.get(key);
+        String requesterKey = memberUserId != null ? memberUserId : phoneNumber;
+
+        if (offer != null && isOfferedTo(offer, memberUserId, phoneNumber, waitlistCode)) {
+            waitlistRepository.findById(offer.getWaitlistId())
+                    .ifPresent(entry -> entry.setStatus(StatusConstants.Waitlist.CLAIMED));
+            afterCommit(() -> {
+                if (offers.remove(key, offer)) {
+                    log.info("대기열 제안 좌석 예매: 대기자={}, 스케줄={}, 좌석={}", requesterKey, scheduleId, seatId);
+                }
+            });
+        }
+    }
+
+    // 예매 취소/만료로 좌석이 풀리면 커밋 이후 다음 대기자에게 제안
+    // (소유하지 않은 상영일정은 이 노드의 대기열이 최신이 아니므로 소유 노드의 증분 조회에 맡김)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatReleased(SeatReleasedEvent event) {
+        if (!clusterMembershipService.isLocal(event.getScheduleId())) {
+            return;
+        }
+        offerSeat(event.getScheduleId(), event.getSeatId());
+    }
+
+    /**
+     * 다른 노드에서 취소/만료된 좌석을 수정 시각 기준으로 찾아 대기자에게 제안 (cluster.affinity.enabled=true일 때만)
+     * 겹침 구간 때문에 같은 취소를 여러 번 볼 수 있으므로 지금도 비어 있는 좌석만 제안한다.
+     */
+    @Scheduled(fixedDelayString = "${cluster.affinity.seat-state-sync-millis:2000}")
+    public void offerReleasedElsewhere() {
+        if (!clusterMembershipService.isEnabled()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        if (queues.entrySet().stream().noneMatch(entry -> hasWaiters(entry.getValue()))) {
+            releasesSyncedThroughMillis = startedAt;
+            return;
+        }
+
+        LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(releasesSyncedThroughMillis - RELEASE_SYNC_OVERLAP_MILLIS), ZoneId.systemDefault());
+        List<ReservationRepository.SeatStatusChange> changes;
+        try {
+            changes = DataSourceRoutingContext.onPrimary(() -> reservationRepository.findSeatStatusChangedSince(since));
+        } catch (RuntimeException e) {
+            log.warn("취소 좌석 증분 조회 실패 (다음 주기에 재시도): {}", e.getMessage());
+            return;
+        }
+
+        for (ReservationRepository.SeatStatusChange change : changes) {
+            String scheduleId = change.getScheduleId();
+            Integer seatId = change.getSeatId();
+            if (!StatusConstants.Reservation.CANCELLED.equals(change.getStatus())
+                    || !hasWaiters(queues.get(scheduleId))
+                    || !clusterMembershipService.isLocal(scheduleId)
+                    || offers.containsKey(offerKey(scheduleId, seatId))
+                    || DataSourceRoutingContext.onPrimary(
+                            () -> reservationRepository.existsActiveReservationByScheduleAndSeat(scheduleId, seatId))) {
+                continue;
+            }
+            offerSeat(scheduleId, seatId);
+        }
+        releasesSyncedThroughMillis = startedAt;
+    }
+
+    /**
+     * 10초마다 만료된 좌석 제안을 정리하고 다음 대기자에게 다시 제안
+     */
+    @Scheduled(fixedDelay = 10000)
+    public void expireOffers() {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (WaitlistOfferDto offer : new ArrayList<>(offers.values())) {
+            if (offer.getExpiresAt().isAfter(now)) {
+                continue;
+            }
+
+            // 그 사이 예매로 CLAIMED가 된 제안은 덮어쓰지 않음
+            newTransaction().executeWithoutResult(status -> waitlistRepository.findById(offer.getWaitlistId())
+                    .filter(entry -> StatusConstants.Waitlist.OFFERED.equals(entry.getStatus()))
+                    .ifPresent(entry -> entry.setStatus(StatusConstants.Waitlist.CANCELLED)));
+            if (!offers.remove(offerKey(offer.getScheduleId(), offer.getSeatId()), offer)) {
+                continue;
+            }
+            waitlistNotifier.notifyOfferExpired(offer);
+
+            offerSeat(offer.getScheduleId(), offer.getSeatId());
+        }
+    }
+
+    /**
+     * 대기열 맨 앞 대기자에게 좌석 제안
+     * 같은 상영일정의 제안은 대기열 락 안에서 하나씩 처리하며, 별도 트랜잭션으로 OFFERED를 커밋한 뒤에
+     * 대기열에서 빼고 제안을 등록한다. (커밋에 실패하면 대기열/제안은 그대로)
+     */
+    private void offerSeat(String scheduleId, Integer seatId) {
+        Deque<Waiter> queue = queues.get(scheduleId);
+        if (queue == null) {
+            return;
+        }
+
+        String key = offerKey(scheduleId, seatId);
+        WaitlistOfferDto offer;
+        synchronized (queue) {
+            Waiter waiter = queue.peekFirst();
+            if (waiter == null || offers.containsKey(key)) {
+                return;
+            }
+
+            LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(offerHoldSeconds);
+            newTransaction().executeWithoutResult(status -> waitlistRepository.findById(waiter.id()).ifPresent(entry -> {
+                entry.setStatus(StatusConstants.Waitlist.OFFERED);
+                entry.setOfferedSeatId(seatId);
+                entry.setOfferExpiresAt(expiresAt);
+            }));
+
+            offer = WaitlistOfferDto.builder()
+                    .waitlistId(waiter.id())
+                    .scheduleId(scheduleId)
+                    .seatId(seatId)
+                    .memberUserId(waiter.memberUserId())
+                    .phoneNumber(waiter.phoneNumber())
+                    .expiresAt(expiresAt)
+                    .build();
+
+            // 제안 등록은 모두 이 락 안에서 일어나므로 putIfAbsent가 실패하지 않지만, 실패하면 대기자를 빼지 않음
+            if (offers.putIfAbsent(key, offer) != null) {
+                return;
+            }
+            queue.pollFirst();
+        }
+        waitlistNotifier.notifyOffer(offer);
+    }
+
+    private boolean isOfferedTo(WaitlistOfferDto offer, String memberUserId, String phoneNumber, String waitlistCode) {
+        String requesterKey = memberUserId != null ? memberUserId : phoneNumber;
+        return offer.getWaiterKey().equals(requesterKey)
+                && verified(offer.getWaitlistId(), memberUserId, phoneNumber, waitlistCode);
+    }
+
+    // 회원은 JWT로 이미 확인됨, 비회원은 대기 항목에 발급한 확인 코드와 비교
+    private boolean verified(Long waitlistId, String memberUserId, String phoneNumber, String waitlistCode) {
+        if (memberUserId != null) {
+            return true;
+        }
+        return waitlistCode != null && MessageDigest.isEqual(
+                waitlistCode(waitlistId, phoneNumber).getBytes(StandardCharsets.UTF_8),
+                waitlistCode.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 비회원 대기 확인 코드 (대기 항목 ID와 전화번호에 대한 서명)
+    private String waitlistCode(Long waitlistId, String phoneNumber) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            byte[] signature = mac.doFinal((waitlistId + "|" + phoneNumber).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("대기 확인 코드 생성에 실패했습니다.", e);
+        }
+    }
+
+    // 트랜잭션 중이면 커밋 후, 아니면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 호출한 트랜잭션(커밋 이후 이벤트 처리 포함)과 분리된 새 트랜잭션
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private boolean hasWaiters(Deque<Waiter> queue) {
+        if (queue == null) {
+            return false;
+        }
+        synchronized (queue) {
+            return !queue.isEmpty();
+        }
+    }
+
+    private Deque<Waiter> queueOf(String scheduleId) {
+        return queues.computeIfAbsent(scheduleId, id -> new ArrayDeque<>());
+    }
+
+    // 1부터 시작하는 순번, 없으면 0
+    private int positionOf(Deque<Waiter> queue, String waiterKey) {
+        int position = 1;
+        for (Waiter waiter : queue) {
+            if (Objects.equals(waiter.key(), waiterKey)) {
+                return position;
+            }
+            position++;
+        }
+        return 0;
+    }
+
+    private String waiterKey(String memberUserId, String phoneNumber) {
+        if (memberUserId == null && phoneNumber == null) {
+            throw new IllegalArgumentException("회원 ID 또는 비회원 전화번호 중 하나는 필수입니다.");
+        }
+        return memberUserId != null ? memberUserId : phoneNumber;
+    }
+
+    private String offerKey(String scheduleId, Integer seatId) {
+        return scheduleId + ":" + seatId;
+    }
+
+    private WaitlistOfferDto toOfferDto(WaitlistEntity entry) {
+        return WaitlistOfferDto.builder()
+                .waitlistId(entry.getId())
+                .scheduleId(entry.getScheduleId())
+                .seatId(entry.getOfferedSeatId())
+                .memberUserId(entry.getMemberUserId())
+                .phoneNumber(entry.getPhoneNumber())
+                .expiresAt(entry.getOfferExpiresAt())
+                .build();
+    }
+}
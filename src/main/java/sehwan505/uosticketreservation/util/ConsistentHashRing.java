@@ -0,0 +1,66 @@
+package sehwan505.uosticketreservation.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 일관 해시 링 (불변)
+ * 노드마다 가상 노드를 여러 개 배치해 키를 고르게 나누고,
+ * 노드가 추가/제거되어도 해당 노드 구간의 키만 소유자가 바뀐다.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final Set<String> nodes;
+
+    /**
+     * @param nodes        노드 ID 목록
+     * @param virtualNodes 노드당 가상 노드 수
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("가상 노드 수는 0보다 커야 합니다.");
+        }
+        TreeSet<String> sorted = new TreeSet<>(nodes);
+        this.nodes = Set.copyOf(sorted);
+        for (String node : sorted) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시 충돌 시 ID가 작은 노드가 차지하도록 정렬 순서로 배치
+                ring.putIfAbsent(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    // 키의 소유 노드 (노드가 없으면 null)
+    public String ownerOf(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public Set<String> getNodes() {
+        return nodes;
+    }
+
+    // FNV-1a 64비트 + 비트 섞기 (비슷한 문자열도 링 위에 고르게 흩어지도록)
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,68 @@
+package sehwan505.uosticketreservation.util;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보낼지 판단하기 위한 스레드별 라우팅 상태
+ * 복제 지연 때문에 최신 값이 필요한 조회는 onPrimary로 감싸 주 DB로 보내고,
+ * 요청 안에서 쓰기가 있었거나 최근에 쓰기를 한 사용자의 요청은 읽기도 주 DB로 보낸다.
+ * 라우팅을 사용하지 않으면 아무 효과가 없으므로 서비스 코드에서 항상 호출해도 된다.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private static class State {
+        private int primaryPins;        // onPrimary 중첩 수
+        private boolean recentWriter;   // 최근 쓰기 이후 복제 지연 시간이 지나지 않은 사용자의 요청
+        private boolean wrote;          // 현재 요청에서 쓰기 트랜잭션 연결을 사용함
+    }
+
+    private DataSourceRoutingContext() {
+    }
+
+    /**
+     * 주 DB에서 실행 (좌석 현황처럼 복제 지연을 허용할 수 없는 조회용)
+     * 커넥션은 트랜잭션의 첫 SQL 실행 시점에 결정되므로 트랜잭션 안에서 첫 조회를 감싸야 효과가 있다.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        State state = STATE.get();
+        state.primaryPins++;
+        try {
+            return action.get();
+        } finally {
+            state.primaryPins--;
+        }
+    }
+
+    // 주 DB 고정 여부와 이유 (null이면 복제본 사용 가능)
+    public static String primaryReason() {
+        State state = STATE.get();
+        if (state.primaryPins > 0) {
+            return "pinned";
+        }
+        if (state.recentWriter || state.wrote) {
+            return "read-your-writes";
+        }
+        return null;
+    }
+
+    // 쓰기 트랜잭션이 주 DB 커넥션을 가져갈 때 호출
+    public static void markWrite() {
+        STATE.get().wrote = true;
+    }
+
+    // 요청 시작 (최근 쓰기 사용자 여부 설정)
+    public static void beginRequest(boolean recentWriter) {
+        State state = STATE.get();
+        state.recentWriter = recentWriter;
+        state.wrote = false;
+    }
+
+    // 요청 종료 후 상태 제거, 요청 중 쓰기가 있었는지 반환
+    public static boolean endRequest() {
+        boolean wrote = STATE.get().wrote;
+        STATE.remove();
+        return wrote;
+    }
+}
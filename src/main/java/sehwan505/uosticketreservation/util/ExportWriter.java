@@ -0,0 +1,234 @@
+package sehwan505.uosticketreservation.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+
+/**
+ * ResultSet 행을 CSV 또는 NDJSON으로 바로 쓰는 내보내기 작성기
+ * 행을 객체로 모으지 않고 한 행씩 Writer로 내보내므로 내보내는 행 수와 무관하게 메모리 사용량이 일정하다.
+ * 컬럼 이름은 쿼리의 컬럼 별칭(소문자)을 그대로 사용한다.
+ */
+public abstract class ExportWriter {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (csv, ndjson)");
+        }
+    }
+
+    protected final Writer out;
+    private String[] columns;
+    private long rowCount;
+
+    protected ExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    public static ExportWriter of(Format format, Writer out) {
+        return format == Format.CSV ? new Csv(out) : new Ndjson(out);
+    }
+
+    // 현재 행을 기록 (첫 행에서 컬럼 정보를 읽음)
+    public void writeRow(ResultSet rs) throws SQLException, IOException {
+        if (columns == null) {
+            start(rs.getMetaData());
+        }
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = normalize(rs.getObject(i + 1));
+        }
+        writeValues(columns, values);
+        rowCount++;
+    }
+
+    // 행이 하나도 없었더라도 헤더를 남기고 버퍼를 비움
+    public void finish(ResultSetMetaData metaData) throws SQLException, IOException {
+        if (columns == null && metaData != null) {
+            start(metaData);
+        }
+        out.flush();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    private void start(ResultSetMetaData metaData) throws SQLException, IOException {
+        columns = new String[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = metaData.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+        }
+        writeHeader(columns);
+    }
+
+    protected abstract void writeHeader(String[] columns) throws IOException;
+
+    protected abstract void writeValues(String[] columns, Object[] values) throws IOException;
+
+    // JDBC 값을 문자열/숫자(Numeric)/null 중 하나로 변환
+    private static Object normalize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return new Numeric(decimal.stripTrailingZeros().toPlainString());
+        }
+        if (value instanceof Number) {
+            return new Numeric(value.toString());
+        }
+        return value.toString().stripTrailing();   // CHAR 컬럼의 공백 패딩 제거
+    }
+
+    // 숫자 컬럼 값 (NDJSON에서 따옴표 없이, CSV에서 수식 방지 처리 없이 쓰기 위해 문자열과 구분)
+    private record Numeric(String text) {
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * RFC 4180 CSV
+     * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 먼저 쓰고,
+     * 수식으로 해석될 수 있는 값(=, +, -, @로 시작하는 문자열)은 작은따옴표를 붙여 내보낸다.
+     */
+    private static class Csv extends ExportWriter {
+
+        private Csv(Writer out) {
+            super(out);
+        }
+
+        @Override
+        protected void writeHeader(String[] columns) throws IOException {
+            out.write('\uFEFF');
+            writeLine(columns, false);
+        }
+
+        @Override
+        protected void writeValues(String[] columns, Object[] values) throws IOException {
+            writeLine(values, true);
+        }
+
+        private void writeLine(Object[] values, boolean guardFormula) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                if (values[i] != null) {
+                    writeField(values[i].toString(), guardFormula && !(values[i] instanceof Numeric));
+                }
+            }
+            out.write("\r\n");
+        }
+
+        private void writeField(String value, boolean guardFormula) throws IOException {
+            if (guardFormula && !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 (Newline Delimited JSON)
+     */
+    private static class Ndjson extends ExportWriter {
+
+        private Ndjson(Writer out) {
+            super(out);
+        }
+
+        @Override
+        protected void writeHeader(String[] columns) {
+            // NDJSON은 헤더 없이 각 객체에 키를 포함
+        }
+
+        @Override
+        protected void writeValues(String[] columns, Object[] values) throws IOException {
+            out.write('{');
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeString(columns[i]);
+                out.write(':');
+                Object value = values[i];
+                if (value == null) {
+                    out.write("null");
+                } else if (value instanceof Numeric) {
+                    out.write(value.toString());
+                } else {
+                    writeString(value.toString());
+                }
+            }
+            out.write("}\n");
+        }
+
+        private void writeString(String value) throws IOException {
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.write(c);
+                        }
+                    }
+                }
+            }
+            out.write('"');
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package sehwan505.uosticketreservation.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키별 처리 결과 저장소 (JVM 내부, TTL + 최대 개수 제한)
+ * 같은 키로 다시 들어온 요청은 작업을 다시 실행하지 않고 처음 결과를 돌려준다.
+ * 처음 요청이 아직 처리 중이면 그 결과를 기다리며, 보관 대상이 아닌 결과(실패)는 완료 후 바로 지워 재시도할 수 있게 한다.
+ * 같은 키를 다른 요청 내용(fingerprint)으로 쓰면 IllegalStateException이 발생한다.
+ */
+public class IdempotencyStore<V> {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long waitMillis;
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private record Entry<V>(String fingerprint, CompletableFuture<V> result, long expiresAtMillis) {
+    }
+
+    // 실행 결과와 재사용 여부 (stored: 저장소에 기록됐는지, 최대 개수 초과 시 false)
+    public record Result<V>(V value, boolean replayed, boolean stored) {
+    }
+
+    /**
+     * @param ttlMillis  결과 보관 시간 (단위: 밀리초)
+     * @param maxEntries 최대 보관 키 수
+     * @param waitMillis 같은 키의 요청이 처리 중일 때 기다리는 최대 시간 (단위: 밀리초)
+     */
+    public IdempotencyStore(long ttlMillis, int maxEntries, long waitMillis) {
+        if (ttlMillis <= 0 || maxEntries <= 0 || waitMillis <= 0) {
+            throw new IllegalArgumentException("멱등 키 저장소 설정값은 0보다 커야 합니다.");
+        }
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * 키에 저장된 결과가 있으면 돌려주고, 없으면 action을 실행해 결과를 저장한다.
+     * keep이 false인 결과는 돌려주기만 하고 저장하지 않는다.
+     */
+    public Result<V> execute(String key, String fingerprint, Supplier<V> action, Predicate<V> keep) {
+        long now = System.currentTimeMillis();
+        Entry<V> created = new Entry<>(fingerprint, new CompletableFuture<>(), now + ttlMillis);
+
+        Entry<V> existing = entries.get(key);
+        if (existing != null && existing.expiresAtMillis() <= now) {
+            entries.remove(key, existing);
+            existing = null;
+        }
+        if (existing == null) {
+            if (entries.size() >= maxEntries) {
+                evictExpired(now);
+                if (entries.size() >= maxEntries) {
+                    return new Result<>(action.get(), false, false);
+                }
+            }
+            existing = entries.putIfAbsent(key, created);
+        }
+
+        if (existing != null) {
+            return new Result<>(await(existing, fingerprint), true, true);
+        }
+
+        try {
+            V value = action.get();
+            created.result().complete(value);
+            if (!keep.test(value)) {
+                entries.remove(key, created);
+            }
+            return new Result<>(value, false, true);
+        } catch (RuntimeException | Error e) {
+            created.result().completeExceptionally(e);
+            entries.remove(key, created);
+            throw e;
+        }
+    }
+
+    // 만료된 항목 정리
+    public int evictExpired() {
+        return evictExpired(System.currentTimeMillis());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private V await(Entry<V> entry, String fingerprint) {
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw new IllegalStateException("이미 다른 요청에 사용된 멱등 키입니다.");
+        }
+        try {
+            return entry.result().get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 멱등 키의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("멱등 요청 대기 중 인터럽트되었습니다.");
+        } catch (ExecutionException e) {
+            // 처음 요청이 예외로 끝난 경우 같은 예외를 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private int evictExpired(long now) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now && entry.result().isDone());
+        return before - entries.size();
+    }
+}
@@ -0,0 +1,127 @@
+package sehwan505.uosticketreservation.util;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청(스레드) 단위 SQL 실행 통계
+ * Hibernate 세션 이벤트 리스너와 로드 리스너가 현재 스레드의 통계에 누적하며,
+ * 측정 중이 아닐 때는 아무것도 기록하지 않는다.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long statementNanos;
+    private int entityLoads;
+    private int flushes;
+    private long flushNanos;
+
+    // 현재 스레드에서 측정 시작 (이미 측정 중이면 기존 통계 반환)
+    public static QueryStats begin() {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) {
+            stats = new QueryStats();
+            CURRENT.set(stats);
+        }
+        return stats;
+    }
+
+    // 현재 스레드 측정 종료
+    public static QueryStats end() {
+        QueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    // 측정 중인 통계 (측정 중이 아니면 null)
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 작업 하나의 SQL 통계 측정 (테스트/벤치마크용)
+     * 예: QueryStats.measure(() -> service.findAll()).assertStatementsAtMost(3, "findAll");
+     */
+    public static QueryStats measure(Runnable work) {
+        return measure(() -> {
+            work.run();
+            return null;
+        }).stats;
+    }
+
+    public static <T> Measured<T> measure(Supplier<T> work) {
+        QueryStats outer = CURRENT.get();
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        try {
+            return new Measured<>(work.get(), stats);
+        } finally {
+            if (outer != null) {
+                CURRENT.set(outer);
+                outer.add(stats);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public record Measured<T>(T result, QueryStats stats) {
+    }
+
+    // SQL 실행 수가 예산을 넘으면 AssertionError
+    public QueryStats assertStatementsAtMost(int maxStatements, String label) {
+        if (statements > maxStatements) {
+            throw new AssertionError(label + ": SQL " + statements + "건 실행 (예산 " + maxStatements + "건) - " + this);
+        }
+        return this;
+    }
+
+    public void recordStatement(long nanos) {
+        statements++;
+        statementNanos += nanos;
+    }
+
+    public void recordEntityLoad() {
+        entityLoads++;
+    }
+
+    public void recordFlush(long nanos) {
+        flushes++;
+        flushNanos += nanos;
+    }
+
+    private void add(QueryStats other) {
+        statements += other.statements;
+        statementNanos += other.statementNanos;
+        entityLoads += other.entityLoads;
+        flushes += other.flushes;
+        flushNanos += other.flushNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getStatementMillis() {
+        return statementNanos / 1_000_000;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getFlushes() {
+        return flushes;
+    }
+
+    public long getFlushMillis() {
+        return flushNanos / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statements + ", statementMs=" + getStatementMillis()
+                + ", entityLoads=" + entityLoads + ", flushes=" + flushes + ", flushMs=" + getFlushMillis();
+    }
+}
@@ -0,0 +1,112 @@
+package sehwan505.uosticketreservation.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 상영일정별 예매 좌석 스냅샷 파일
+ * [매직 4][버전 2][기준 시각 8][상영일정 수 4] + 상영일정마다 [ID 길이 2][ID][좌석 수 4][좌석 ID 4 x n] + [CRC32 4]
+ * 임시 파일에 쓰고 디스크 동기화 후 이름을 바꿔, 쓰는 중에 종료되어도 이전 스냅샷이 남는다.
+ * 읽을 때는 파일을 메모리 매핑해 CRC를 확인한 뒤 한 번에 해석한다. (형식이 다르거나 손상되면 IOException)
+ */
+public final class SeatInventorySnapshot {
+
+    private static final int MAGIC = 0x53454154;   // "SEAT"
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 8 + 4;
+
+    // takenAtMillis: 이 시각 이전의 변경은 모두 반영된 상태
+    public record Contents(long takenAtMillis, Map<String, int[]> reservedSeatIds) {
+    }
+
+    private SeatInventorySnapshot() {
+    }
+
+    public static void write(Path path, long takenAtMillis, Map<String, int[]> reservedSeatIds) throws IOException {
+        int size = HEADER_BYTES + 4;
+        Map<String, byte[]> encodedIds = new HashMap<>();
+        for (Map.Entry<String, int[]> entry : reservedSeatIds.entrySet()) {
+            byte[] id = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            encodedIds.put(entry.getKey(), id);
+            size += 2 + id.length + 4 + entry.getValue().length * 4;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putLong(takenAtMillis);
+        buffer.putInt(reservedSeatIds.size());
+        for (Map.Entry<String, int[]> entry : reservedSeatIds.entrySet()) {
+            byte[] id = encodedIds.get(entry.getKey());
+            buffer.putShort((short) id.length);
+            buffer.put(id);
+            buffer.putInt(entry.getValue().length);
+            for (int seatId : entry.getValue()) {
+                buffer.putInt(seatId);
+            }
+        }
+        buffer.putInt(crc(buffer.array(), size - 4));
+        buffer.flip();
+
+        Path target = path.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static Contents read(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES + 4 || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("좌석 스냅샷 크기가 올바르지 않습니다: " + channel.size());
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int size = buffer.capacity();
+        byte[] body = new byte[size - 4];
+        buffer.get(0, body);
+        if (crc(body, body.length) != buffer.getInt(size - 4)) {
+            throw new IOException("좌석 스냅샷이 손상되었습니다. (CRC 불일치)");
+        }
+        if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+            throw new IOException("지원하지 않는 좌석 스냅샷 형식입니다.");
+        }
+
+        long takenAtMillis = buffer.getLong();
+        int scheduleCount = buffer.getInt();
+        Map<String, int[]> reservedSeatIds = new HashMap<>(Math.max(16, scheduleCount * 2));
+        for (int i = 0; i < scheduleCount; i++) {
+            byte[] id = new byte[buffer.getShort()];
+            buffer.get(id);
+            int[] seatIds = new int[buffer.getInt()];
+            buffer.asIntBuffer().get(seatIds);
+            buffer.position(buffer.position() + seatIds.length * 4);
+            reservedSeatIds.put(new String(id, StandardCharsets.UTF_8), seatIds);
+        }
+        return new Contents(takenAtMillis, reservedSeatIds);
+    }
+
+    private static int crc(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,396 @@
+package sehwan505.uosticketreservation.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 매핑 파일 기반 추가 전용 저널 (세그먼트 분할)
+ * 세그먼트 파일을 고정 크기로 미리 만들어 매핑하고, 레코드를 [길이(4)][CRC32(4)][내용] 형식으로 이어 쓴다.
+ * 쓰기는 페이지 캐시에만 반영되어 같은 호스트의 다른 프로세스도 바로 읽을 수 있으며, 디스크 동기화(force)는 flush()로 모아서 한다.
+ * 레코드가 현재 세그먼트에 들어가지 않으면 넘김 표시(-1)를 남기고 다음 세그먼트로 넘어가며, 오래된 세그먼트는 보관 개수를 넘으면 지운다.
+ * 위치는 (세그먼트 번호 << 32 | 세그먼트 내 오프셋)인 long 값으로, 읽는 쪽은 이 값을 저장해 두었다가 이어 읽을 수 있다.
+ * 쓰는 쪽은 디렉터리당 하나만 허용한다. (잠금 파일로 확인)
+ */
+public class SegmentedJournal implements Closeable {
+
+    public static final int HEADER_BYTES = 8;
+    private static final int ROLL_MARKER = -1;
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String LOCK_FILE = "journal.lock";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int retainSegments;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+
+    // 쓰기 상태 (this로 동기화)
+    private long segmentIndex;
+    private MappedByteBuffer segment;
+    private int writeOffset;
+    private boolean dirty;
+    private boolean closed;
+
+    // 마지막으로 쓴 레코드 다음 위치
+    private volatile long endPosition;
+
+    // 읽은 레코드 (position: 레코드 시작 위치, nextPosition: 다음 레코드 위치)
+    public record Record(long position, long nextPosition, byte[] payload) {
+    }
+
+    /**
+     * @param directory      세그먼트 파일 디렉터리 (없으면 생성)
+     * @param segmentBytes   새 세그먼트 크기 (단위: 바이트)
+     * @param retainSegments 보관할 세그먼트 수 (현재 세그먼트 포함)
+     */
+    public SegmentedJournal(Path directory, int segmentBytes, int retainSegments) throws IOException {
+        if (segmentBytes < 4096 || retainSegments < 1) {
+            throw new IllegalArgumentException("세그먼트 크기는 4096바이트 이상, 보관 개수는 1 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.retainSegments = retainSegments;
+
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null;
+        }
+        if (acquired == null) {
+            lockChannel.close();
+            throw new IOException("다른 프로세스가 저널을 쓰고 있습니다: " + directory);
+        }
+        this.lock = acquired;
+
+        try {
+            recover();
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * 레코드 추가 후 레코드 시작 위치를 돌려준다.
+     * 페이지 캐시에만 쓰므로 프로세스가 죽어도 남지만, 장비 장애에 대비하려면 flush()가 필요하다.
+     */
+    public synchronized long append(byte[] payload) {
+        if (closed) {
+            throw new IllegalStateException("닫힌 저널입니다.");
+        }
+        if (payload.length == 0 || payload.length > segmentBytes - HEADER_BYTES) {
+            throw new IllegalArgumentException("저널 레코드 크기가 올바르지 않습니다: " + payload.length);
+        }
+        if (segment.capacity() - writeOffset < HEADER_BYTES + payload.length) {
+            roll();
+        }
+
+        // 내용과 CRC를 먼저 쓰고 길이를 마지막에 써서, 읽는 쪽이 길이를 보면 레코드가 완성되어 있게 함
+        segment.put(writeOffset + HEADER_BYTES, payload);
+        segment.putInt(writeOffset + 4, crc(payload));
+        segment.putInt(writeOffset, payload.length);
+
+        long position = position(segmentIndex, writeOffset);
+        writeOffset += HEADER_BYTES + payload.length;
+        dirty = true;
+        endPosition = position(segmentIndex, writeOffset);
+        return position;
+    }
+
+    /**
+     * 마지막 flush 이후 쓴 내용을 디스크에 동기화
+     * force()는 잠금 밖에서 호출해 동기화 중에도 추가가 막히지 않게 한다.
+     */
+    public void flush() {
+        MappedByteBuffer toForce;
+        synchronized (this) {
+            if (!dirty || closed) {
+                return;
+            }
+            dirty = false;
+            toForce = segment;
+        }
+        toForce.force();
+    }
+
+    // 보관 중인 가장 오래된 레코드 위치
+    public long startPosition() {
+        List<Long> indexes = segmentIndexes(directory);
+        return position(indexes.isEmpty() ? 0 : indexes.get(0), 0);
+    }
+
+    // 마지막 레코드 다음 위치 (다음에 추가될 레코드의 위치와 같거나 앞섬)
+    public long endPosition() {
+        return endPosition;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // 주어진 위치부터 읽는 리더
+    public Reader reader(long position) {
+        return new Reader(directory, position);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (segment != null && dirty) {
+            segment.force();
+        }
+        try {
+            if (lock != null && lock.isValid()) {
+                lock.release();
+            }
+        } finally {
+            lockChannel.close();
+        }
+    }
+
+    public static long position(long segmentIndex, int offset) {
+        return (segmentIndex << 32) | offset;
+    }
+
+    public static long segmentIndexOf(long position) {
+        return position >>> 32;
+    }
+
+    public static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    // 마지막 세그먼트를 처음부터 확인해 쓰던 위치 복구 (CRC가 맞지 않는 끝부분은 지움)
+    private void recover() throws IOException {
+        List<Long> indexes = segmentIndexes(directory);
+        if (indexes.isEmpty()) {
+            segmentIndex = 0;
+            segment = map(segmentPath(directory, 0), segmentBytes);
+            writeOffset = 0;
+            endPosition = position(0, 0);
+            return;
+        }
+
+        segmentIndex = indexes.get(indexes.size() - 1);
+        Path path = segmentPath(directory, segmentIndex);
+        segment = map(path, (int) Math.max(Files.size(path), HEADER_BYTES));
+
+        int offset = 0;
+        boolean rolled = false;
+        while (segment.capacity() - offset >= 4) {
+            int length = segment.getInt(offset);
+            if (length == ROLL_MARKER) {
+                rolled = true;
+                break;
+            }
+            if (!isValidRecord(segment, offset, length)) {
+                break;
+            }
+            offset += HEADER_BYTES + length;
+        }
+
+        if (!rolled) {
+            for (int i = offset; i < segment.capacity(); i++) {
+                if (segment.get(i) != 0) {
+                    for (int j = offset; j < segment.capacity(); j++) {
+                        segment.put(j, (byte) 0);
+                    }
+                    segment.force();
+                    break;
+                }
+            }
+        }
+        writeOffset = offset;
+        endPosition = position(segmentIndex, writeOffset);
+        if (rolled) {
+            roll();
+        }
+    }
+
+    // 다음 세그먼트로 넘어감 (이전 세그먼트는 동기화 후 놓음)
+    private void roll() {
+        if (segment.capacity() - writeOffset >= 4) {
+            segment.putInt(writeOffset, ROLL_MARKER);
+        }
+        segment.force();
+        try {
+            segment = map(segmentPath(directory, segmentIndex + 1), segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 만들 수 없습니다.", e);
+        }
+        segmentIndex++;
+        writeOffset = 0;
+        endPosition = position(segmentIndex, 0);
+        deleteOldSegments();
+    }
+
+    private void deleteOldSegments() {
+        for (long index : segmentIndexes(directory)) {
+            if (index > segmentIndex - retainSegments) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segmentPath(directory, index));
+            } catch (IOException e) {
+                // 다음 넘김 때 다시 시도
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static boolean isValidRecord(MappedByteBuffer buffer, int offset, int length) {
+        if (length <= 0 || length > buffer.capacity() - offset - HEADER_BYTES) {
+            return false;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(offset + HEADER_BYTES, payload);
+        return buffer.getInt(offset + 4) == crc(payload);
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static Path segmentPath(Path directory, long index) {
+        return directory.resolve(String.format("%020d%s", index, SEGMENT_SUFFIX));
+    }
+
+    // 디렉터리의 세그먼트 번호 (오름차순)
+    private static List<Long> segmentIndexes(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> name.substring(0, name.length() - SEGMENT_SUFFIX.length()))
+                    .filter(name -> !name.isEmpty() && name.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 저널 리더 (쓰는 쪽과 별개로 동작하며 다른 프로세스에서도 같은 디렉터리로 만들어 쓸 수 있음)
+     * 읽을 위치의 세그먼트가 보관 기간이 지나 지워졌으면 남아 있는 가장 오래된 세그먼트부터 읽는다.
+     * 스레드 안전하지 않으므로 소비자마다 따로 만든다.
+     */
+    public static class Reader {
+
+        private final Path directory;
+        private long segmentIndex;
+        private int offset;
+        private MappedByteBuffer segment;
+
+        public Reader(Path directory, long position) {
+            this.directory = directory;
+            this.segmentIndex = segmentIndexOf(position);
+            this.offset = offsetOf(position);
+        }
+
+        // 다음에 읽을 위치 (저장해 두었다가 이어 읽을 때 사용)
+        public long position() {
+            return SegmentedJournal.position(segmentIndex, offset);
+        }
+
+        /**
+         * 지금까지 완성된 레코드를 최대 maxRecords개 읽는다. 새 레코드가 없으면 빈 목록을 돌려준다.
+         */
+        public List<Record> poll(int maxRecords) {
+            List<Record> records = new ArrayList<>();
+            while (records.size() < maxRecords) {
+                if (segment == null && !openSegment()) {
+                    break;
+                }
+                if (segment.capacity() - offset < 4) {
+                    if (!advance()) {
+                        break;
+                    }
+                    continue;
+                }
+                int length = segment.getInt(offset);
+                if (length == ROLL_MARKER) {
+                    if (!advance()) {
+                        break;
+                    }
+                    continue;
+                }
+                // 아직 쓰지 않았거나 쓰는 중인 레코드
+                if (!isValidRecord(segment, offset, length)) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                segment.get(offset + HEADER_BYTES, payload);
+                long position = position();
+                offset += HEADER_BYTES + length;
+                records.add(new Record(position, position(), payload));
+            }
+            return records;
+        }
+
+        private boolean openSegment() {
+            Path path = segmentPath(directory, segmentIndex);
+            if (!Files.exists(path)) {
+                // 보관 기간이 지나 지워진 세그먼트면 남은 가장 오래된 세그먼트로 이동
+                List<Long> indexes = segmentIndexes(directory);
+                if (indexes.isEmpty() || indexes.get(0) <= segmentIndex) {
+                    return false;
+                }
+                segmentIndex = indexes.get(0);
+                offset = 0;
+                path = segmentPath(directory, segmentIndex);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                // 쓰는 쪽이 파일을 만들고 크기를 늘리기 전이면 다음 poll에서 다시 시도
+                if (channel.size() < HEADER_BYTES) {
+                    return false;
+                }
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        // 다음 세그먼트가 만들어졌으면 이동
+        private boolean advance() {
+            if (!Files.exists(segmentPath(directory, segmentIndex + 1))) {
+                return false;
+            }
+            segmentIndex++;
+            offset = 0;
+            segment = null;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package sehwan505.uosticketreservation.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 처리율 제한기
+ * 버킷 상태를 "이론적 도착 시각(TAT)" 하나로 표현하는 GCRA 방식이라
+ * 버킷마다 AtomicLong 하나와 CAS만으로 락 없이 동작한다.
+ * TAT가 현재 시각보다 이전인 버킷은 가득 찬 새 버킷과 같으므로 제거해도 상태 손실이 없다.
+ * 추적 중인 키가 maxKeys에 도달하면 새 키는 추적하지 않고 허용한다. (키를 바꿔 가며 공간을 채워
+ * 정상 사용자를 막는 것을 방지, 정리는 요청 스레드가 아닌 evictIdle() 주기 호출로 한다)
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;   // 토큰 하나가 채워지는 시간
+    private final long burstToleranceNanos;     // 버킷 용량만큼 몰아서 허용하는 시간
+    private final int maxKeys;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity        버킷 용량 (연속 허용 요청 수)
+     * @param refillPerMinute 분당 토큰 충전 수
+     * @param maxKeys         추적할 최대 키 수
+     */
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys) {
+        if (capacity <= 0 || refillPerMinute <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("처리율 제한 설정값은 0보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = 60_000_000_000L / refillPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 토큰 하나를 사용 시도
+     * @return 허용되거나 키 공간이 가득 차 추적할 수 없으면 true, 토큰이 없으면 false
+     */
+    public boolean tryAcquire(String key) {
+        long now = System.nanoTime();
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                return true;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            if (newTat - now > burstToleranceNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+
+    // 가득 찬 상태로 돌아간 버킷 제거
+    public int evictIdle() {
+        return evictIdle(System.nanoTime());
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private int evictIdle(long now) {
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+        return before - buckets.size();
+    }
+}
@@ -0,0 +1,88 @@
+package sehwan505.uosticketreservation.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 서명 검증을 마친 토큰의 짧은 TTL 캐시
+ * 같은 토큰으로 연속 요청이 들어오면 서명 검증/클레임 파싱을 생략한다.
+ * 항목은 TTL과 토큰 만료 시각 중 이른 시점에 만료되며, 최대 개수를 넘으면 새 항목을 저장하지 않는다.
+ */
+public class VerifiedTokenCache<V> {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+
+    /**
+     * @param ttlMillis  캐시 유지 시간 (단위: 밀리초)
+     * @param maxEntries 최대 캐시 항목 수
+     */
+    public VerifiedTokenCache(long ttlMillis, int maxEntries) {
+        if (ttlMillis <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("토큰 캐시 설정값은 0보다 커야 합니다.");
+        }
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    // 만료되지 않은 캐시 값 조회 (없으면 null)
+    public V get(String token) {
+        Entry<V> entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    // 검증된 토큰 저장 (토큰 만료 시각을 넘겨 캐시하지 않음)
+    public void put(String token, V value, long tokenExpiresAtMillis) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(now + ttlMillis, tokenExpiresAtMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(token, new Entry<>(value, expiresAt));
+    }
+
+    // 특정 토큰 제거
+    public void invalidate(String token) {
+        entries.remove(token);
+    }
+
+    // 조건에 맞는 값을 가진 항목 모두 제거
+    public void invalidateIf(Predicate<V> condition) {
+        entries.values().removeIf(entry -> condition.test(entry.value()));
+    }
+
+    // 만료된 항목 정리
+    public int evictExpired() {
+        return evictExpired(System.currentTimeMillis());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private int evictExpired(long now) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        return before - entries.size();
+    }
+}